@@ -30,65 +30,169 @@
 package atlantafx.base.controls;
 
 import atlantafx.base.controls.Breadcrumbs.BreadCrumbItem;
+import atlantafx.base.theme.Styles;
+import atlantafx.base.theme.Tweaks;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.control.ButtonBase;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.SkinBase;
+import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeItem.TreeModificationEvent;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The default skin for the {@link Breadcrumbs} control.
+ *
+ * <p>Crumb and divider nodes are cached per tree item and reused when the selected
+ * path changes, so only the nodes of the changed path segment have to be created
+ * and styled. If there's not enough horizontal space, the crumbs in the middle of
+ * the path are collapsed into the overflow menu button.
  */
 public class BreadcrumbsSkin<T> extends SkinBase<Breadcrumbs<T>> {
 
     protected static final PseudoClass FIRST = PseudoClass.getPseudoClass("first");
     protected static final PseudoClass LAST = PseudoClass.getPseudoClass("last");
 
+    /**
+     * The number of crumbs that are kept in cache after they've been removed
+     * from the selected path.
+     */
+    protected static final int MAX_DETACHED_CRUMBS = 32;
+
     protected final EventHandler<TreeModificationEvent<Object>> treeChildrenModifiedHandler =
         e -> updateBreadCrumbs();
+    protected final EventHandler<TreeModificationEvent<Object>> treeValueChangedHandler =
+        e -> onCrumbValueChanged(e.getTreeItem());
+
+    protected final MenuButton overflowButton = new MenuButton("\u2026"); // ellipsis
+
+    // the crumb nodes of the selected path and recently removed items in the access order
+    private final Map<BreadCrumbItem<T>, CrumbNodes> crumbCache = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<BreadCrumbItem<T>> path = new ArrayList<>();
+    private final List<CrumbNodes> pathNodes = new ArrayList<>();
+    private @Nullable Node leadingDivider;
+    private boolean leadingDividerCreated = false;
+
+    // measurements are only invalidated when the node requests layout
+    private final Map<Node, Double> widthCache = new HashMap<>();
+    private final InvalidationListener measurementListener = obs -> {
+        if (obs instanceof ReadOnlyProperty<?> property) {
+            widthCache.remove(property.getBean());
+        }
+    };
+
+    // the range of collapsed crumbs, [hiddenFrom, hiddenTo)
+    private int hiddenFrom = 0;
+    private int hiddenTo = 0;
+    private boolean overflowMenuValid = false;
 
     public BreadcrumbsSkin(final Breadcrumbs<T> control) {
         super(control);
 
+        overflowButton.getStyleClass().addAll("overflow-button", Styles.FLAT, Tweaks.NO_ARROW);
+        overflowButton.setMnemonicParsing(false);
+        overflowButton.setManaged(false);
+        overflowButton.setVisible(false);
+        getChildren().add(overflowButton);
+
         control.selectedCrumbProperty().addListener(
             (obs, old, val) -> updateSelectedPath(old, val)
         );
+        registerChangeListener(control.crumbFactoryProperty(), e -> clearCache());
+        registerChangeListener(control.dividerFactoryProperty(), e -> clearCache());
+
         updateSelectedPath(getSkinnable().selectedCrumbProperty().get(), null);
     }
 
     @Override
     protected void layoutChildren(double x, double y, double width, double height) {
+        updateHiddenRange(width);
+
         double controlHeight = getSkinnable().getHeight();
-        double nodeX = x, nodeY;
+        double nodeX = x;
 
-        for (int i = 0; i < getChildren().size(); i++) {
-            Node node = getChildren().get(i);
+        nodeX = layoutNode(leadingDivider, nodeX, y, controlHeight);
 
-            double nodeWidth = snapSizeX(node.prefWidth(height));
-            double nodeHeight = snapSizeY(node.prefHeight(-1));
+        for (int i = 0; i < pathNodes.size(); i++) {
+            CrumbNodes nodes = pathNodes.get(i);
 
-            // center node within the breadcrumbs
-            nodeY = nodeHeight < controlHeight ? (controlHeight - nodeHeight) / 2 : y;
+            if (i >= hiddenFrom && i < hiddenTo) {
+                nodes.crumb.setVisible(false);
+                if (i == hiddenTo - 1) {
+                    // the divider of the last collapsed crumb follows the overflow button
+                    nodeX = layoutNode(overflowButton, nodeX, y, controlHeight);
+                    nodeX = layoutNode(nodes.divider, nodeX, y, controlHeight);
+                } else if (nodes.divider != null) {
+                    nodes.divider.setVisible(false);
+                }
+                continue;
+            }
+
+            nodeX = layoutNode(nodes.crumb, nodeX, y, controlHeight);
+            nodeX = layoutNode(nodes.divider, nodeX, y, controlHeight);
+        }
 
-            node.resizeRelocate(nodeX, nodeY, nodeWidth, nodeHeight);
-            nodeX += nodeWidth;
+        overflowButton.setVisible(hiddenTo > hiddenFrom);
+        if (hiddenTo > hiddenFrom && !overflowMenuValid) {
+            updateOverflowMenu();
         }
     }
 
+    private double layoutNode(@Nullable Node node, double nodeX, double y, double controlHeight) {
+        if (node == null) {
+            return nodeX;
+        }
+
+        double nodeWidth = getNodeWidth(node);
+        double nodeHeight = snapSizeY(node.prefHeight(-1));
+
+        // center node within the breadcrumbs
+        double nodeY = nodeHeight < controlHeight ? (controlHeight - nodeHeight) / 2 : y;
+
+        node.setVisible(true);
+        node.resizeRelocate(nodeX, nodeY, nodeWidth, nodeHeight);
+        return nodeX + nodeWidth;
+    }
+
     @Override
     protected double computeMinWidth(double height, double topInset, double rightInset,
                                      double bottomInset, double leftInset) {
-        double width = 0;
-        for (Node node : getChildren()) {
-            if (!node.isManaged()) {
-                continue;
-            }
-            width += snapSizeX(node.prefWidth(height));
+        int size = pathNodes.size();
+        if (size < 3) {
+            return computePrefWidth(height, topInset, rightInset, bottomInset, leftInset);
+        }
+
+        // the first crumb, the overflow button and the last crumb
+        double width = getNodeWidth(leadingDivider)
+            + getGroupWidth(pathNodes.get(0))
+            + getNodeWidth(overflowButton)
+            + getNodeWidth(pathNodes.get(size - 2).divider)
+            + getGroupWidth(pathNodes.get(size - 1));
+
+        return width + rightInset + leftInset;
+    }
+
+    @Override
+    protected double computePrefWidth(double height, double topInset, double rightInset,
+                                      double bottomInset, double leftInset) {
+        double width = getNodeWidth(leadingDivider);
+        for (CrumbNodes nodes : pathNodes) {
+            width += getGroupWidth(nodes);
         }
 
         return width + rightInset + leftInset;
@@ -104,47 +208,259 @@ public class BreadcrumbsSkin<T> extends SkinBase<Breadcrumbs<T>> {
         updateBreadCrumbs();
     }
 
+    // crumb factory only reads the item value once, so the cached nodes of a renamed item are stale
+    private void onCrumbValueChanged(TreeItem<?> treeItem) {
+        CrumbNodes crumbNodes = crumbCache.remove(treeItem);
+        if (crumbNodes == null) {
+            // the event bubbles up to the parent items, so it can be already handled
+            return;
+        }
+
+        forgetNodes(crumbNodes);
+        if (pathNodes.contains(crumbNodes)) {
+            updateBreadCrumbs();
+        }
+    }
+
     protected void updateBreadCrumbs() {
-        getChildren().clear();
+        List<Node> nodes = new ArrayList<>();
+        pathNodes.clear();
+
         BreadCrumbItem<T> selectedTreeItem = getSkinnable().getSelectedCrumb();
-        Node divider;
         if (selectedTreeItem != null) {
             // optionally insert divider before the first node
-            divider = createDivider(null);
-            if (divider != null) {
-                divider.pseudoClassStateChanged(FIRST, true);
-                divider.pseudoClassStateChanged(LAST, false);
-                getChildren().add(divider);
+            if (!leadingDividerCreated) {
+                leadingDivider = createDivider(null);
+                leadingDividerCreated = true;
+                if (leadingDivider != null) {
+                    leadingDivider.pseudoClassStateChanged(FIRST, true);
+                    leadingDivider.pseudoClassStateChanged(LAST, false);
+                }
+            }
+            if (leadingDivider != null) {
+                nodes.add(leadingDivider);
             }
 
-            List<BreadCrumbItem<T>> crumbs = constructFlatPath(selectedTreeItem);
-            for (BreadCrumbItem<T> treeItem : crumbs) {
-                ButtonBase crumb = createCrumb(treeItem);
-                crumb.pseudoClassStateChanged(FIRST, treeItem.isFirst());
-                crumb.pseudoClassStateChanged(LAST, treeItem.isLast());
-                getChildren().add(crumb);
-
-                // for the sake of flexibility, it's user responsibility to decide
-                // whether insert divider after the last node or not
-                divider = createDivider(treeItem);
-                if (divider != null) {
-                    if (treeItem.isLast()) {
-                        divider.pseudoClassStateChanged(FIRST, false);
-                        divider.pseudoClassStateChanged(LAST, true);
-                    }
-                    getChildren().add(divider);
+            for (BreadCrumbItem<T> treeItem : constructFlatPath(selectedTreeItem)) {
+                CrumbNodes crumbNodes = getCrumbNodes(treeItem);
+                pathNodes.add(crumbNodes);
+                nodes.add(crumbNodes.crumb);
+                if (crumbNodes.divider != null) {
+                    nodes.add(crumbNodes.divider);
                 }
             }
         }
+
+        evictDetachedCrumbs();
+        updateChildren(nodes);
+        overflowMenuValid = false;
+    }
+
+    // Returns cached crumb nodes for the item or creates new ones. Because factories can
+    // produce different nodes depending on the item position, cached nodes are only reused
+    // if the item is still first or last in the path.
+    private CrumbNodes getCrumbNodes(BreadCrumbItem<T> treeItem) {
+        CrumbNodes crumbNodes = crumbCache.get(treeItem);
+        if (crumbNodes != null && crumbNodes.first == treeItem.isFirst() && crumbNodes.last == treeItem.isLast()) {
+            return crumbNodes;
+        }
+
+        if (crumbNodes != null) {
+            forgetNodes(crumbNodes);
+        }
+
+        ButtonBase crumb = createCrumb(treeItem);
+        crumb.pseudoClassStateChanged(FIRST, treeItem.isFirst());
+        crumb.pseudoClassStateChanged(LAST, treeItem.isLast());
+
+        // for the sake of flexibility, it's user responsibility to decide
+        // whether insert divider after the last node or not
+        Node divider = createDivider(treeItem);
+        if (divider != null && treeItem.isLast()) {
+            divider.pseudoClassStateChanged(FIRST, false);
+            divider.pseudoClassStateChanged(LAST, true);
+        }
+
+        crumbNodes = new CrumbNodes(treeItem, crumb, divider, treeItem.isFirst(), treeItem.isLast());
+        crumbCache.put(treeItem, crumbNodes);
+        treeItem.addEventHandler(BreadCrumbItem.valueChangedEvent(), treeValueChangedHandler);
+        return crumbNodes;
+    }
+
+    private void updateChildren(List<Node> nodes) {
+        // overflow button is always the first child
+        replaceTail(getChildren(), 1, nodes);
+    }
+
+    // Replaces the list elements starting from the offset with the given elements,
+    // but keeps the common prefix untouched to avoid removing and adding back the same nodes.
+    static <E> void replaceTail(List<E> list, int offset, List<E> elements) {
+        int prefix = 0;
+        while (prefix < elements.size()
+            && offset + prefix < list.size()
+            && list.get(offset + prefix) == elements.get(prefix)) {
+            prefix++;
+        }
+
+        if (offset + prefix < list.size()) {
+            if (list instanceof ObservableList<E> observable) {
+                observable.remove(offset + prefix, list.size());
+            } else {
+                list.subList(offset + prefix, list.size()).clear();
+            }
+        }
+        if (prefix < elements.size()) {
+            list.addAll(elements.subList(prefix, elements.size()));
+        }
+    }
+
+    private void evictDetachedCrumbs() {
+        int maxSize = pathNodes.size() + MAX_DETACHED_CRUMBS;
+        // path items are the most recently accessed ones,
+        // so the eldest entries are always detached
+        Iterator<CrumbNodes> it = crumbCache.values().iterator();
+        while (crumbCache.size() > maxSize && it.hasNext()) {
+            forgetNodes(it.next());
+            it.remove();
+        }
+    }
+
+    private void clearCache() {
+        crumbCache.values().forEach(this::forgetNodes);
+        crumbCache.clear();
+        if (leadingDivider != null) {
+            forgetNode(leadingDivider);
+        }
+        leadingDivider = null;
+        leadingDividerCreated = false;
+        updateBreadCrumbs();
+    }
+
+    private void forgetNodes(CrumbNodes nodes) {
+        nodes.item.removeEventHandler(BreadCrumbItem.valueChangedEvent(), treeValueChangedHandler);
+        forgetNode(nodes.crumb);
+        if (nodes.divider != null) {
+            forgetNode(nodes.divider);
+        }
+    }
+
+    private void forgetNode(Node node) {
+        widthCache.remove(node);
+        if (node instanceof Parent parent) {
+            parent.needsLayoutProperty().removeListener(measurementListener);
+        }
+    }
+
+    private double getNodeWidth(@Nullable Node node) {
+        if (node == null) {
+            return 0;
+        }
+
+        Double width = widthCache.get(node);
+        if (width != null) {
+            return width;
+        }
+
+        width = snapSizeX(node.prefWidth(-1));
+        if (node instanceof Parent parent) {
+            // the node that's waiting for layout can still change its size
+            // without notifying the listener, so it's not safe to cache it
+            if (parent.isNeedsLayout()) {
+                return width;
+            }
+            parent.needsLayoutProperty().removeListener(measurementListener);
+            parent.needsLayoutProperty().addListener(measurementListener);
+        }
+        widthCache.put(node, width);
+        return width;
+    }
+
+    private double getGroupWidth(CrumbNodes nodes) {
+        return getNodeWidth(nodes.crumb) + getNodeWidth(nodes.divider);
+    }
+
+    // Determines which crumbs have to be collapsed to fit the given width.
+    // The first and the last crumbs are always shown.
+    private void updateHiddenRange(double width) {
+        int oldFrom = hiddenFrom;
+        int oldTo = hiddenTo;
+        int size = pathNodes.size();
+
+        var groupWidths = new double[size];
+        var dividerWidths = new double[size];
+        for (int i = 0; i < size; i++) {
+            CrumbNodes nodes = pathNodes.get(i);
+            groupWidths[i] = getGroupWidth(nodes);
+            dividerWidths[i] = getNodeWidth(nodes.divider);
+        }
+
+        hiddenTo = computeHiddenTo(
+            width, getNodeWidth(leadingDivider), getNodeWidth(overflowButton), groupWidths, dividerWidths
+        );
+        hiddenFrom = hiddenTo > 0 ? 1 : 0;
+
+        if (oldFrom != hiddenFrom || oldTo != hiddenTo) {
+            overflowMenuValid = false;
+        }
+    }
+
+    // Returns the end of the collapsed crumbs range, which always starts from the second crumb,
+    // or zero if all crumbs fit the given width. The first and the last crumbs are always shown.
+    static int computeHiddenTo(double width,
+                               double leadingWidth,
+                               double overflowWidth,
+                               double[] groupWidths,
+                               double[] dividerWidths) {
+        int size = groupWidths.length;
+
+        double total = leadingWidth;
+        for (double groupWidth : groupWidths) {
+            total += groupWidth;
+        }
+
+        if (size < 3 || total <= width) {
+            return 0;
+        }
+
+        double fixed = leadingWidth + groupWidths[0] + overflowWidth;
+        double suffix = 0;
+        int firstShown = size - 1;
+
+        // show as many trailing crumbs as possible
+        for (int k = size - 1; k >= 2; k--) {
+            suffix += groupWidths[k];
+            if (fixed + suffix + dividerWidths[k - 1] > width) {
+                break;
+            }
+            firstShown = k;
+        }
+
+        return firstShown;
+    }
+
+    private void updateOverflowMenu() {
+        List<MenuItem> items = new ArrayList<>(hiddenTo - hiddenFrom);
+        for (int i = hiddenFrom; i < hiddenTo && i < path.size(); i++) {
+            BreadCrumbItem<T> treeItem = path.get(i);
+            MenuItem item = new MenuItem(treeItem.getStringValue());
+            item.setMnemonicParsing(false);
+            item.setOnAction(e -> onBreadCrumbAction(treeItem));
+            items.add(item);
+        }
+        overflowButton.getItems().setAll(items);
+        overflowMenuValid = true;
     }
 
     /**
      * Construct a flat list for the crumbs.
      *
+     * <p>Note that the returned list is reused by the skin, so it's only
+     * valid until the next call.
+     *
      * @param bottomMost The crumb node at the end of the path
      */
     protected List<BreadCrumbItem<T>> constructFlatPath(BreadCrumbItem<T> bottomMost) {
-        List<BreadCrumbItem<T>> path = new ArrayList<>();
+        path.clear();
 
         BreadCrumbItem<T> current = bottomMost;
         do {
@@ -210,4 +526,21 @@ public class BreadcrumbsSkin<T> extends SkinBase<Breadcrumbs<T>> {
             breadCrumbBar.setSelectedCrumb(crumbModel);
         }
     }
+
+    private static final class CrumbNodes {
+
+        final BreadCrumbItem<?> item;
+        final ButtonBase crumb;
+        final @Nullable Node divider;
+        final boolean first;
+        final boolean last;
+
+        CrumbNodes(BreadCrumbItem<?> item, ButtonBase crumb, @Nullable Node divider, boolean first, boolean last) {
+            this.item = item;
+            this.crumb = crumb;
+            this.divider = divider;
+            this.first = first;
+            this.last = last;
+        }
+    }
 }
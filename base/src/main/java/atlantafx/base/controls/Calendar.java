@@ -36,6 +36,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -167,6 +173,54 @@ public class Calendar extends Control {
         return dayCellFactory;
     }
 
+    /**
+     * Provides additional data for the day cells, such as holidays or booking counts.
+     * The provider is called on the {@link #dayMetadataExecutorProperty() metadata executor}
+     * for the whole visible date range, and the results are cached per range. Once loaded,
+     * the metadata is applied to all visible day cells in one batch and the custom
+     * {@link #dayCellFactoryProperty() day cell} can obtain it via
+     * {@link #getDayMetadata(DateCell)} inside its {@code updateItem()} method.
+     */
+    private ObjectProperty<DayMetadataProvider> dayMetadataProvider;
+
+    public final void setDayMetadataProvider(DayMetadataProvider value) {
+        dayMetadataProviderProperty().set(value);
+    }
+
+    public final DayMetadataProvider getDayMetadataProvider() {
+        return (dayMetadataProvider != null) ? dayMetadataProvider.get() : null;
+    }
+
+    public final ObjectProperty<DayMetadataProvider> dayMetadataProviderProperty() {
+        if (dayMetadataProvider == null) {
+            dayMetadataProvider = new SimpleObjectProperty<>(this, "dayMetadataProvider");
+        }
+        return dayMetadataProvider;
+    }
+
+    /**
+     * The executor to call the {@link #dayMetadataProviderProperty() day metadata provider} on.
+     * Setting the value to <code>null</code> will restore the default executor, which
+     * is shared by all Calendar instances and runs on the daemon threads.
+     */
+    private ObjectProperty<Executor> dayMetadataExecutor;
+
+    public final void setDayMetadataExecutor(Executor value) {
+        dayMetadataExecutorProperty().set(value);
+    }
+
+    public final Executor getDayMetadataExecutor() {
+        Executor executor = dayMetadataExecutor != null ? dayMetadataExecutor.get() : null;
+        return executor != null ? executor : DefaultMetadataExecutor.INSTANCE;
+    }
+
+    public final ObjectProperty<Executor> dayMetadataExecutorProperty() {
+        if (dayMetadataExecutor == null) {
+            dayMetadataExecutor = new SimpleObjectProperty<>(this, "dayMetadataExecutor");
+        }
+        return dayMetadataExecutor;
+    }
+
     /**
      * The calendar system used for parsing, displaying, and choosing dates in the
      * Calendar control.
@@ -245,6 +299,29 @@ public class Calendar extends Control {
         return showWeekNumbersProperty().getValue();
     }
 
+    /**
+     * Specifies how the Calendar displays dates. In the {@link ViewMode#MONTH} mode, which
+     * is the default, a single month grid is shown. In the {@link ViewMode#CONTINUOUS} mode
+     * months are stacked vertically and can be scrolled through. The number of visible months
+     * depends on the available height. Week numbers are only displayed in the month mode.
+     *
+     * <p>Setting the value to <code>null</code> will restore the default view mode.
+     */
+    public ObjectProperty<ViewMode> viewModeProperty() {
+        return viewMode;
+    }
+
+    private final ObjectProperty<ViewMode> viewMode
+        = new SimpleObjectProperty<>(this, "viewMode", ViewMode.MONTH);
+
+    public final void setViewMode(ViewMode value) {
+        viewMode.setValue(value);
+    }
+
+    public final ViewMode getViewMode() {
+        return Objects.requireNonNullElse(viewMode.getValue(), ViewMode.MONTH);
+    }
+
     /**
      * Represents the custom node to be placed at the top of the Calendar above the month-year area.
      */
@@ -281,6 +358,90 @@ public class Calendar extends Control {
         return bottomNode.getValue();
     }
 
+    /**
+     * Drops all loaded day metadata and requests it again for the visible date range.
+     * Call this method when the data behind the
+     * {@link #dayMetadataProviderProperty() day metadata provider} has changed.
+     */
+    public void invalidateDayMetadata() {
+        if (getSkin() instanceof CalendarSkin skin) {
+            skin.invalidateDayMetadata();
+        }
+    }
+
+    /**
+     * Returns the metadata object loaded by the {@link #dayMetadataProviderProperty()
+     * day metadata provider} for the date the given day cell currently displays,
+     * or null if there's no such metadata or if it's not loaded yet.
+     *
+     * @param dayCell The day cell of the Calendar control.
+     */
+    public static @Nullable Object getDayMetadata(DateCell dayCell) {
+        return dayCell.hasProperties() ? dayCell.getProperties().get(DAY_METADATA_KEY) : null;
+    }
+
+    static final String DAY_METADATA_KEY = Calendar.class.getName() + ".dayMetadata";
+
+    /**
+     * All supported view modes.
+     */
+    public enum ViewMode {
+
+        /**
+         * Displays a single month grid.
+         */
+        MONTH,
+
+        /**
+         * Displays a vertically scrollable list of months. Only the months
+         * that fit the available height are rendered, and their nodes are
+         * reused while scrolling, so the cost doesn't depend on the number
+         * of months that can be reached.
+         */
+        CONTINUOUS
+    }
+
+    /**
+     * Loads additional data for the specified date range. This method is called
+     * from the background thread, so it must not access the scene graph.
+     */
+    @FunctionalInterface
+    public interface DayMetadataProvider {
+
+        /**
+         * Returns the map of dates to their metadata. Dates without metadata
+         * can be omitted.
+         *
+         * @param startDate The first visible date, inclusive.
+         * @param endDate   The last visible date, inclusive.
+         */
+        Map<LocalDate, ?> getMetadata(LocalDate startDate, LocalDate endDate);
+    }
+
+    private static class DefaultMetadataExecutor {
+
+        // metadata is usually loaded for a few months at once,
+        // so a couple of threads is enough even for many calendars
+        private static final int THREAD_COUNT = 2;
+
+        private static final Executor INSTANCE = createExecutor();
+
+        private static Executor createExecutor() {
+            var executor = new ThreadPoolExecutor(
+                THREAD_COUNT, THREAD_COUNT,
+                30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    var thread = new Thread(r, "calendar-day-metadata");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Stylesheet Handling                                                   //
     ///////////////////////////////////////////////////////////////////////////
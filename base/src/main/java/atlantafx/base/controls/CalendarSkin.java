@@ -32,7 +32,6 @@ import static java.time.temporal.ChronoField.DAY_OF_WEEK;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.MONTHS;
-import static java.time.temporal.ChronoUnit.WEEKS;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static javafx.scene.layout.Region.USE_PREF_SIZE;
 
@@ -48,9 +47,12 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.ValueRange;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.ObjectProperty;
@@ -64,14 +66,18 @@ import javafx.scene.control.DateCell;
 import javafx.scene.control.Label;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.shape.Rectangle;
 import javafx.util.Callback;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The default skin for the {@link Calendar} control.
@@ -81,14 +87,13 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
     // formatters
     final DateTimeFormatter yearFormatter = DateTimeFormatter.ofPattern("y");
     final DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMMM");
-    final DateTimeFormatter weekNumberFormatter = DateTimeFormatter.ofPattern("w");
-    final DateTimeFormatter dayCellFormatter = DateTimeFormatter.ofPattern("d");
     final DateTimeFormatter monthFormatterSO = DateTimeFormatter.ofPattern("LLLL");    // standalone month name
     final DateTimeFormatter weekDayNameFormatter = DateTimeFormatter.ofPattern("ccc"); // standalone day name
 
     // UI
     protected final VBox rootPane = new VBox();
     protected CalendarGrid calendarGrid;
+    protected @Nullable MonthScroller monthScroller;
 
     protected Button forwardButton;
     protected Button backButton;
@@ -102,6 +107,7 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
     protected LocalDate[] dayCellDates;
     protected DateCell lastFocusedDayCell = null;
     protected final int daysPerWeek = getDaysPerWeek();
+    private final DayMetadataLoader dayMetadataLoader = new DayMetadataLoader(Platform::runLater);
 
     private final ObjectProperty<YearMonth> displayedYearMonth
         = new SimpleObjectProperty<>(this, "displayedYearMonth");
@@ -124,9 +130,11 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
 
         registerChangeListener(control.valueProperty(), e -> {
             LocalDate date = control.getValue();
-            displayedYearMonthProperty().set(
-                date != null ? YearMonth.from(date) : YearMonth.now(ZoneId.systemDefault())
-            );
+            YearMonth yearMonth = date != null ? YearMonth.from(date) : YearMonth.now(ZoneId.systemDefault());
+            // don't scroll if the selected month is already visible
+            if (monthScroller == null || !isContinuousMode() || !monthScroller.isMonthVisible(yearMonth)) {
+                displayedYearMonthProperty().set(yearMonth);
+            }
             updateValues();
             control.fireEvent(new ActionEvent());
         });
@@ -136,6 +144,10 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
             updateWeekNumberCells();
         });
 
+        registerChangeListener(control.dayMetadataProviderProperty(), e -> invalidateDayMetadata());
+
+        registerChangeListener(control.viewModeProperty(), e -> updateViewMode());
+
         registerChangeListener(control.topNodeProperty(), e -> {
             Node node = control.getTopNode();
             if (node == null) {
@@ -250,7 +262,11 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
 
         getControl().setOnKeyPressed(e -> behavior.onKeyPressed(e));
 
-        refresh();
+        if (isContinuousMode()) {
+            updateViewMode();
+        } else {
+            refresh();
+        }
     }
 
     protected HBox createMonthYearPane() {
@@ -316,6 +332,376 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
         }
     }
 
+    /**
+     * Displays months as a vertically scrollable list of month blocks. Only the
+     * blocks that fit the viewport are created, and they're reused when scrolling,
+     * so the number of nodes doesn't depend on the number of reachable months.
+     */
+    protected class MonthScroller extends Region {
+
+        protected final List<DateCell> dayNameCells = new ArrayList<>();
+        protected final Pane viewport = new Pane();
+        protected final List<MonthBlock> blocks = new ArrayList<>();
+        protected final Rectangle viewportClip = new Rectangle();
+
+        // the first visible month and the fraction of its block scrolled out of the viewport
+        private YearMonth topMonth = displayedYearMonth.get();
+        private double offset = 0;
+        private int visibleBlocks = 1;
+        private @Nullable MonthModel prefetchedModel;
+
+        public MonthScroller() {
+            getStyleClass().add("month-scroller");
+            setFocusTraversable(true);
+
+            for (int i = 0; i < daysPerWeek; i++) {
+                DateCell cell = new DateCell();
+                cell.getStyleClass().add("day-name-cell");
+                dayNameCells.add(cell);
+            }
+
+            viewport.getStyleClass().add("viewport");
+            viewport.setManaged(false);
+            viewport.setClip(viewportClip);
+
+            getChildren().addAll(dayNameCells);
+            getChildren().add(viewport);
+
+            addEventHandler(ScrollEvent.SCROLL, e -> {
+                scrollBy(-e.getDeltaY());
+                e.consume();
+            });
+        }
+
+        /**
+         * Scrolls the viewport to make the given month the first visible one.
+         */
+        public void scrollTo(YearMonth yearMonth) {
+            topMonth = yearMonth;
+            offset = 0;
+            assignMonths(false);
+            requestLayout();
+        }
+
+        /**
+         * Scrolls the viewport by the given number of pixels.
+         */
+        public void scrollBy(double pixels) {
+            double blockHeight = getBlockHeight();
+            if (blockHeight <= 0) {
+                return;
+            }
+
+            double position = offset + pixels / blockHeight;
+            int months = (int) Math.floor(position);
+            YearMonth month = plusMonths(topMonth, months);
+
+            if (month != null && isValidMonth(month)) {
+                topMonth = month;
+                offset = position - months;
+            } else {
+                // reached chronology bounds
+                offset = 0;
+            }
+
+            if (!topMonth.equals(displayedYearMonth.get())) {
+                // triggers update()
+                displayedYearMonth.set(topMonth);
+            } else {
+                assignMonths(false);
+            }
+            requestLayout();
+        }
+
+        /**
+         * Synchronizes the scroller with the displayed month and re-renders
+         * visible blocks whose data has changed.
+         *
+         * @param force Whether to re-render all visible blocks.
+         */
+        public void update(boolean force) {
+            if (!topMonth.equals(displayedYearMonth.get())) {
+                topMonth = displayedYearMonth.get();
+                offset = 0;
+                requestLayout();
+            }
+            assignMonths(force);
+        }
+
+        public boolean isMonthVisible(YearMonth yearMonth) {
+            for (int i = 0; i < visibleBlocks && i < blocks.size(); i++) {
+                MonthBlock block = blocks.get(i);
+                if (block.model != null && block.model.getYearMonth().equals(yearMonth)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the visible day cell displaying the given date. The cells of the
+         * date's own month take precedence over the previous or next month cells.
+         */
+        public @Nullable DateCell findDayCell(LocalDate date) {
+            YearMonth yearMonth = YearMonth.from(date);
+            DateCell fallback = null;
+            for (int i = 0; i < visibleBlocks && i < blocks.size(); i++) {
+                MonthBlock block = blocks.get(i);
+                int index = block.model != null ? block.model.indexOf(date) : -1;
+                if (index >= 0) {
+                    if (block.model.getYearMonth().equals(yearMonth)) {
+                        return block.cells.get(index);
+                    }
+                    fallback = fallback != null ? fallback : block.cells.get(index);
+                }
+            }
+            return fallback;
+        }
+
+        // Assigns months to the blocks in the order of their appearance.
+        // Blocks that already display one of the required months are reused
+        // as is, the rest of them are recycled to display the missing months.
+        private void assignMonths(boolean force) {
+            ensureBlocks();
+
+            final LocalDate today = today();
+            final LocalDate value = getControl().getValue();
+            final List<MonthBlock> free = new ArrayList<>(blocks);
+            final MonthBlock[] slots = new MonthBlock[visibleBlocks];
+            final MonthModel[] models = new MonthModel[visibleBlocks];
+
+            for (int i = 0; i < visibleBlocks; i++) {
+                YearMonth month = plusMonths(topMonth, i);
+                if (month == null) {
+                    continue;
+                }
+                models[i] = MonthModel.get(month, getLocale(), getPrimaryChronology());
+                for (MonthBlock block : free) {
+                    if (block.model != null && block.model.getYearMonth().equals(month)) {
+                        slots[i] = block;
+                        free.remove(block);
+                        break;
+                    }
+                }
+            }
+
+            for (int i = 0; i < visibleBlocks; i++) {
+                if (slots[i] == null) {
+                    slots[i] = free.remove(0);
+                }
+                slots[i].update(models[i], today, value, force);
+                slots[i].setVisible(models[i] != null);
+            }
+
+            // unused blocks stay in the pool
+            for (MonthBlock block : free) {
+                block.setVisible(false);
+            }
+
+            blocks.clear();
+            blocks.addAll(Arrays.asList(slots));
+            blocks.addAll(free);
+
+            if (models[0] != null && models[0] != prefetchedModel) {
+                prefetchedModel = models[0];
+                prefetchMonthModels(models[0]);
+            }
+        }
+
+        // Grows the pool up to the number of blocks that the viewport can show,
+        // including the partially visible one.
+        private void ensureBlocks() {
+            if (blocks.isEmpty()) {
+                MonthBlock block = new MonthBlock();
+                viewport.getChildren().add(block);
+                blocks.add(block);
+            }
+
+            double blockHeight = getBlockHeight();
+            double viewportHeight = viewport.getHeight();
+            visibleBlocks = blockHeight > 0 && viewportHeight > 0
+                ? (int) Math.ceil(viewportHeight / blockHeight) + 1
+                : 1;
+
+            while (blocks.size() < visibleBlocks) {
+                MonthBlock block = new MonthBlock();
+                viewport.getChildren().add(block);
+                blocks.add(block);
+            }
+        }
+
+        protected double getBlockHeight() {
+            if (blocks.isEmpty()) {
+                return 0;
+            }
+            MonthBlock block = blocks.get(0);
+            return snapSizeY(block.prefHeight(block.getWidth() > 0 ? block.getWidth() : -1));
+        }
+
+        protected double getHeaderHeight() {
+            double height = 0;
+            for (DateCell cell : dayNameCells) {
+                height = Math.max(height, cell.prefHeight(-1));
+            }
+            return snapSizeY(height);
+        }
+
+        @Override
+        protected double computePrefWidth(double height) {
+            double cellWidth = 0;
+            for (DateCell cell : dayNameCells) {
+                cellWidth = Math.max(cellWidth, cell.prefWidth(-1));
+            }
+            double blockWidth = blocks.isEmpty() ? 0 : blocks.get(0).prefWidth(-1);
+            return snappedLeftInset() + Math.max(cellWidth * daysPerWeek, blockWidth) + snappedRightInset();
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            return snappedTopInset() + getHeaderHeight() + getBlockHeight() + snappedBottomInset();
+        }
+
+        @Override
+        protected double computeMinHeight(double width) {
+            return snappedTopInset() + getHeaderHeight() + snappedBottomInset();
+        }
+
+        @Override
+        protected void layoutChildren() {
+            final double x = snappedLeftInset();
+            final double y = snappedTopInset();
+            final double w = getWidth() - x - snappedRightInset();
+            final double h = getHeight() - y - snappedBottomInset();
+            if (w <= 0 || h <= 0) {
+                return;
+            }
+
+            final double cellWidth = w / daysPerWeek;
+            final double headerHeight = getHeaderHeight();
+            for (int i = 0; i < daysPerWeek; i++) {
+                dayNameCells.get(i).resizeRelocate(
+                    snapPositionX(x + i * cellWidth), y, snapSizeX(cellWidth), headerHeight
+                );
+            }
+
+            final double viewportHeight = Math.max(0, h - headerHeight);
+            viewport.resizeRelocate(x, y + headerHeight, w, viewportHeight);
+            viewportClip.setWidth(w);
+            viewportClip.setHeight(viewportHeight);
+
+            // the number of visible blocks depends on the viewport size
+            assignMonths(false);
+
+            final double blockHeight = getBlockHeight();
+            for (int i = 0; i < visibleBlocks; i++) {
+                blocks.get(i).resizeRelocate(0, snapPositionY((i - offset) * blockHeight), w, blockHeight);
+            }
+        }
+    }
+
+    /**
+     * Displays a single month of the {@link MonthScroller}.
+     */
+    protected class MonthBlock extends Region {
+
+        protected final Label monthLabel = new Label();
+        protected final List<DateCell> cells = new ArrayList<>();
+
+        private @Nullable MonthModel model;
+        private @Nullable LocalDate renderedToday;
+        private @Nullable LocalDate renderedValue;
+
+        public MonthBlock() {
+            getStyleClass().add("month-block");
+            setManaged(false);
+
+            monthLabel.getStyleClass().add("month-block-label");
+            getChildren().add(monthLabel);
+
+            for (int i = 0; i < MonthModel.MAX_WEEKS * daysPerWeek; i++) {
+                DateCell cell = createDayCell();
+                cell.addEventHandler(MouseEvent.MOUSE_CLICKED, dayCellActionHandler);
+                cells.add(cell);
+            }
+            getChildren().addAll(cells);
+        }
+
+        // Re-renders the block unless it already displays the same data.
+        protected void update(@Nullable MonthModel model,
+                              LocalDate today,
+                              @Nullable LocalDate value,
+                              boolean force) {
+            if (!force && this.model == model
+                && Objects.equals(renderedToday, today)
+                && Objects.equals(renderedValue, value)) {
+                return;
+            }
+
+            this.model = model;
+            this.renderedToday = today;
+            this.renderedValue = value;
+            if (model == null) {
+                return;
+            }
+
+            final YearMonth yearMonth = model.getYearMonth();
+            monthLabel.setText(formatMonth(yearMonth) + " " + formatYear(yearMonth));
+
+            final Map<LocalDate, ?> metadata = getDayMetadata(model, () -> {
+                // skin is disposed or the block has already been recycled
+                if (getSkinnable() != null
+                    && this.model != null
+                    && this.model.getYearMonth().equals(model.getYearMonth())) {
+                    update(model, today(), getControl().getValue(), true);
+                }
+            });
+
+            for (int i = 0; i < cells.size(); i++) {
+                updateDayCell(cells.get(i), model, i, today, value, metadata);
+            }
+        }
+
+        protected double getCellHeight() {
+            return snapSizeY(cells.get(0).prefHeight(-1));
+        }
+
+        @Override
+        protected double computePrefWidth(double height) {
+            return snappedLeftInset() + cells.get(0).prefWidth(-1) * daysPerWeek + snappedRightInset();
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            return snappedTopInset()
+                + snapSizeY(monthLabel.prefHeight(-1))
+                + getCellHeight() * MonthModel.MAX_WEEKS
+                + snappedBottomInset();
+        }
+
+        @Override
+        protected void layoutChildren() {
+            final double x = snappedLeftInset();
+            final double y = snappedTopInset();
+            final double w = getWidth() - x - snappedRightInset();
+
+            final double labelHeight = snapSizeY(monthLabel.prefHeight(-1));
+            monthLabel.resizeRelocate(x, y, w, labelHeight);
+
+            final double cellWidth = w / daysPerWeek;
+            final double cellHeight = getCellHeight();
+            for (int i = 0; i < cells.size(); i++) {
+                int row = i / daysPerWeek;
+                int col = i % daysPerWeek;
+                cells.get(i).resizeRelocate(
+                    snapPositionX(x + col * cellWidth),
+                    snapPositionY(y + labelHeight + row * cellHeight),
+                    snapSizeX(cellWidth),
+                    cellHeight
+                );
+            }
+        }
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // API                                                                   //
     ///////////////////////////////////////////////////////////////////////////
@@ -326,12 +712,48 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
     }
 
     public void updateValues() {
-        // preserve this order
-        updateWeekNumberCells();
-        updateDayCells();
+        if (monthScroller != null && isContinuousMode()) {
+            monthScroller.update(false);
+        } else {
+            // preserve this order
+            updateWeekNumberCells();
+            updateDayCells();
+        }
         updateMonthYearPane();
     }
 
+    /**
+     * Returns true if the Calendar is in the {@link Calendar.ViewMode#CONTINUOUS} mode.
+     */
+    public boolean isContinuousMode() {
+        return getControl().getViewMode() == Calendar.ViewMode.CONTINUOUS;
+    }
+
+    /**
+     * Replaces the month grid with the month scroller or vice versa,
+     * depending on the current view mode.
+     */
+    protected void updateViewMode() {
+        if (isContinuousMode()) {
+            if (monthScroller == null) {
+                monthScroller = new MonthScroller();
+                VBox.setVgrow(monthScroller, Priority.ALWAYS);
+            }
+            replaceRootPaneChild(calendarGrid, monthScroller);
+            monthScroller.scrollTo(displayedYearMonth.get());
+        } else if (monthScroller != null) {
+            replaceRootPaneChild(monthScroller, calendarGrid);
+        }
+        refresh();
+    }
+
+    private void replaceRootPaneChild(Node oldNode, Node newNode) {
+        int index = rootPane.getChildren().indexOf(oldNode);
+        if (index >= 0) {
+            rootPane.getChildren().set(index, newNode);
+        }
+    }
+
     public void updateGrid() {
         calendarGrid.getColumnConstraints().clear();
         calendarGrid.getChildren().clear();
@@ -373,106 +795,168 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
         // july 13th 2009 is a Monday, so a firstDayOfWeek = 1 must come out of the 13th
         final LocalDate date = LocalDate.of(2009, 7, 12 + firstDayOfWeek);
         for (int i = 0; i < daysPerWeek; i++) {
-            String name = weekDayNameFormatter.withLocale(getLocale()).format(date.plus(i, DAYS));
-            dayNameCells.get(i).setText(capitalize(name));
+            String name = capitalize(weekDayNameFormatter.withLocale(getLocale()).format(date.plus(i, DAYS)));
+            dayNameCells.get(i).setText(name);
+            if (monthScroller != null) {
+                monthScroller.dayNameCells.get(i).setText(name);
+            }
         }
     }
 
     public void updateWeekNumberCells() {
         if (getControl().isShowWeekNumbers()) {
-            final Locale locale = getLocale();
-            final int maxWeeksPerMonth = 6;
-
-            final LocalDate firstOfMonth = displayedYearMonth.get().atDay(1);
-            for (int i = 0; i < maxWeeksPerMonth; i++) {
-                LocalDate date = firstOfMonth.plus(i, WEEKS);
-                // use a formatter to ensure correct localization
-                // such as when Thai numerals are required.
-                String cellText = weekNumberFormatter
-                    .withLocale(locale)
-                    .withDecimalStyle(DecimalStyle.of(locale))
-                    .format(date);
-                weekNumberCells.get(i).setText(cellText);
+            final MonthModel model = getMonthModel();
+            for (int i = 0; i < MonthModel.MAX_WEEKS; i++) {
+                weekNumberCells.get(i).setText(model.getWeekNumber(i));
             }
         }
     }
 
     public void updateDayCells() {
-        final Locale locale = getLocale();
-        final Chronology chrono = getPrimaryChronology();
-        final YearMonth curMonth = displayedYearMonth.get();
-        final int firstOfMonthIdx = determineFirstOfMonthDayOfWeek();
-
-        YearMonth prevMonth = null;
-        YearMonth nextMonth = null;
-        int daysInCurMonth = -1;
-        int daysInPrevMonth = -1;
+        final MonthModel model = getMonthModel();
+        final LocalDate today = today();
+        final LocalDate value = getControl().getValue();
+        final Map<LocalDate, ?> metadata = getDayMetadata(model, () -> {
+            // skin is disposed or the user has already navigated elsewhere
+            // month models are shared and can be evicted from cache, so compare months, not instances
+            if (getSkinnable() != null
+                && !isContinuousMode()
+                && getMonthModel().getYearMonth().equals(model.getYearMonth())) {
+                updateDayCells();
+            }
+        });
 
         for (int i = 0; i < 6 * daysPerWeek; i++) {
-            final DateCell dayCell = dayCells.get(i);
-            dayCell.getStyleClass().setAll("cell", "date-cell", "day-cell");
-            dayCell.setDisable(false);
-            dayCell.setStyle(null);
-            dayCell.setGraphic(null);
-            dayCell.setTooltip(null);
-
-            try {
-                daysInCurMonth = daysInCurMonth == -1 ? curMonth.lengthOfMonth() : daysInCurMonth;
-                YearMonth month = curMonth;
-                int day = i - firstOfMonthIdx + 1;
-
-                if (i < firstOfMonthIdx) {
-                    if (prevMonth == null) {
-                        prevMonth = curMonth.minusMonths(1);
-                        daysInPrevMonth = prevMonth.lengthOfMonth();
-                    }
-                    month = prevMonth;
-                    day = i + daysInPrevMonth - firstOfMonthIdx + 1;
-                    dayCell.getStyleClass().add("previous-month");
-                } else if (i >= firstOfMonthIdx + daysInCurMonth) {
-                    if (nextMonth == null) {
-                        nextMonth = curMonth.plusMonths(1);
-                    }
-                    month = nextMonth;
-                    day = i - daysInCurMonth - firstOfMonthIdx + 1;
-                    dayCell.getStyleClass().add("next-month");
-                }
-
-                LocalDate date = month.atDay(day);
+            final LocalDate date = updateDayCell(dayCells.get(i), model, i, today, value, metadata);
+            if (date != null) {
                 dayCellDates[i] = date;
-                ChronoLocalDate cDate = chrono.date(date);
+            }
+        }
 
-                dayCell.setDisable(false);
+        prefetchMonthModels(model);
+    }
 
-                if (isToday(date)) {
-                    dayCell.getStyleClass().add("today");
-                }
+    // Updates the day cell from the month model and returns the cell date
+    // or null if the date is out of range.
+    private @Nullable LocalDate updateDayCell(DateCell dayCell,
+                                              MonthModel model,
+                                              int index,
+                                              LocalDate today,
+                                              @Nullable LocalDate value,
+                                              @Nullable Map<LocalDate, ?> metadata) {
+        dayCell.setStyle(null);
+        dayCell.setGraphic(null);
+        dayCell.setTooltip(null);
+
+        final LocalDate date = model.getDate(index);
+        if (date == null) {
+            // date is out of range
+            updateDayCellStyleClass(dayCell, false, false, false, false);
+            setDayCellMetadata(dayCell, null);
+            dayCell.setText(model.getText(index));
+            dayCell.setDisable(true);
+            return null;
+        }
 
-                if (date.equals(getControl().getValue())) {
-                    dayCell.getStyleClass().add("selected");
-                }
+        updateDayCellStyleClass(dayCell,
+            model.hasFlag(index, MonthModel.FLAG_PREVIOUS_MONTH),
+            model.hasFlag(index, MonthModel.FLAG_NEXT_MONTH),
+            date.equals(today),
+            date.equals(value)
+        );
+        dayCell.setDisable(false);
+        dayCell.setText(model.getText(index));
+        setDayCellMetadata(dayCell, metadata != null ? metadata.get(date) : null);
+        dayCell.updateItem(date, false);
 
-                String cellText = dayCellFormatter.withLocale(locale)
-                    .withChronology(chrono)
-                    .withDecimalStyle(DecimalStyle.of(locale))
-                    .format(cDate);
+        return date;
+    }
 
-                dayCell.setText(cellText);
-                dayCell.updateItem(date, false);
-            } catch (DateTimeException ex) {
-                // date is out of range
-                dayCell.setText(" ");
-                dayCell.setDisable(true);
-            }
+    // warm up the cache for the next navigation step
+    private void prefetchMonthModels(MonthModel model) {
+        final YearMonth yearMonth = model.getYearMonth();
+        final Locale locale = getLocale();
+        final Chronology chrono = getPrimaryChronology();
+        Platform.runLater(() -> MonthModel.prefetch(yearMonth, locale, chrono));
+    }
+
+    /**
+     * Drops all loaded day metadata and requests it again for the visible date range.
+     */
+    public void invalidateDayMetadata() {
+        dayMetadataLoader.invalidate();
+        if (monthScroller != null && isContinuousMode()) {
+            monthScroller.update(true);
+        } else {
+            updateDayCells();
         }
     }
 
-    // determine on which day of week idx the first of the months is
-    private int determineFirstOfMonthDayOfWeek() {
-        // determine with which cell to start
-        int firstDayOfWeek = WeekFields.of(getLocale()).getFirstDayOfWeek().getValue();
-        int firstOfMonthIdx = displayedYearMonth.get().atDay(1).getDayOfWeek().getValue() - firstDayOfWeek;
-        return firstOfMonthIdx < 0 ? firstOfMonthIdx + daysPerWeek : firstOfMonthIdx;
+    // Returns the metadata for the given month grid if it's already loaded,
+    // otherwise, requests it in the background and notifies the callback,
+    // so that all day cells can be updated at once when the data is ready.
+    private @Nullable Map<LocalDate, ?> getDayMetadata(MonthModel model, Runnable onLoaded) {
+        final Calendar.DayMetadataProvider provider = getControl().getDayMetadataProvider();
+        final LocalDate startDate = model.getFirstDate();
+        final LocalDate endDate = model.getLastDate();
+        if (provider == null || startDate == null || endDate == null) {
+            return null;
+        }
+
+        return dayMetadataLoader.get(
+            startDate, endDate, provider, getControl().getDayMetadataExecutor(), loaded -> onLoaded.run()
+        );
+    }
+
+    private void setDayCellMetadata(DateCell dayCell, @Nullable Object metadata) {
+        if (metadata != null) {
+            dayCell.getProperties().put(Calendar.DAY_METADATA_KEY, metadata);
+        } else if (dayCell.hasProperties()) {
+            dayCell.getProperties().remove(Calendar.DAY_METADATA_KEY);
+        }
+    }
+
+    /**
+     * Returns the cached month model for the currently displayed month.
+     */
+    MonthModel getMonthModel() {
+        return MonthModel.get(displayedYearMonth.get(), getLocale(), getPrimaryChronology());
+    }
+
+    // Modifying style classes forces CSS to re-match the node, so replace
+    // the list only when the expected classes differ from the actual ones.
+    private void updateDayCellStyleClass(DateCell dayCell,
+                                         boolean previousMonth,
+                                         boolean nextMonth,
+                                         boolean today,
+                                         boolean selected) {
+        final String[] styleClass = new String[7];
+        int size = 0;
+        styleClass[size++] = "cell";
+        styleClass[size++] = "date-cell";
+        styleClass[size++] = "day-cell";
+        if (previousMonth) {
+            styleClass[size++] = "previous-month";
+        }
+        if (nextMonth) {
+            styleClass[size++] = "next-month";
+        }
+        if (today) {
+            styleClass[size++] = "today";
+        }
+        if (selected) {
+            styleClass[size++] = "selected";
+        }
+
+        final List<String> actual = dayCell.getStyleClass();
+        boolean changed = actual.size() != size;
+        for (int i = 0; !changed && i < size; i++) {
+            changed = !styleClass[i].equals(actual.get(i));
+        }
+
+        if (changed) {
+            dayCell.getStyleClass().setAll(Arrays.copyOf(styleClass, size));
+        }
     }
 
     public void updateMonthYearPane() {
@@ -520,7 +1004,8 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
     public void forward(int offset, ChronoUnit unit, boolean focusDayCell) {
         YearMonth yearMonth = displayedYearMonth.get();
         DateCell dateCell = lastFocusedDayCell;
-        if (dateCell == null || !getDayCellDate(dateCell).getMonth().equals(yearMonth.getMonth())) {
+        LocalDate date = dateCell != null ? getDayCellDate(dateCell) : null;
+        if (date == null || !date.getMonth().equals(yearMonth.getMonth())) {
             dateCell = findDayCellForDate(yearMonth.atDay(1));
         }
         goToDayCell(dateCell, offset, unit, focusDayCell);
@@ -540,12 +1025,15 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
     }
 
     private DateCell findDayCellForDate(LocalDate date) {
-        for (int i = 0; i < dayCellDates.length; i++) {
-            if (date.equals(dayCellDates[i])) {
-                return dayCells.get(i);
+        if (monthScroller != null && isContinuousMode()) {
+            DateCell dayCell = monthScroller.findDayCell(date);
+            if (dayCell != null) {
+                return dayCell;
             }
         }
-        return dayCells.get(dayCells.size() / 2 + 1);
+
+        int index = getMonthModel().indexOf(date);
+        return dayCells.get(index >= 0 ? index : dayCells.size() / 2 + 1);
     }
 
     public void selectDayCell(DateCell dateCell) {
@@ -553,19 +1041,12 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
     }
 
     private LocalDate getDayCellDate(DateCell dateCell) {
-        return dayCellDates[dayCells.indexOf(dateCell)];
+        int index = dayCells.indexOf(dateCell);
+        // month scroller cells aren't tracked, but they always store the date as item
+        return index >= 0 ? dayCellDates[index] : dateCell.getItem();
     }
 
     protected void createDayCells() {
-        EventHandler<MouseEvent> dayCellActionHandler = e -> {
-            if (e.getButton() != MouseButton.PRIMARY) {
-                return;
-            }
-            DateCell dayCell = (DateCell) e.getSource();
-            selectDayCell(dayCell);
-            lastFocusedDayCell = dayCell;
-        };
-
         for (int row = 0; row < 6; row++) {
             for (int col = 0; col < daysPerWeek; col++) {
                 DateCell dayCell = createDayCell();
@@ -577,6 +1058,15 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
         dayCellDates = new LocalDate[6 * daysPerWeek];
     }
 
+    private final EventHandler<MouseEvent> dayCellActionHandler = e -> {
+        if (e.getButton() != MouseButton.PRIMARY) {
+            return;
+        }
+        DateCell dayCell = (DateCell) e.getSource();
+        selectDayCell(dayCell);
+        lastFocusedDayCell = dayCell;
+    };
+
     protected DateCell createDayCell() {
         Callback<Calendar, DateCell> factory = getControl().getDayCellFactory();
         return Objects.requireNonNullElseGet(
@@ -628,8 +1118,24 @@ public class CalendarSkin extends BehaviorSkinBase<Calendar, CalendarBehavior> {
         return word;
     }
 
-    private static boolean isToday(LocalDate date) {
-        return date != null && date.equals(today());
+    private @Nullable YearMonth plusMonths(YearMonth yearMonth, long months) {
+        try {
+            return yearMonth.plusMonths(months);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    // unlike Calendar.isValidDate() it doesn't print stack trace,
+    // because reaching chronology bounds is normal when scrolling
+    @SuppressWarnings("ReturnValueIgnored")
+    private boolean isValidMonth(YearMonth yearMonth) {
+        try {
+            getPrimaryChronology().date(yearMonth.atDay(1));
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
     }
 
     private static LocalDate today() {
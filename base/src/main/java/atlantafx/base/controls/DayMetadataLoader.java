@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An internal helper that loads {@link Calendar} day metadata in the background
+ * and caches the results per requested date range.
+ *
+ * <p>All methods except the provider call itself must be invoked from the same
+ * (FX) thread. Loaded results are handed back through the given result executor,
+ * which is {@code Platform::runLater} for the calendar skin.
+ */
+final class DayMetadataLoader {
+
+    static final int DEFAULT_CACHE_SIZE = 12;
+
+    private final Executor resultExecutor;
+    private final Map<Range, Map<LocalDate, ?>> cache;
+    private final Set<Range> pending = new HashSet<>();
+    private int generation = 0;
+
+    public DayMetadataLoader(Executor resultExecutor) {
+        this(resultExecutor, DEFAULT_CACHE_SIZE);
+    }
+
+    public DayMetadataLoader(Executor resultExecutor, int cacheSize) {
+        this.resultExecutor = Objects.requireNonNull(resultExecutor, "Executor cannot be null.");
+        this.cache = new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Range, Map<LocalDate, ?>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached metadata for the given range or null, if it's not
+     * loaded yet. In the latter case the provider is called in the background,
+     * and the {@code onLoaded} callback is notified with the loaded data once
+     * it's been put into the cache. Results of the requests that were made before
+     * the last {@link #invalidate()} call are discarded.
+     */
+    @SuppressWarnings("CatchAndPrintStackTrace")
+    public @Nullable Map<LocalDate, ?> get(LocalDate startDate,
+                                          LocalDate endDate,
+                                          Calendar.DayMetadataProvider provider,
+                                          Executor executor,
+                                          Consumer<Map<LocalDate, ?>> onLoaded) {
+        var range = new Range(startDate, endDate);
+
+        Map<LocalDate, ?> metadata = cache.get(range);
+        if (metadata != null || pending.contains(range)) {
+            return metadata;
+        }
+
+        pending.add(range);
+        final int requestGeneration = generation;
+
+        try {
+            executor.execute(() -> {
+                Map<LocalDate, ?> result;
+                try {
+                    result = provider.getMetadata(startDate, endDate);
+                } catch (Exception e) {
+                    // cache the empty result, otherwise failed request
+                    // will be repeated on every calendar update
+                    e.printStackTrace();
+                    result = null;
+                }
+
+                final Map<LocalDate, ?> loaded = result != null
+                    ? Collections.unmodifiableMap(new LinkedHashMap<>(result))
+                    : Collections.emptyMap();
+
+                resultExecutor.execute(() -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    pending.remove(range);
+                    cache.put(range, loaded);
+                    onLoaded.accept(loaded);
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(range);
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
+    /**
+     * Drops all cached data and discards the results of pending requests.
+     */
+    public void invalidate() {
+        generation++;
+        cache.clear();
+        pending.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private record Range(LocalDate startDate, LocalDate endDate) {
+    }
+}
@@ -0,0 +1,282 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static java.time.temporal.ChronoUnit.WEEKS;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.temporal.ValueRange;
+import java.time.temporal.WeekFields;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An internal immutable snapshot of everything the {@link CalendarSkin} needs
+ * to render a single month grid: cell dates, localized cell texts and
+ * the month-related cell flags.
+ *
+ * <p>Computing this data requires chronology conversions and localized
+ * formatting for every cell, so models are cached by year-month, locale
+ * and chronology and shared by all calendar instances. The cache is small
+ * and LRU-ordered, which is enough to keep the displayed month and its
+ * neighbours warm while the user navigates.
+ */
+final class MonthModel {
+
+    /**
+     * The maximum number of weeks (grid rows) required to display a month
+     * in the worst case layout.
+     */
+    static final int MAX_WEEKS = 6;
+
+    static final int FLAG_PREVIOUS_MONTH = 1;
+    static final int FLAG_NEXT_MONTH = 1 << 1;
+    static final int FLAG_OUT_OF_RANGE = 1 << 2;
+
+    private static final int CACHE_SIZE = 36;
+    private static final DateTimeFormatter DAY_CELL_FORMATTER = DateTimeFormatter.ofPattern("d");
+    private static final DateTimeFormatter WEEK_NUMBER_FORMATTER = DateTimeFormatter.ofPattern("w");
+
+    private static final Map<Key, MonthModel> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, MonthModel> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final YearMonth yearMonth;
+    private final int daysPerWeek;
+    private final LocalDate[] dates;
+    private final String[] texts;
+    private final int[] flags;
+    private final String[] weekNumbers;
+
+    private MonthModel(YearMonth yearMonth, Locale locale, Chronology chrono) {
+        this.yearMonth = yearMonth;
+        this.daysPerWeek = countDaysPerWeek(chrono);
+
+        int size = MAX_WEEKS * daysPerWeek;
+        this.dates = new LocalDate[size];
+        this.texts = new String[size];
+        this.flags = new int[size];
+        this.weekNumbers = new String[MAX_WEEKS];
+
+        // derive formatters once per month instead of once per cell
+        DecimalStyle decimalStyle = DecimalStyle.of(locale);
+        DateTimeFormatter dayFormatter = DAY_CELL_FORMATTER
+            .withLocale(locale)
+            .withChronology(chrono)
+            .withDecimalStyle(decimalStyle);
+        DateTimeFormatter weekFormatter = WEEK_NUMBER_FORMATTER
+            .withLocale(locale)
+            .withDecimalStyle(decimalStyle);
+
+        fillDays(locale, chrono, dayFormatter);
+        fillWeekNumbers(weekFormatter);
+    }
+
+    private void fillDays(Locale locale, Chronology chrono, DateTimeFormatter formatter) {
+        final int firstOfMonthIdx = determineFirstOfMonthDayOfWeek(locale);
+
+        YearMonth prevMonth = null;
+        YearMonth nextMonth = null;
+        int daysInCurMonth = -1;
+        int daysInPrevMonth = -1;
+
+        for (int i = 0; i < dates.length; i++) {
+            try {
+                daysInCurMonth = daysInCurMonth == -1 ? yearMonth.lengthOfMonth() : daysInCurMonth;
+                YearMonth month = yearMonth;
+                int day = i - firstOfMonthIdx + 1;
+
+                if (i < firstOfMonthIdx) {
+                    if (prevMonth == null) {
+                        prevMonth = yearMonth.minusMonths(1);
+                        daysInPrevMonth = prevMonth.lengthOfMonth();
+                    }
+                    month = prevMonth;
+                    day = i + daysInPrevMonth - firstOfMonthIdx + 1;
+                    flags[i] = FLAG_PREVIOUS_MONTH;
+                } else if (i >= firstOfMonthIdx + daysInCurMonth) {
+                    if (nextMonth == null) {
+                        nextMonth = yearMonth.plusMonths(1);
+                    }
+                    month = nextMonth;
+                    day = i - daysInCurMonth - firstOfMonthIdx + 1;
+                    flags[i] = FLAG_NEXT_MONTH;
+                }
+
+                LocalDate date = month.atDay(day);
+                texts[i] = formatter.format(chrono.date(date));
+                dates[i] = date;
+            } catch (DateTimeException ex) {
+                // date is out of range
+                dates[i] = null;
+                texts[i] = " ";
+                flags[i] = FLAG_OUT_OF_RANGE;
+            }
+        }
+    }
+
+    private void fillWeekNumbers(DateTimeFormatter formatter) {
+        for (int i = 0; i < MAX_WEEKS; i++) {
+            try {
+                // use a formatter to ensure correct localization
+                // such as when Thai numerals are required.
+                weekNumbers[i] = formatter.format(yearMonth.atDay(1).plus(i, WEEKS));
+            } catch (DateTimeException ex) {
+                weekNumbers[i] = "";
+            }
+        }
+    }
+
+    // determine on which day of week idx the first of the months is
+    private int determineFirstOfMonthDayOfWeek(Locale locale) {
+        int firstDayOfWeek = WeekFields.of(locale).getFirstDayOfWeek().getValue();
+        int firstOfMonthIdx = yearMonth.atDay(1).getDayOfWeek().getValue() - firstDayOfWeek;
+        return firstOfMonthIdx < 0 ? firstOfMonthIdx + daysPerWeek : firstOfMonthIdx;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Accessors                                                             //
+    ///////////////////////////////////////////////////////////////////////////
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    public int getDaysPerWeek() {
+        return daysPerWeek;
+    }
+
+    /**
+     * Returns the total number of day cells, which is always
+     * {@link #MAX_WEEKS} multiplied by the number of days per week.
+     */
+    public int size() {
+        return dates.length;
+    }
+
+    /**
+     * Returns the date of the cell with the given index or null,
+     * if the date is out of the chronology range.
+     */
+    public @Nullable LocalDate getDate(int index) {
+        return dates[index];
+    }
+
+    public String getText(int index) {
+        return texts[index];
+    }
+
+    public boolean hasFlag(int index, int flag) {
+        return (flags[index] & flag) != 0;
+    }
+
+    public String getWeekNumber(int week) {
+        return weekNumbers[week];
+    }
+
+    /**
+     * Returns the first in-range date of the grid or null, if there's none.
+     */
+    public @Nullable LocalDate getFirstDate() {
+        for (LocalDate date : dates) {
+            if (date != null) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the last in-range date of the grid or null, if there's none.
+     */
+    public @Nullable LocalDate getLastDate() {
+        for (int i = dates.length - 1; i >= 0; i--) {
+            if (dates[i] != null) {
+                return dates[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the cell index of the given date or -1 if the date
+     * doesn't belong to this grid.
+     */
+    public int indexOf(LocalDate date) {
+        for (int i = 0; i < dates.length; i++) {
+            if (date.equals(dates[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Cache                                                                 //
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns the cached month model or computes a new one if there's none.
+     */
+    public static MonthModel get(YearMonth yearMonth, Locale locale, Chronology chrono) {
+        Objects.requireNonNull(yearMonth, "YearMonth cannot be null.");
+        Objects.requireNonNull(locale, "Locale cannot be null.");
+        Objects.requireNonNull(chrono, "Chronology cannot be null.");
+
+        var key = new Key(yearMonth, locale, chrono);
+        synchronized (CACHE) {
+            MonthModel model = CACHE.get(key);
+            if (model == null) {
+                model = new MonthModel(yearMonth, locale, chrono);
+                CACHE.put(key, model);
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Computes and caches models for the months adjacent to the given one,
+     * so that the next forward or backward navigation is a cache hit.
+     */
+    public static void prefetch(YearMonth yearMonth, Locale locale, Chronology chrono) {
+        for (YearMonth neighbour : new YearMonth[] {yearMonth.minusMonths(1), yearMonth.plusMonths(1)}) {
+            try {
+                get(neighbour, locale, chrono);
+            } catch (DateTimeException ignored) {
+                // neighbour month is out of range, nothing to prefetch
+            }
+        }
+    }
+
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static int countDaysPerWeek(Chronology chrono) {
+        ValueRange range = chrono.range(DAY_OF_WEEK);
+        return (int) (range.getMaximum() - range.getMinimum() + 1);
+    }
+
+    private record Key(YearMonth yearMonth, Locale locale, Chronology chronology) {
+    }
+}
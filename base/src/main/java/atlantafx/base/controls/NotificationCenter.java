@@ -0,0 +1,441 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import atlantafx.base.util.Animations;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.HPos;
+import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A layout that stacks {@link Notification} pop-ups in one of its corners.
+ * It's intended to be placed on top of the application content, e.g. as the
+ * last child of the root {@code StackPane}. The empty area of the container
+ * is transparent for mouse events.
+ *
+ * <p>The notification center is designed to handle bursts of messages:
+ * <ul>
+ *     <li>Only {@link #maxVisibleProperty()} notifications are shown at the
+ *     same time. The rest are queued, and the queue size is limited, so the
+ *     oldest queued messages are dropped under heavy load.</li>
+ *     <li>Messages with the same text and style classes are coalesced. A duplicate
+ *     of a visible or queued message only increments its counter, which is
+ *     displayed next to the message text.</li>
+ *     <li>Notification controls, and thus their skins, are recycled. The center
+ *     only creates as many instances as it can display at the same time.</li>
+ *     <li>The queue is processed and the stack is laid out once per pulse,
+ *     no matter how many messages were posted in between.</li>
+ * </ul>
+ *
+ * <p>Because notifications are recycled, the center doesn't expose them.
+ * Messages are posted with {@link #show(String, Node, String...)}, and the
+ * graphic node of the coalesced duplicate is ignored.
+ */
+public class NotificationCenter extends Region {
+
+    /**
+     * The maximum number of messages waiting to be displayed.
+     */
+    public static final int MAX_QUEUE_SIZE = 100;
+
+    protected static final Duration ANIMATION_DURATION = Duration.millis(250);
+    protected static final double SPACING = 10;
+
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private final List<Entry> visible = new ArrayList<>();
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Deque<Notification> pool = new ArrayDeque<>();
+    private final Runnable pulseListener = this::processQueue;
+    private @Nullable Scene pulseScene;
+
+    /**
+     * Creates a new, empty NotificationCenter.
+     */
+    public NotificationCenter() {
+        super();
+
+        getStyleClass().add("notification-center");
+        setPickOnBounds(false);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+
+        sceneProperty().addListener((obs, old, val) -> {
+            removePulseListener();
+            if (val != null && !queue.isEmpty()) {
+                schedule();
+            }
+        });
+        maxVisible.addListener((obs, old, val) -> schedule());
+        position.addListener((obs, old, val) -> requestLayout());
+    }
+
+    /**
+     * See {@link #show(String, Node, String...)}.
+     */
+    public void show(String message) {
+        show(message, null);
+    }
+
+    /**
+     * Posts a new message. It's displayed on the next pulse if there's a free
+     * slot, otherwise it waits in the queue. If there's a visible or queued
+     * message with the same text and style classes, this call only increments
+     * its counter and restarts its hide timer.
+     *
+     * <p>This method must be called from the FX thread.
+     *
+     * @param message      The notification message.
+     * @param graphic      An optional notification graphic.
+     * @param styleClasses The additional notification style classes,
+     *                     e.g. {@code Styles.ACCENT} or {@code Styles.ELEVATED_1}.
+     */
+    public void show(String message, @Nullable Node graphic, String... styleClasses) {
+        Objects.requireNonNull(message, "Message cannot be null.");
+
+        var key = new Key(message, List.of(styleClasses));
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.count++;
+            if (entry.notification != null) {
+                entry.notification.setMessage(formatMessage(entry));
+                startTimer(entry);
+            }
+            return;
+        }
+
+        if (queue.size() >= MAX_QUEUE_SIZE) {
+            entries.remove(queue.removeFirst().key);
+        }
+
+        entry = new Entry(key, graphic);
+        entries.put(key, entry);
+        queue.addLast(entry);
+        schedule();
+    }
+
+    /**
+     * Hides all visible notifications and drops all queued messages.
+     */
+    public void clear() {
+        for (Entry entry : queue) {
+            entries.remove(entry.key);
+        }
+        queue.clear();
+
+        for (Entry entry : new ArrayList<>(visible)) {
+            hide(entry);
+        }
+    }
+
+    /**
+     * Returns the number of messages that are displayed or waiting
+     * to be displayed, including the ones that are being hidden.
+     */
+    public int getMessageCount() {
+        return entries.size();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Properties                                                            //
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Specifies the corner (or the edge center) of the container
+     * the notifications are stacked at.
+     */
+    public ObjectProperty<Pos> positionProperty() {
+        return position;
+    }
+
+    private final ObjectProperty<Pos> position = new SimpleObjectProperty<>(this, "position", Pos.TOP_RIGHT);
+
+    public Pos getPosition() {
+        return position.get();
+    }
+
+    public void setPosition(Pos position) {
+        this.position.set(position);
+    }
+
+    /**
+     * Specifies the maximum number of notifications displayed at the same time.
+     */
+    public IntegerProperty maxVisibleProperty() {
+        return maxVisible;
+    }
+
+    private final IntegerProperty maxVisible = new SimpleIntegerProperty(this, "maxVisible", 5);
+
+    public int getMaxVisible() {
+        return maxVisible.get();
+    }
+
+    public void setMaxVisible(int maxVisible) {
+        this.maxVisible.set(maxVisible);
+    }
+
+    /**
+     * Specifies how long notifications are displayed before they're hidden
+     * automatically. The timer is paused while the mouse is over the notification.
+     * If the value is null or {@link Duration#INDEFINITE}, notifications
+     * can only be closed by the user.
+     */
+    public ObjectProperty<Duration> displayDurationProperty() {
+        return displayDuration;
+    }
+
+    private final ObjectProperty<Duration> displayDuration =
+        new SimpleObjectProperty<>(this, "displayDuration", Duration.seconds(5));
+
+    public Duration getDisplayDuration() {
+        return displayDuration.get();
+    }
+
+    public void setDisplayDuration(Duration displayDuration) {
+        this.displayDuration.set(displayDuration);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Layout                                                                //
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void layoutChildren() {
+        Pos pos = Objects.requireNonNullElse(getPosition(), Pos.TOP_RIGHT);
+        boolean fromBottom = pos.getVpos() == VPos.BOTTOM;
+
+        double left = snappedLeftInset();
+        double top = snappedTopInset();
+        double contentWidth = getWidth() - left - snappedRightInset();
+        double contentHeight = getHeight() - top - snappedBottomInset();
+        double offset = 0;
+
+        // the newest notification is the closest one to the edge,
+        // exiting notifications are unmanaged and keep their place
+        List<Node> children = getChildren();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            Node child = children.get(i);
+            if (!child.isManaged()) {
+                continue;
+            }
+
+            double w = Math.min(snapSizeX(child.prefWidth(-1)), contentWidth);
+            double h = snapSizeY(child.prefHeight(w));
+            double x = left + computeXOffset(contentWidth, w, pos.getHpos());
+            double y = fromBottom ? top + contentHeight - offset - h : top + offset;
+
+            child.resizeRelocate(x, y, w, h);
+            offset += h + SPACING;
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        // the container shouldn't affect the parent layout
+        return snappedLeftInset() + snappedRightInset();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return snappedTopInset() + snappedBottomInset();
+    }
+
+    private static double computeXOffset(double width, double contentWidth, HPos hpos) {
+        return switch (hpos) {
+            case LEFT -> 0;
+            case CENTER -> (width - contentWidth) / 2;
+            case RIGHT -> width - contentWidth;
+        };
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queue                                                                 //
+    ///////////////////////////////////////////////////////////////////////////
+
+    // Coalesces all changes made in the same pulse into a single queue pass.
+    private void schedule() {
+        Scene scene = getScene();
+        if (scene == null || pulseScene != null) {
+            return;
+        }
+        pulseScene = scene;
+        scene.addPreLayoutPulseListener(pulseListener);
+        // make sure the pulse is going to happen
+        requestLayout();
+    }
+
+    private void removePulseListener() {
+        if (pulseScene != null) {
+            pulseScene.removePreLayoutPulseListener(pulseListener);
+            pulseScene = null;
+        }
+    }
+
+    // package-private for testing, normally called before the layout pass
+    void processQueue() {
+        removePulseListener();
+
+        while (!queue.isEmpty() && visible.size() < Math.max(1, getMaxVisible())) {
+            Entry entry = queue.removeFirst();
+            visible.add(entry);
+            showEntry(entry);
+        }
+    }
+
+    private void showEntry(Entry entry) {
+        Notification ntf = Objects.requireNonNullElseGet(pool.pollFirst(), Notification::new);
+        ntf.setMessage(formatMessage(entry));
+        ntf.setGraphic(entry.graphic);
+        ntf.getStyleClass().addAll(entry.key.styleClasses);
+        ntf.setOnClose(e -> hide(entry));
+        ntf.setOnMouseEntered(e -> {
+            if (entry.timer != null) {
+                entry.timer.pause();
+            }
+        });
+        ntf.setOnMouseExited(e -> {
+            if (entry.timer != null) {
+                entry.timer.play();
+            }
+        });
+
+        entry.notification = ntf;
+        getChildren().add(ntf);
+
+        // the slide animations read the node width, which is zero until
+        // the layout pass, so size the notification to its preferred size
+        ntf.applyCss();
+        ntf.autosize();
+
+        entry.animation = createEnterAnimation(ntf);
+        entry.animation.playFromStart();
+        startTimer(entry);
+    }
+
+    private void startTimer(Entry entry) {
+        Duration duration = getDisplayDuration();
+        if (duration == null || duration.isIndefinite() || duration.isUnknown()) {
+            return;
+        }
+
+        if (entry.timer == null) {
+            entry.timer = new PauseTransition();
+            entry.timer.setOnFinished(e -> hide(entry));
+        }
+        entry.timer.stop();
+        entry.timer.setDuration(duration);
+        entry.timer.playFromStart();
+    }
+
+    private void hide(Entry entry) {
+        Notification ntf = entry.notification;
+        if (ntf == null || entry.hiding) {
+            return;
+        }
+
+        if (entry.timer != null) {
+            entry.timer.stop();
+        }
+        if (entry.animation != null) {
+            entry.animation.stop();
+        }
+
+        // the entry can't be coalesced anymore, and the notification is excluded
+        // from the stack, so that the rest of notifications could take its place
+        entry.hiding = true;
+        entries.remove(entry.key);
+        visible.remove(entry);
+        ntf.setManaged(false);
+        schedule();
+
+        entry.animation = createExitAnimation(ntf);
+        entry.animation.setOnFinished(e -> recycle(entry));
+        entry.animation.playFromStart();
+    }
+
+    private void recycle(Entry entry) {
+        Notification ntf = entry.notification;
+        if (ntf == null) {
+            return;
+        }
+
+        getChildren().remove(ntf);
+        ntf.setManaged(true);
+        ntf.setOnClose(null);
+        ntf.setOnMouseEntered(null);
+        ntf.setOnMouseExited(null);
+        ntf.setGraphic(null);
+        ntf.setMessage(null);
+        ntf.getStyleClass().removeAll(entry.key.styleClasses);
+        ntf.getPrimaryActions().clear();
+        ntf.getSecondaryActions().clear();
+
+        entry.notification = null;
+        entry.hiding = false;
+        entry.animation = null;
+        entry.timer = null;
+
+        if (pool.size() < Math.max(1, getMaxVisible())) {
+            pool.addLast(ntf);
+        }
+    }
+
+    protected Timeline createEnterAnimation(Notification ntf) {
+        return switch (Objects.requireNonNullElse(getPosition(), Pos.TOP_RIGHT).getHpos()) {
+            case LEFT -> Animations.fadeInLeft(ntf, ANIMATION_DURATION);
+            case RIGHT -> Animations.fadeInRight(ntf, ANIMATION_DURATION);
+            case CENTER -> Animations.fadeIn(ntf, ANIMATION_DURATION);
+        };
+    }
+
+    protected Timeline createExitAnimation(Notification ntf) {
+        return switch (Objects.requireNonNullElse(getPosition(), Pos.TOP_RIGHT).getHpos()) {
+            case LEFT -> Animations.fadeOutLeft(ntf, ANIMATION_DURATION);
+            case RIGHT -> Animations.fadeOutRight(ntf, ANIMATION_DURATION);
+            case CENTER -> Animations.fadeOut(ntf, ANIMATION_DURATION);
+        };
+    }
+
+    private static String formatMessage(Entry entry) {
+        return entry.count > 1 ? entry.key.message + " (" + entry.count + ")" : entry.key.message;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private record Key(String message, List<String> styleClasses) {
+    }
+
+    private static final class Entry {
+
+        final Key key;
+        final @Nullable Node graphic;
+        int count = 1;
+        boolean hiding = false;
+        @Nullable Notification notification;
+        @Nullable Timeline animation;
+        @Nullable PauseTransition timer;
+
+        Entry(Key key, @Nullable Node graphic) {
+            this.key = key;
+            this.graphic = graphic;
+        }
+    }
+
+}
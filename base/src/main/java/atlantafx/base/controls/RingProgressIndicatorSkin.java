@@ -5,9 +5,6 @@ package atlantafx.base.controls;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import javafx.animation.Animation;
-import javafx.animation.Interpolator;
-import javafx.animation.RotateTransition;
 import javafx.beans.property.DoubleProperty;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
@@ -22,7 +19,6 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Arc;
 import javafx.scene.shape.Circle;
-import javafx.util.Duration;
 
 /**
  * The default skin for the {@link RingProgressIndicator} control.
@@ -35,9 +31,10 @@ public class RingProgressIndicatorSkin extends SkinBase<RingProgressIndicator> {
     protected final Circle trackCircle = new Circle();
     protected final Arc progressArc = new Arc();
     protected final Label progressLabel = new Label();
-    protected final RotateTransition transition = new RotateTransition(
-        Duration.seconds(DEFAULT_ANIMATION_TIME), progressArc
-    );
+    protected final TreeShowingObserver showingObserver;
+
+    // the cycle duration of the current rotation clock subscription, or -1 if not subscribed
+    private double subscribedAnimationTime = -1;
 
     public RingProgressIndicatorSkin(RingProgressIndicator indicator) {
         super(indicator);
@@ -54,12 +51,6 @@ public class RingProgressIndicatorSkin extends SkinBase<RingProgressIndicator> {
         progressArc.setCacheHint(CacheHint.ROTATE);
         progressArc.setFill(Color.TRANSPARENT);
 
-        transition.setAutoReverse(false);
-        transition.setByAngle(-getMaxAngle());
-        transition.setCycleCount(Animation.INDEFINITE);
-        transition.setDelay(Duration.ZERO);
-        transition.setInterpolator(Interpolator.LINEAR);
-
         progressLabel.getStyleClass().add("progress");
 
         container.getStyleClass().addAll("container");
@@ -73,6 +64,9 @@ public class RingProgressIndicatorSkin extends SkinBase<RingProgressIndicator> {
         indicator.setMaxWidth(Region.USE_PREF_SIZE);
         getChildren().add(container);
 
+        // rotation is only needed while the indicator can be seen
+        showingObserver = new TreeShowingObserver(indicator);
+
         // == INIT LISTENERS ==
 
         updateProgressLabel();
@@ -85,19 +79,12 @@ public class RingProgressIndicatorSkin extends SkinBase<RingProgressIndicator> {
 
         registerChangeListener(indicator.indeterminateProperty(), e -> toggleIndeterminate());
 
-        registerChangeListener(indicator.visibleProperty(), e -> {
-            if (indicator.isVisible() && indicator.isIndeterminate()) {
-                transition.play();
-            } else {
-                transition.pause();
-            }
-        });
+        registerChangeListener(showingObserver.showingProperty(), e -> updateRotation());
 
         registerChangeListener(indeterminateAnimationTimeProperty(), e -> {
-            transition.setDuration(Duration.seconds(getIndeterminateAnimationTime()));
-            if (indicator.isIndeterminate()) {
-                transition.playFromStart();
-            }
+            // re-subscribe with the new cycle duration
+            stopRotation();
+            updateRotation();
         });
 
         registerChangeListener(indicator.graphicProperty(), e -> {
@@ -141,13 +128,34 @@ public class RingProgressIndicatorSkin extends SkinBase<RingProgressIndicator> {
         progressLabel.setManaged(!indeterminate);
         progressLabel.setVisible(!indeterminate);
 
-        if (indeterminate) {
-            if (getSkinnable().isVisible()) {
-                transition.play();
+        updateRotation();
+    }
+
+    /**
+     * Starts or stops the indeterminate rotation depending on the indicator state.
+     * The rotation runs only if the indicator is indeterminate and can be seen on
+     * the screen. All visible indicators share the same animation clock.
+     */
+    protected void updateRotation() {
+        boolean rotate = getSkinnable().isIndeterminate() && showingObserver.isShowing();
+
+        if (rotate && subscribedAnimationTime < 0) {
+            subscribedAnimationTime = getIndeterminateAnimationTime();
+            var angle = RotationClock.subscribe(subscribedAnimationTime);
+            progressArc.rotateProperty().bind(getSkinnable().isReverse() ? angle.negate() : angle);
+        } else if (!rotate) {
+            stopRotation();
+            if (!getSkinnable().isIndeterminate()) {
+                progressArc.setRotate(0);
             }
-        } else {
-            progressArc.setRotate(0);
-            transition.stop();
+        }
+    }
+
+    private void stopRotation() {
+        if (subscribedAnimationTime >= 0) {
+            RotationClock.unsubscribe(subscribedAnimationTime);
+            subscribedAnimationTime = -1;
+            progressArc.rotateProperty().unbind();
         }
     }
 
@@ -189,7 +197,9 @@ public class RingProgressIndicatorSkin extends SkinBase<RingProgressIndicator> {
 
     @Override
     public void dispose() {
-        transition.stop();
+        stopRotation();
+        showingObserver.dispose();
+        super.dispose();
     }
 
     @Override
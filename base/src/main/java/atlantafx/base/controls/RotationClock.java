@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import java.util.HashMap;
+import java.util.Map;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An internal animation clock that drives endless rotation for any number
+ * of nodes with a single {@link AnimationTimer}.
+ *
+ * <p>Subscribers that share the same cycle duration also share the same
+ * angle property, so they rotate in sync. The timer only runs while there
+ * is at least one subscriber. This class must be used from the FX thread only.
+ */
+final class RotationClock {
+
+    private static final Map<Long, Channel> CHANNELS = new HashMap<>();
+    private static @Nullable AnimationTimer timer;
+    private static long startTime = -1;
+
+    private RotationClock() {
+        // Default constructor
+    }
+
+    /**
+     * Subscribes to the clock and returns the angle property, which changes
+     * from 0 to 360 degrees during the given cycle duration.
+     * Every subscription must be released with {@link #unsubscribe(double)}.
+     *
+     * @param seconds The duration of the full rotation cycle in seconds.
+     */
+    public static ReadOnlyDoubleProperty subscribe(double seconds) {
+        long duration = toNanos(seconds);
+        Channel channel = CHANNELS.computeIfAbsent(duration, Channel::new);
+        channel.subscribers++;
+
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    tick(now);
+                }
+            };
+            startTime = -1;
+            timer.start();
+        }
+
+        return channel.angle.getReadOnlyProperty();
+    }
+
+    /**
+     * Releases the subscription made by {@link #subscribe(double)}
+     * with the same cycle duration.
+     */
+    public static void unsubscribe(double seconds) {
+        long duration = toNanos(seconds);
+        Channel channel = CHANNELS.get(duration);
+        if (channel == null) {
+            return;
+        }
+
+        if (--channel.subscribers <= 0) {
+            CHANNELS.remove(duration);
+        }
+
+        if (CHANNELS.isEmpty() && timer != null) {
+            timer.stop();
+            timer = null;
+        }
+    }
+
+    // package-private for testing
+    static boolean isRunning() {
+        return timer != null;
+    }
+
+    // package-private for testing
+    static int getSubscriberCount() {
+        int count = 0;
+        for (Channel channel : CHANNELS.values()) {
+            count += channel.subscribers;
+        }
+        return count;
+    }
+
+    private static void tick(long now) {
+        if (startTime < 0) {
+            startTime = now;
+        }
+
+        long elapsed = now - startTime;
+        for (Channel channel : CHANNELS.values()) {
+            channel.angle.set((double) (elapsed % channel.duration) / channel.duration * 360);
+        }
+    }
+
+    private static long toNanos(double seconds) {
+        return Math.max(1, Math.round(seconds * 1_000_000_000L));
+    }
+
+    private static final class Channel {
+
+        final long duration;
+        final ReadOnlyDoubleWrapper angle = new ReadOnlyDoubleWrapper();
+        int subscribers = 0;
+
+        Channel(long duration) {
+            this.duration = duration;
+        }
+    }
+}
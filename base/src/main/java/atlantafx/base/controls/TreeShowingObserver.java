@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An internal helper that tracks whether the given node can actually be seen
+ * on the screen, that is, whether the node and all of its ancestors are visible,
+ * the node is attached to a scene and that scene's window is showing and not
+ * minimized.
+ *
+ * <p>Hidden tabs, collapsed titled panes and unused virtual flow cells are all
+ * hidden by setting the visibility of one of the ancestors, so it covers most
+ * of the cases when animations or other periodic updates have to be paused.
+ */
+final class TreeShowingObserver {
+
+    private final Node node;
+    private final ReadOnlyBooleanWrapper showing = new ReadOnlyBooleanWrapper(this, "showing", false);
+    private final InvalidationListener stateListener = obs -> update();
+    private final InvalidationListener structureListener = obs -> rebuild();
+    private final List<Node> observedNodes = new ArrayList<>();
+
+    private @Nullable Scene observedScene;
+    private @Nullable Window observedWindow;
+
+    public TreeShowingObserver(Node node) {
+        this.node = Objects.requireNonNull(node, "Node cannot be null.");
+        rebuild();
+    }
+
+    /**
+     * Returns true if the node can be seen on the screen.
+     */
+    public ReadOnlyBooleanProperty showingProperty() {
+        return showing.getReadOnlyProperty();
+    }
+
+    public boolean isShowing() {
+        return showing.get();
+    }
+
+    /**
+     * Removes all listeners. The observer can't be used after that.
+     */
+    public void dispose() {
+        detach();
+        node.sceneProperty().removeListener(structureListener);
+    }
+
+    // Attaches listeners to the current ancestors chain, scene and window.
+    // Must be called every time the chain is modified.
+    private void rebuild() {
+        detach();
+
+        for (Node n = node; n != null; n = n.getParent()) {
+            n.visibleProperty().addListener(stateListener);
+            n.parentProperty().addListener(structureListener);
+            observedNodes.add(n);
+        }
+
+        node.sceneProperty().removeListener(structureListener);
+        node.sceneProperty().addListener(structureListener);
+
+        observedScene = node.getScene();
+        if (observedScene != null) {
+            observedScene.windowProperty().addListener(structureListener);
+            observedWindow = observedScene.getWindow();
+            if (observedWindow != null) {
+                observedWindow.showingProperty().addListener(stateListener);
+                if (observedWindow instanceof Stage stage) {
+                    stage.iconifiedProperty().addListener(stateListener);
+                }
+            }
+        }
+
+        update();
+    }
+
+    private void detach() {
+        for (Node n : observedNodes) {
+            n.visibleProperty().removeListener(stateListener);
+            n.parentProperty().removeListener(structureListener);
+        }
+        observedNodes.clear();
+
+        if (observedScene != null) {
+            observedScene.windowProperty().removeListener(structureListener);
+            observedScene = null;
+        }
+
+        if (observedWindow != null) {
+            observedWindow.showingProperty().removeListener(stateListener);
+            if (observedWindow instanceof Stage stage) {
+                stage.iconifiedProperty().removeListener(stateListener);
+            }
+            observedWindow = null;
+        }
+    }
+
+    private void update() {
+        boolean visible = observedWindow != null
+            && observedWindow.isShowing()
+            && !(observedWindow instanceof Stage stage && stage.isIconified());
+
+        for (int i = 0; visible && i < observedNodes.size(); i++) {
+            visible = observedNodes.get(i).isVisible();
+        }
+
+        showing.set(visible);
+    }
+}
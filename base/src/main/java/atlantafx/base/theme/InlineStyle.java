@@ -0,0 +1,239 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javafx.scene.Node;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A structured, mutable representation of the node inline style, i.e. the value
+ * of the {@link Node#styleProperty()}. Declarations are stored as an ordered
+ * map from the property name to its value, so the style string only has to
+ * be parsed once and is only written back to the node on {@link #commit()}.
+ *
+ * <p>The model is cached in the node properties map. If the node style was
+ * changed directly after the last commit, the model is re-parsed on the next
+ * {@link #of(Node)} call. For batch updates use {@link Styles#edit(Node, java.util.function.Consumer)},
+ * which commits all changes with a single {@code setStyle()} call:
+ *
+ * <pre>{@code
+ * Styles.edit(node, s -> s
+ *     .set("-fx-background-color", "-color-bg-subtle")
+ *     .set("-fx-border-color", "-color-border-default")
+ *     .remove("-fx-padding")
+ * );
+ * }</pre>
+ *
+ * <p>Like the node itself, this class is not thread-safe.
+ */
+public final class InlineStyle {
+
+    private static final String PROPERTY_KEY = "atlantafx.inline-style";
+
+    private final Node node;
+    private final Map<String, String> declarations = new LinkedHashMap<>();
+    private String committedStyle;
+    private boolean dirty = false;
+
+    private InlineStyle(Node node) {
+        this.node = node;
+        this.committedStyle = Objects.requireNonNullElse(node.getStyle(), "");
+        declarations.putAll(parse(committedStyle));
+    }
+
+    /**
+     * Returns the inline style model of the given node. The model is created
+     * once and stored in the node properties.
+     *
+     * @param node The target node.
+     * @throws NullPointerException if node is null
+     */
+    public static InlineStyle of(Node node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null!");
+        }
+
+        if (node.getProperties().get(PROPERTY_KEY) instanceof InlineStyle style) {
+            style.sync();
+            return style;
+        }
+
+        var style = new InlineStyle(node);
+        node.getProperties().put(PROPERTY_KEY, style);
+        return style;
+    }
+
+    /**
+     * Returns the value of the given property or null, if it's not set.
+     */
+    public @Nullable String get(String prop) {
+        return prop != null ? declarations.get(prop.trim()) : null;
+    }
+
+    public boolean contains(String prop) {
+        return prop != null && declarations.containsKey(prop.trim());
+    }
+
+    /**
+     * Sets the property value. If the property is already present, its value
+     * is replaced, but the declaration keeps its original position.
+     * A null or blank value removes the property.
+     */
+    public InlineStyle set(String prop, @Nullable String value) {
+        if (prop == null || prop.isBlank()) {
+            System.err.printf("Ignoring invalid style: property = '%s', value = '%s'%n", prop, value);
+            return this;
+        }
+
+        if (value == null || value.isBlank()) {
+            return remove(prop);
+        }
+
+        String old = declarations.put(prop.trim(), value.trim());
+        if (!value.trim().equals(old)) {
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Removes the property if it's present.
+     */
+    public InlineStyle remove(String prop) {
+        if (prop != null && declarations.remove(prop.trim()) != null) {
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Removes all properties.
+     */
+    public InlineStyle clear() {
+        if (!declarations.isEmpty()) {
+            declarations.clear();
+            dirty = true;
+        }
+        return this;
+    }
+
+    public int size() {
+        return declarations.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the style declarations.
+     */
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(declarations);
+    }
+
+    /**
+     * Writes the changes back to the node. Does nothing, if there's nothing to
+     * change, so that the node doesn't re-parse the same inline style.
+     *
+     * @return True if the node style has been updated.
+     */
+    public boolean commit() {
+        if (!dirty) {
+            return false;
+        }
+
+        dirty = false;
+        String style = toString();
+        if (style.equals(committedStyle)) {
+            return false;
+        }
+
+        committedStyle = style;
+        node.setStyle(style);
+        return true;
+    }
+
+    /**
+     * Returns the style string in the same format as
+     * {@link Styles#appendStyle(Node, String, String)} produces.
+     */
+    @Override
+    public String toString() {
+        var sb = new StringBuilder();
+        for (var entry : declarations.entrySet()) {
+            sb.append(entry.getKey()).append(':').append(entry.getValue()).append(';');
+        }
+        return sb.toString();
+    }
+
+    // Re-parses the node style if it was modified outside the model.
+    // Uncommitted changes are lost in that case, because they're outdated anyway.
+    private void sync() {
+        String style = Objects.requireNonNullElse(node.getStyle(), "");
+        if (!style.equals(committedStyle)) {
+            committedStyle = style;
+            declarations.clear();
+            declarations.putAll(parse(style));
+            dirty = false;
+        }
+    }
+
+    /**
+     * Parses the inline style string into the ordered map. Semicolons and colons
+     * inside quotes or parentheses, e.g. in URLs, are not treated as separators.
+     * If the property is declared multiple times, the last value wins, but
+     * the property keeps the position of its first declaration.
+     */
+    static Map<String, String> parse(@Nullable String style) {
+        var result = new LinkedHashMap<String, String>();
+        if (style == null || style.isBlank()) {
+            return result;
+        }
+
+        int start = 0;
+        int colon = -1;
+        int depth = 0;
+        char quote = 0;
+
+        for (int i = 0; i < style.length(); i++) {
+            char c = style.charAt(i);
+
+            if (quote != 0) {
+                if (c == quote && style.charAt(i - 1) != '\\') {
+                    quote = 0;
+                }
+                continue;
+            }
+
+            if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth = Math.max(0, depth - 1);
+            } else if (c == ':' && depth == 0 && colon < 0) {
+                colon = i;
+            } else if (c == ';' && depth == 0) {
+                putDeclaration(result, style, start, colon, i);
+                start = i + 1;
+                colon = -1;
+            }
+        }
+        putDeclaration(result, style, start, colon, style.length());
+
+        return result;
+    }
+
+    private static void putDeclaration(Map<String, String> map, String style, int start, int colon, int end) {
+        if (colon <= start) {
+            return;
+        }
+
+        String prop = style.substring(start, colon).trim();
+        String value = style.substring(colon + 1, end).trim();
+        if (!prop.isEmpty() && !value.isEmpty()) {
+            map.put(prop, value);
+        }
+    }
+}
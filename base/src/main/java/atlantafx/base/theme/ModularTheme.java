@@ -0,0 +1,308 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javafx.application.Application;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Control;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuItem;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads the theme as a core stylesheet plus the stylesheets of the components
+ * that are actually used, instead of the single user-agent stylesheet that
+ * contains all components. The smaller the stylesheets set, the faster JavaFX
+ * parses it and the less selectors it has to match against every node.
+ *
+ * <p>Modular stylesheets are produced by {@link ThemeSplitter} and are only
+ * available when the project is built with the {@code modular-themes} profile.
+ * Component stylesheets can be declared explicitly, or discovered from
+ * the scene graph:
+ *
+ * <pre>{@code
+ * var theme = ModularTheme.of(new PrimerLight())
+ *     .require("button", "text-input");
+ * theme.discover(scene.getRoot());
+ * theme.install(scene);
+ * }</pre>
+ *
+ * <p>The core and the required component stylesheets are concatenated into a single
+ * stylesheet, which is installed as the scene user-agent stylesheet, so the cascade
+ * precedence is the same as for the full theme: values set in code still override
+ * the theme. The scene user-agent stylesheet replaces the platform default one for
+ * that scene. To avoid loading the default Modena stylesheet at all, use {@link #apply()}
+ * before the first control is created. Component stylesheets are always concatenated
+ * in the order they appear in the original theme stylesheet, no matter in which order
+ * they were required. Note that discovery only sees
+ * the nodes that are already in the scene graph, as well as control tooltips
+ * and context menus. Components that are created later, e.g. dialogs, have to
+ * be declared explicitly.
+ */
+public final class ModularTheme {
+
+    private static final String INSTALLED_KEY = "atlantafx.modular-theme";
+
+    // the data URI of the stylesheet set by apply()
+    private static @Nullable String appliedStylesheet;
+
+    private final Theme theme;
+    private final String basePath;
+    private final Map<String, Set<String>> components; // component name | trigger selectors
+    private final Set<String> required = new HashSet<>();
+    private @Nullable Set<String> cachedComponents;
+    private @Nullable String cachedStylesheet;
+
+    private ModularTheme(Theme theme, String basePath, Map<String, Set<String>> components) {
+        this.theme = theme;
+        this.basePath = basePath;
+        this.components = components;
+    }
+
+    /**
+     * Loads the modular stylesheets index of the given theme.
+     *
+     * @param theme The theme, which stylesheets were split by {@link ThemeSplitter}.
+     * @throws UncheckedIOException if the theme has no modular stylesheets
+     */
+    public static ModularTheme of(Theme theme) {
+        Objects.requireNonNull(theme, "Theme cannot be null!");
+
+        String path = theme.getUserAgentStylesheet();
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        String basePath = path.substring(0, slash + 1)
+            + ThemeSplitter.MODULAR_DIR + "/"
+            + path.substring(slash + 1, dot > slash ? dot : path.length()) + "/";
+
+        try (InputStream in = theme.getClass().getResourceAsStream(basePath + ThemeSplitter.INDEX_FILE)) {
+            if (in == null) {
+                throw new IOException(
+                    "Modular stylesheets not found for theme '" + theme.getName() + "': " + basePath
+                );
+            }
+
+            try (var reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+                return new ModularTheme(theme, basePath, parseIndex(reader.lines().toList()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the theme.
+     */
+    public Theme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Returns the names of all components the theme provides stylesheets for.
+     */
+    public Set<String> getComponents() {
+        return Collections.unmodifiableSet(components.keySet());
+    }
+
+    /**
+     * Returns the names of the required components.
+     */
+    public Set<String> getRequired() {
+        return Collections.unmodifiableSet(required);
+    }
+
+    /**
+     * Declares that the given components are used by the application.
+     *
+     * @param names The component names, e.g. "button" or "text-input".
+     * @throws IllegalArgumentException if the theme has no such component
+     */
+    public ModularTheme require(String... names) {
+        Objects.requireNonNull(names, "Component names cannot be null!");
+        for (String name : names) {
+            if (!components.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown component: " + name);
+            }
+            required.add(name);
+        }
+        return this;
+    }
+
+    /**
+     * Walks the scene graph starting from the given node, requires all components
+     * that can style the found nodes and returns the names of newly required ones.
+     */
+    public Set<String> discover(Node root) {
+        Objects.requireNonNull(root, "Root node cannot be null!");
+
+        var selectors = new HashSet<String>();
+        collectSelectors(root, selectors);
+
+        var found = new LinkedHashSet<String>();
+        for (Map.Entry<String, Set<String>> e : components.entrySet()) {
+            if (!required.contains(e.getKey()) && !Collections.disjoint(e.getValue(), selectors)) {
+                found.add(e.getKey());
+            }
+        }
+
+        required.addAll(found);
+        return found;
+    }
+
+    /**
+     * Returns the core stylesheet concatenated with the required component
+     * stylesheets in the order they appear in the original theme stylesheet.
+     * The result is cached until the required components change.
+     *
+     * @throws UncheckedIOException if a stylesheet can't be read
+     */
+    public String getStylesheet() {
+        if (cachedStylesheet != null && required.equals(cachedComponents)) {
+            return cachedStylesheet;
+        }
+
+        var sb = new StringBuilder(readStylesheet(ThemeSplitter.CORE));
+        for (String name : components.keySet()) {
+            if (required.contains(name)) {
+                sb.append('\n').append(readStylesheet(name));
+            }
+        }
+
+        cachedComponents = Set.copyOf(required);
+        cachedStylesheet = sb.toString();
+        return cachedStylesheet;
+    }
+
+    /**
+     * Sets the theme stylesheet as the scene user-agent stylesheet. The stylesheet
+     * installed by the previous call is replaced. If nothing has changed,
+     * the scene is not modified.
+     * This method must be called from the FX thread.
+     */
+    public void install(Scene scene) {
+        Objects.requireNonNull(scene, "Scene cannot be null!");
+
+        String uri = StylesheetRegistry.acquire(getStylesheet());
+        var installed = (String) scene.getProperties().get(INSTALLED_KEY);
+        if (!uri.equals(scene.getUserAgentStylesheet())) {
+            scene.setUserAgentStylesheet(uri);
+        }
+        scene.getProperties().put(INSTALLED_KEY, uri);
+
+        // the registry is reference-counted, so the same URI is just acquired once again
+        if (installed != null) {
+            StylesheetRegistry.release(installed);
+        }
+    }
+
+    /**
+     * Removes the theme stylesheet installed by {@link #install(Scene)}.
+     */
+    public static void uninstall(Scene scene) {
+        Objects.requireNonNull(scene, "Scene cannot be null!");
+
+        var installed = (String) scene.getProperties().remove(INSTALLED_KEY);
+        if (installed != null) {
+            if (installed.equals(scene.getUserAgentStylesheet())) {
+                scene.setUserAgentStylesheet(null);
+            }
+            StylesheetRegistry.release(installed);
+        }
+    }
+
+    /**
+     * Sets the theme stylesheet as the application user-agent stylesheet.
+     * If this method is called before any control is created, the default
+     * Modena stylesheet is never loaded.
+     */
+    public void apply() {
+        String uri = StylesheetRegistry.acquire(getStylesheet());
+        Application.setUserAgentStylesheet(uri);
+
+        if (appliedStylesheet != null) {
+            StylesheetRegistry.release(appliedStylesheet);
+        }
+        appliedStylesheet = uri;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    static Map<String, Set<String>> parseIndex(List<String> lines) {
+        var index = new LinkedHashMap<String, Set<String>>();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] tokens = line.strip().split("\\s+");
+            index.put(tokens[0], Set.of(Arrays.copyOfRange(tokens, 1, tokens.length)));
+        }
+        return index;
+    }
+
+    private String readStylesheet(String name) {
+        String path = basePath + name + ".css";
+        try (InputStream in = theme.getClass().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("Stylesheet not found: " + path);
+            }
+            return new String(in.readAllBytes(), UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void collectSelectors(Node node, Set<String> selectors) {
+        addSelectors(node.getTypeSelector(), node.getStyleClass(), selectors);
+
+        if (node instanceof Control control) {
+            if (control.getTooltip() != null) {
+                addSelectors(control.getTooltip().getTypeSelector(), control.getTooltip().getStyleClass(), selectors);
+            }
+            if (control.getContextMenu() != null) {
+                var menu = control.getContextMenu();
+                addSelectors(menu.getTypeSelector(), menu.getStyleClass(), selectors);
+                menu.getItems().forEach(item -> collectMenuSelectors(item, selectors));
+            }
+        }
+
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                collectSelectors(child, selectors);
+            }
+        }
+    }
+
+    private static void collectMenuSelectors(MenuItem item, Set<String> selectors) {
+        addSelectors(item.getTypeSelector(), item.getStyleClass(), selectors);
+        if (item instanceof Menu menu) {
+            menu.getItems().forEach(child -> collectMenuSelectors(child, selectors));
+        }
+    }
+
+    private static void addSelectors(@Nullable String type, List<String> styleClasses, Set<String> selectors) {
+        if (type != null) {
+            selectors.add(type);
+        }
+        for (String styleClass : styleClasses) {
+            selectors.add("." + styleClass);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.util.Base64;
 import java.util.Objects;
+import java.util.function.Consumer;
 import javafx.css.PseudoClass;
 import javafx.scene.Node;
 import javafx.scene.control.TabPane;
@@ -212,6 +213,7 @@ public final class Styles {
      * Appends CSS style declaration to the specified node.
      * There's no check for duplicates, so the CSS declarations with the same property
      * name can be appended multiple times.
+     * Use {@link #edit(Node, Consumer)} to set multiple properties at once.
      *
      * @param node  The node to append the new style declaration.
      * @param prop  The CSS property name.
@@ -243,7 +245,6 @@ public final class Styles {
      * @param prop The name of the style property to remove.
      * @throws NullPointerException if node is null
      */
-    @SuppressWarnings("StringSplitter")
     public static void removeStyle(Node node, String prop) {
         if (node == null) {
             throw new NullPointerException("Node cannot be null!");
@@ -259,18 +260,42 @@ public final class Styles {
             return;
         }
 
-        String[] stylePairs = currentStyle.split(";");
-        var newStyle = new StringBuilder();
+        var style = InlineStyle.of(node);
+        style.remove(prop);
+        style.commit();
+    }
 
-        for (var s : stylePairs) {
-            String[] styleParts = s.split(":");
-            if (!styleParts[0].trim().equals(prop)) {
-                newStyle.append(s);
-                newStyle.append(";");
-            }
+    /**
+     * Applies a batch of inline style changes to the specified node. The node style
+     * is parsed once into the {@link InlineStyle} model (which is cached in the node
+     * properties), and all the changes are written back with a single
+     * {@code setStyle()} call, if the resulting style differs from the current one.
+     *
+     * <pre>{@code
+     * Styles.edit(node, s -> s
+     *     .set("-fx-background-color", "-color-bg-subtle")
+     *     .set("-fx-text-fill", "-color-fg-muted")
+     * );
+     * }</pre>
+     *
+     * <p>Unlike {@link #appendStyle(Node, String, String)}, setting the existing
+     * property replaces its value instead of adding a duplicate declaration.
+     *
+     * @param node   The target node.
+     * @param editor The function that modifies the node style.
+     * @throws NullPointerException if node or editor is null
+     */
+    public static void edit(Node node, Consumer<InlineStyle> editor) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null!");
+        }
+        if (editor == null) {
+            throw new NullPointerException("Editor cannot be null!");
         }
 
-        node.setStyle(newStyle.toString());
+        var style = InlineStyle.of(node);
+        editor.accept(style);
+        style.commit();
     }
 
     /**
@@ -284,6 +309,9 @@ public final class Styles {
      * node.getStylesheets().remove(dataUri);
      * </pre>
      *
+     * <p>To install a stylesheet that is regenerated frequently, use
+     * the {@link StylesheetRegistry} instead.
+     *
      * @param css The CSS string to encode.
      * @return The resulting data URI string.
      */
@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Objects;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps the parsed stylesheets alive between the windows that use them.
+ *
+ * <p>JavaFX caches parsed stylesheets by their URL string, but only as long as
+ * there's at least one scene or parent that references them. An application that
+ * opens and closes secondary windows (dialogs, detached panels) with the same
+ * scene-level stylesheets re-parses them every time the first of such windows
+ * is opened again. {@link #retain(String)} pins the stylesheet to the hidden
+ * anchor scene, so JavaFX keeps its parsed copy even when no window uses it.
+ * The method returns the canonical stylesheet URL, which must be used for all
+ * scenes, because JavaFX matches stylesheets by the exact URL string.
+ *
+ * <pre>{@code
+ * String url = StylesheetCache.retain("/com/example/overrides.css");
+ * dialogScene.getStylesheets().add(url);
+ * }</pre>
+ *
+ * <p>Pinned stylesheets are never reloaded automatically and stay in memory
+ * until they're released with {@link #invalidate(String)}, e.g. the stylesheets
+ * of the previous theme on theme change.
+ */
+public final class StylesheetCache {
+
+    private static @Nullable Scene anchorScene;
+
+    private StylesheetCache() {
+        // Default constructor
+    }
+
+    /**
+     * Pins the stylesheet to the hidden anchor scene, so that JavaFX parses it
+     * only once until it's invalidated, and returns its canonical URL.
+     * This method must be called from the FX thread.
+     *
+     * @param path The stylesheet URL or the classpath resource path.
+     * @return The stylesheet URL to be added to the scene or parent stylesheets.
+     * @throws UncheckedIOException if the stylesheet can't be found
+     */
+    public static String retain(String path) {
+        String url = toURL(path);
+        checkFxThread();
+
+        Scene scene = getAnchorScene();
+        if (!scene.getStylesheets().contains(url)) {
+            scene.getStylesheets().add(url);
+            // force JavaFX to load the stylesheet now
+            scene.getRoot().applyCss();
+        }
+
+        return url;
+    }
+
+    /**
+     * Pins the theme user-agent stylesheet, preferring the binary format,
+     * and returns its canonical URL. See {@link #retain(String)}.
+     */
+    public static String retain(Theme theme) {
+        Objects.requireNonNull(theme, "Theme cannot be null!");
+        return retain(theme.getPreferredUserAgentStylesheet());
+    }
+
+    /**
+     * Returns true if the stylesheet is pinned.
+     * This method must be called from the FX thread.
+     */
+    public static boolean isRetained(String path) {
+        String url = toURL(path);
+        checkFxThread();
+        return anchorScene != null && anchorScene.getStylesheets().contains(url);
+    }
+
+    /**
+     * Unpins the stylesheet, so that JavaFX can drop its parsed copy
+     * when no other scene uses it.
+     * This method must be called from the FX thread.
+     */
+    public static void invalidate(String path) {
+        String url = toURL(path);
+        checkFxThread();
+        if (anchorScene != null) {
+            anchorScene.getStylesheets().remove(url);
+        }
+    }
+
+    /**
+     * Unpins all stylesheets.
+     * This method must be called from the FX thread.
+     */
+    public static void invalidate() {
+        checkFxThread();
+        if (anchorScene != null) {
+            anchorScene.getStylesheets().clear();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static Scene getAnchorScene() {
+        if (anchorScene == null) {
+            anchorScene = new Scene(new Group());
+        }
+        return anchorScene;
+    }
+
+    // Converts classpath resource path to URL, so that all the callers
+    // would use the same string for the same stylesheet.
+    private static String toURL(String path) {
+        if (path == null) {
+            throw new NullPointerException("Stylesheet path cannot be null!");
+        }
+
+        // already URL, e.g. "file:", "jar:" or "data:"
+        if (path.indexOf(':') > 1) {
+            return path;
+        }
+
+        String resource = path.startsWith("/") ? path : "/" + path;
+        URL url = Theme.class.getResource(resource);
+        if (url == null && Thread.currentThread().getContextClassLoader() != null) {
+            // the resource belongs to the application module
+            url = Thread.currentThread().getContextClassLoader().getResource(resource.substring(1));
+        }
+        if (url == null) {
+            throw new UncheckedIOException(new MalformedURLException("Stylesheet not found: " + path));
+        }
+        return url.toExternalForm();
+    }
+
+    private static void checkFxThread() {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("Not on FX application thread; currentThread = "
+                + Thread.currentThread().getName());
+        }
+    }
+}
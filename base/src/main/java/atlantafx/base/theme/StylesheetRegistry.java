@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javafx.collections.ObservableMap;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A content-addressed registry of the generated (inline) stylesheets.
+ *
+ * <p>JavaFX caches parsed stylesheets by URL, so adding a data URI with a new
+ * content forces it to parse the stylesheet and to restyle the whole scene graph
+ * below the stylesheet owner. This class hashes the CSS content and hands out
+ * the same data URI for the same content, so that the encoding is done once
+ * per content and unchanged stylesheets are never re-added.
+ *
+ * <p>The common use case is a generated stylesheet that is updated on user
+ * actions, like the font size or accent color change. Such a stylesheet is
+ * installed into the named slot of a scene or parent:
+ *
+ * <pre>{@code
+ * StylesheetRegistry.setStylesheet(scene.getRoot(), "user-custom", css);
+ * }</pre>
+ *
+ * <p>The slot remembers the installed content hash, so setting the same content
+ * again doesn't touch the stylesheets list at all. If the content has changed,
+ * the old URI is replaced with the new one in place. Registry entries are
+ * reference-counted and dropped when they're no longer used by any slot.
+ */
+public final class StylesheetRegistry {
+
+    private static final String SLOTS_KEY = "atlantafx.stylesheet-slots";
+    private static final Map<String, Entry> ENTRIES = new HashMap<>(); // hash | entry
+    private static final Map<String, Entry> URIS = new HashMap<>(); // data URI | entry
+
+    private StylesheetRegistry() {
+        // Default constructor
+    }
+
+    /**
+     * Returns the data URI for the given CSS content and increments its reference
+     * count. Every call must be paired with the {@link #release(String)} call.
+     *
+     * @param css The CSS string to register.
+     * @return The data URI, which is the same for the same CSS content.
+     * @throws NullPointerException if css is null
+     */
+    public static String acquire(String css) {
+        if (css == null) {
+            throw new NullPointerException("CSS string cannot be null!");
+        }
+
+        return acquireEntry(hash(css), css).uri;
+    }
+
+    /**
+     * Decrements the reference count of the given data URI and removes it from
+     * the registry, if it's no longer used. Unknown URIs are ignored.
+     */
+    public static void release(String uri) {
+        if (uri == null) {
+            return;
+        }
+
+        synchronized (ENTRIES) {
+            Entry entry = URIS.get(uri);
+            if (entry != null && --entry.refCount <= 0) {
+                URIS.remove(uri);
+                ENTRIES.remove(entry.hash);
+            }
+        }
+    }
+
+    /**
+     * Installs the CSS content into the named stylesheet slot of the given parent.
+     * If the slot already contains the same content, this method does nothing.
+     * Passing null content removes the slot stylesheet.
+     *
+     * @param parent The stylesheet owner.
+     * @param slot   The slot name, which is unique per owner.
+     * @param css    The CSS string or null.
+     * @return True if the parent stylesheets list has been modified.
+     * @throws NullPointerException if parent or slot is null
+     */
+    public static boolean setStylesheet(Parent parent, String slot, @Nullable String css) {
+        if (parent == null) {
+            throw new NullPointerException("Parent cannot be null!");
+        }
+        return updateSlot(parent.getProperties(), parent.getStylesheets(), slot, css);
+    }
+
+    /**
+     * Installs the CSS content into the named stylesheet slot of the given scene.
+     * See {@link #setStylesheet(Parent, String, String)}.
+     *
+     * @param scene The stylesheet owner.
+     * @param slot  The slot name, which is unique per owner.
+     * @param css   The CSS string or null.
+     * @return True if the scene stylesheets list has been modified.
+     * @throws NullPointerException if scene or slot is null
+     */
+    public static boolean setStylesheet(Scene scene, String slot, @Nullable String css) {
+        if (scene == null) {
+            throw new NullPointerException("Scene cannot be null!");
+        }
+        return updateSlot(scene.getProperties(), scene.getStylesheets(), slot, css);
+    }
+
+    /**
+     * Returns the number of registered stylesheets.
+     */
+    public static int size() {
+        synchronized (ENTRIES) {
+            return ENTRIES.size();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    @SuppressWarnings("unchecked")
+    private static boolean updateSlot(ObservableMap<Object, Object> properties,
+                                      List<String> stylesheets,
+                                      String slot,
+                                      @Nullable String css) {
+        Objects.requireNonNull(slot, "Slot cannot be null!");
+
+        var slots = (Map<String, Entry>) properties.computeIfAbsent(SLOTS_KEY, k -> new HashMap<String, Entry>());
+        Entry current = slots.get(slot);
+
+        if (css == null) {
+            if (current == null) {
+                return false;
+            }
+            slots.remove(slot);
+            stylesheets.remove(current.uri);
+            release(current.uri);
+            return true;
+        }
+
+        String hash = hash(css);
+
+        // the stylesheet may have been removed from the list manually
+        if (current != null && current.hash.equals(hash) && stylesheets.contains(current.uri)) {
+            return false;
+        }
+
+        Entry entry = acquireEntry(hash, css);
+        String uri = entry.uri;
+        slots.put(slot, entry);
+
+        int idx = current != null ? stylesheets.indexOf(current.uri) : -1;
+        if (idx >= 0) {
+            // replace in place to preserve the stylesheets order
+            // and to fire a single list change
+            stylesheets.set(idx, uri);
+        } else {
+            stylesheets.add(uri);
+        }
+
+        if (current != null) {
+            release(current.uri);
+        }
+
+        return true;
+    }
+
+    private static Entry acquireEntry(String hash, String css) {
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(hash);
+            if (entry == null) {
+                entry = new Entry(hash, Styles.toDataURI(css));
+                ENTRIES.put(hash, entry);
+                URIS.put(entry.uri, entry);
+            }
+            entry.refCount++;
+            return entry;
+        }
+    }
+
+    private static String hash(String css) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(css.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory for every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        final String hash;
+        final String uri;
+        int refCount = 0;
+
+        Entry(String hash, String uri) {
+            this.hash = hash;
+            this.uri = uri;
+        }
+    }
+}
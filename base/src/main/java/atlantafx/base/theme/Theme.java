@@ -80,4 +80,43 @@ public interface Theme {
         return STYLESHEET_MODENA.equals(getUserAgentStylesheet())
             || STYLESHEET_CASPIAN.equals(getUserAgentStylesheet());
     }
+
+    /**
+     * Returns the path to the user-agent stylesheet that is the fastest to load.
+     * That's the binary (BSS) stylesheet, if the theme provides one and it can be
+     * found, otherwise the text (CSS) stylesheet. Loading BSS skips CSS parsing
+     * entirely, which noticeably reduces the application startup time.
+     */
+    default String getPreferredUserAgentStylesheet() {
+        String bss = getUserAgentStylesheetBSS();
+        return bss != null && isStylesheetAvailable(getClass(), bss) ? bss : getUserAgentStylesheet();
+    }
+
+    /**
+     * Sets the theme as the application user-agent stylesheet. It's a shortcut for
+     * the {@link Application#setUserAgentStylesheet(String)} call, that prefers
+     * the binary stylesheet. See {@link #getPreferredUserAgentStylesheet()}.
+     *
+     * <pre>{@code
+     * new PrimerLight().apply();
+     * }</pre>
+     */
+    default void apply() {
+        Application.setUserAgentStylesheet(getPreferredUserAgentStylesheet());
+    }
+
+    /**
+     * Checks whether the stylesheet can be loaded. Stylesheets that are
+     * specified as the URL are always considered available, while the plain
+     * paths are resolved as a classpath resource relative to the given class.
+     */
+    private static boolean isStylesheetAvailable(Class<?> cls, String path) {
+        // any URL, e.g. "file:", "jar:" or "data:"
+        if (path.indexOf(':') > 1) {
+            return true;
+        }
+
+        String resource = path.startsWith("/") ? path : "/" + path;
+        return cls.getResource(resource) != null || Theme.class.getResource(resource) != null;
+    }
 }
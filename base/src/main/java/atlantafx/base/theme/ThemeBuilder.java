@@ -0,0 +1,315 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import javafx.css.Stylesheet;
+import javafx.scene.paint.Color;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Derives a new theme from the existing one by overriding its color variables,
+ * without recompiling the theme from SASS sources.
+ *
+ * <p>The derived theme user-agent stylesheet is a compact stylesheet that imports
+ * the base theme and overrides the {@code .root} color variables. The accent color
+ * scale can be computed from a single seed color:
+ *
+ * <pre>{@code
+ * Theme theme = new ThemeBuilder(new PrimerLight())
+ *     .setName("ACME Light")
+ *     .setAccentColor(Color.web("#c4432b"))
+ *     .setColor("-color-bg-default", Color.web("#fffaf7"))
+ *     .setCacheDir(Path.of(System.getProperty("user.home"), ".acme", "themes"))
+ *     .build();
+ * theme.apply();
+ * }</pre>
+ *
+ * <p>If the cache directory is specified, the stylesheet is saved there and
+ * precompiled to BSS. Both files are named after the hash of the stylesheet and
+ * the base theme stylesheet content, because the base theme is compiled into
+ * the same BSS file. So the same color set is only compiled once per base theme
+ * version, and different color sets (e.g. per-tenant branding) don't interfere
+ * with each other. Otherwise, the stylesheet is returned as the data URI.
+ */
+public final class ThemeBuilder {
+
+    /**
+     * The index of the seed color in the derived color scale.
+     */
+    public static final int SEED_INDEX = 5;
+
+    // how much the seed color is mixed with white (for lighter) or black
+    // (for darker) shades, the seed color itself is in the middle
+    private static final double[] SCALE_MIX = {0.85, 0.7, 0.5, 0.3, 0.15, 0, 0.15, 0.3, 0.45, 0.6};
+
+    private final Theme base;
+    private final Map<String, Color> accentColors = new LinkedHashMap<>();
+    private final Map<String, Color> colors = new LinkedHashMap<>();
+    private String name;
+    private @Nullable Path cacheDir;
+
+    /**
+     * Creates a builder for the theme derived from the given theme.
+     *
+     * @param base The base theme.
+     */
+    public ThemeBuilder(Theme base) {
+        this.base = Objects.requireNonNull(base, "Base theme cannot be null!");
+        this.name = base.getName();
+    }
+
+    /**
+     * Sets the derived theme name. By default, that's the base theme name.
+     */
+    public ThemeBuilder setName(String name) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null!");
+        return this;
+    }
+
+    /**
+     * Overrides the given color variable, e.g. "-color-bg-default".
+     * Passing null color removes the override.
+     *
+     * @throws IllegalArgumentException if the name isn't a color variable
+     */
+    public ThemeBuilder setColor(String name, @Nullable Color color) {
+        Objects.requireNonNull(name, "Color name cannot be null!");
+        if (!name.startsWith("-color-")) {
+            throw new IllegalArgumentException("Color variable name must start with '-color-': " + name);
+        }
+
+        if (color != null) {
+            colors.put(name, color);
+        } else {
+            colors.remove(name);
+        }
+        return this;
+    }
+
+    /**
+     * Overrides all given color variables. See {@link #setColor(String, Color)}.
+     */
+    public ThemeBuilder setColors(Map<String, Color> colors) {
+        Objects.requireNonNull(colors, "Colors cannot be null!");
+        colors.forEach(this::setColor);
+        return this;
+    }
+
+    /**
+     * Derives the accent color scale and the accent functional variables from
+     * the given seed color. The explicitly set colors take precedence over the
+     * derived ones. Passing null color removes the accent override.
+     */
+    public ThemeBuilder setAccentColor(@Nullable Color seed) {
+        accentColors.clear();
+        if (seed == null) {
+            return this;
+        }
+
+        Color[] scale = deriveScale(seed);
+        for (int i = 0; i < scale.length; i++) {
+            accentColors.put("-color-accent-" + i, scale[i]);
+        }
+
+        if (base.isDarkMode()) {
+            accentColors.put("-color-accent-fg", scale[3]);
+            accentColors.put("-color-accent-emphasis", scale[SEED_INDEX]);
+            accentColors.put("-color-accent-muted", withOpacity(scale[4], 0.4));
+            accentColors.put("-color-accent-subtle", withOpacity(scale[4], 0.15));
+        } else {
+            accentColors.put("-color-accent-fg", scale[SEED_INDEX]);
+            accentColors.put("-color-accent-emphasis", scale[SEED_INDEX]);
+            accentColors.put("-color-accent-muted", withOpacity(scale[3], 0.4));
+            accentColors.put("-color-accent-subtle", scale[0]);
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets the directory to save the derived stylesheets to. If it's specified,
+     * the stylesheet is also precompiled to BSS.
+     */
+    public ThemeBuilder setCacheDir(@Nullable Path cacheDir) {
+        this.cacheDir = cacheDir;
+        return this;
+    }
+
+    /**
+     * Returns the override stylesheet, that is the color variables only,
+     * without the base theme import.
+     */
+    public String buildOverrides() {
+        var sb = new StringBuilder(".root {\n");
+
+        var all = new LinkedHashMap<>(accentColors);
+        all.putAll(colors);
+        all.forEach((k, v) -> sb.append("  ").append(k).append(": ").append(toHex(v)).append(";\n"));
+
+        return sb.append("}\n").toString();
+    }
+
+    /**
+     * Builds the derived theme.
+     *
+     * @throws UncheckedIOException if the base theme stylesheet can't be found
+     *                              or the derived stylesheet can't be saved to the cache directory
+     */
+    public Theme build() {
+        String baseURL = getBaseURL();
+        String css = "@import url(\"" + baseURL + "\");\n\n" + buildOverrides();
+
+        if (cacheDir == null) {
+            return new DerivedTheme(name, Styles.toDataURI(css), null, base.isDarkMode());
+        }
+
+        try {
+            // the base stylesheet can change behind the same URL, e.g. after the library
+            // upgrade, so its content is a part of the cache key as well
+            String hash = hash(css, readBase(baseURL));
+            Path cssFile = cacheDir.resolve(hash + ".css");
+            Path bssFile = cacheDir.resolve(hash + ".bss");
+
+            if (!Files.exists(bssFile)) {
+                Files.createDirectories(cacheDir);
+                writeAtomically(cssFile, css);
+
+                // compile to the temp file first, so that the concurrent
+                // build couldn't read the incomplete BSS file
+                Path tmp = Files.createTempFile(cacheDir, hash, ".tmp");
+                try {
+                    Stylesheet.convertToBinary(cssFile.toFile(), tmp.toFile());
+                    Files.move(tmp, bssFile, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+
+            return new DerivedTheme(
+                name, cssFile.toUri().toString(), bssFile.toUri().toString(), base.isDarkMode()
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // returns ten shades from the lightest to the darkest one,
+    // with the seed color at the SEED_INDEX position
+    static Color[] deriveScale(Color seed) {
+        var scale = new Color[SCALE_MIX.length];
+        for (int i = 0; i < SCALE_MIX.length; i++) {
+            Color target = i < SEED_INDEX ? Color.WHITE : Color.BLACK;
+            scale[i] = seed.interpolate(target, SCALE_MIX[i]);
+        }
+        return scale;
+    }
+
+    private String getBaseURL() {
+        String path = base.getUserAgentStylesheet();
+
+        // any URL, e.g. "file:", "jar:" or "data:"
+        if (path.indexOf(':') > 1) {
+            return path;
+        }
+
+        String resource = path.startsWith("/") ? path : "/" + path;
+        URL url = base.getClass().getResource(resource);
+        if (url == null) {
+            url = Theme.class.getResource(resource);
+        }
+        if (url == null) {
+            throw new UncheckedIOException(new IOException("Base theme stylesheet not found: " + path));
+        }
+        return url.toExternalForm();
+    }
+
+    private static Color withOpacity(Color color, double opacity) {
+        return Color.color(color.getRed(), color.getGreen(), color.getBlue(), opacity);
+    }
+
+    private static String toHex(Color color) {
+        return String.format(Locale.ROOT, "#%02x%02x%02x%02x",
+            Math.round(color.getRed() * 255),
+            Math.round(color.getGreen() * 255),
+            Math.round(color.getBlue() * 255),
+            Math.round(color.getOpacity() * 255)
+        );
+    }
+
+    private static void writeAtomically(Path file, String content) throws IOException {
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(tmp, content, UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static byte[] readBase(String url) throws IOException {
+        // data URI is the content itself, and it's already a part of the import
+        if (url.startsWith("data:")) {
+            return new byte[0];
+        }
+
+        try (InputStream in = URI.create(url).toURL().openStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    static String hash(String css, byte[] base) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(base);
+            return HexFormat.of().formatHex(digest.digest(css.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory for every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record DerivedTheme(String name,
+                                String userAgentStylesheet,
+                                @Nullable String userAgentStylesheetBSS,
+                                boolean darkMode) implements Theme {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getUserAgentStylesheet() {
+            return userAgentStylesheet;
+        }
+
+        @Override
+        public @Nullable String getUserAgentStylesheetBSS() {
+            return userAgentStylesheetBSS;
+        }
+
+        @Override
+        public boolean isDarkMode() {
+            return darkMode;
+        }
+    }
+}
@@ -2,29 +2,78 @@
 
 package atlantafx.base.theme;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
+import javafx.css.CssParser;
 import javafx.css.Stylesheet;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A lazy man CSS to BSS compiler wrapper.
+ *
+ * <p>Files are converted in parallel. If the hash cache file is specified,
+ * the compiler records the hash of every converted source file, and skips
+ * the files that haven't changed since the last run, as long as their output
+ * file still exists. Every produced BSS file is verified by loading it back.
  */
 public class ThemeCompiler {
 
+    private final int parallelism;
+    private final PrintStream log;
+
+    /**
+     * Creates a compiler that uses all available processors
+     * and prints the report to the standard output.
+     */
+    public ThemeCompiler() {
+        this(Runtime.getRuntime().availableProcessors(), System.out);
+    }
+
+    /**
+     * Creates a compiler with the given number of worker threads.
+     *
+     * @param parallelism The number of files converted concurrently.
+     * @param log         The stream to print the conversion report to.
+     */
+    public ThemeCompiler(int parallelism, PrintStream log) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (log == null) {
+            throw new NullPointerException("Log stream cannot be null!");
+        }
+        this.parallelism = parallelism;
+        this.log = log;
+    }
+
     /**
-     * The main class that accepts exactly one parameter, which is the path to
-     * the source directory to be scanned for CSS files.
+     * The main class that accepts the path to the source directory to be
+     * scanned for CSS files and the optional path to the hash cache file.
      *
      * <p>Usage:
      * <pre>{@code
-     * java ThemeCompiler <path>
+     * java ThemeCompiler <path> [<cache file>]
      * }</pre>
      *
-     * @see #convertToBinary(Path)
+     * @see #convertDirectory(Path, Path)
      */
     public static void main(String[] args) {
         try {
@@ -32,15 +81,16 @@ public class ThemeCompiler {
                 throw new IllegalArgumentException("You must provide the source directory path");
             }
 
-            if (args.length > 1) {
+            if (args.length > 2) {
                 throw new IllegalArgumentException(
                     "Unexpected arguments were found: "
-                        + Arrays.toString(Arrays.copyOfRange(args, 1, args.length))
+                        + Arrays.toString(Arrays.copyOfRange(args, 2, args.length))
                 );
             }
 
             var dir = Paths.get(args[0]);
-            new ThemeCompiler().convertToBinary(dir);
+            var cacheFile = args.length > 1 ? Paths.get(args[1]) : null;
+            new ThemeCompiler().convertDirectory(dir, cacheFile);
         } catch (IOException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
@@ -53,20 +103,7 @@ public class ThemeCompiler {
      * @throws IOException to punish you for using Java
      */
     public void convertToBinary(Path dir) throws IOException {
-        if (dir == null || !Files.exists(dir) || !Files.isDirectory(dir)) {
-            throw new IllegalArgumentException("Invalid directory: " + dir);
-        }
-
-        try (Stream<Path> stream = Files.list(dir)) {
-            stream.filter(f -> f.toString().endsWith(".css"))
-                .forEach(f -> {
-                    try {
-                        convertToBinary(f, f.resolveSibling(getFilename(f) + ".bss"));
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-        }
+        convertDirectory(dir, null);
     }
 
     /**
@@ -89,8 +126,186 @@ public class ThemeCompiler {
         Stylesheet.convertToBinary(in.toFile(), out.toFile());
     }
 
+    /**
+     * Converts all changed CSS files in the specified directory to BSS.
+     * Source file hashes are read from and written to the given cache file.
+     * If the cache file is null, all files are converted.
+     *
+     * @param dir       The source directory to scan for CSS files.
+     * @param cacheFile The file to store the source file hashes.
+     * @return The conversion results in the directory listing order.
+     * @throws IOException if any file can't be converted or verified
+     */
+    public List<Result> convertDirectory(Path dir, @Nullable Path cacheFile) throws IOException {
+        if (dir == null || !Files.exists(dir) || !Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("Invalid directory: " + dir);
+        }
+
+        List<Path> sources;
+        try (Stream<Path> stream = Files.list(dir)) {
+            sources = stream.filter(f -> f.toString().endsWith(".css")).sorted().toList();
+        }
+
+        var hashes = loadHashes(cacheFile);
+        long startTime = System.nanoTime();
+
+        List<Result> results;
+        var pool = new ForkJoinPool(parallelism);
+        try {
+            results = pool.submit(() -> sources.parallelStream()
+                .map(f -> convertIfChanged(f, f.resolveSibling(getFilename(f) + ".bss"), hashes))
+                .toList()
+            ).get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            pool.shutdown();
+        }
+
+        IOException failure = null;
+        for (Result result : results) {
+            if (result.error() != null) {
+                hashes.remove(result.source().getFileName().toString());
+                if (failure == null) {
+                    failure = new IOException("Failed to compile theme: " + result.source());
+                }
+                failure.addSuppressed(result.error());
+            } else {
+                hashes.setProperty(result.source().getFileName().toString(), result.hash());
+            }
+        }
+
+        saveHashes(cacheFile, hashes);
+        printReport(results, System.nanoTime() - startTime);
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return results;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private Result convertIfChanged(Path in, Path out, Properties hashes) {
+        long startTime = System.nanoTime();
+        String hash = null;
+
+        try {
+            hash = hash(in);
+            if (hash.equals(hashes.getProperty(in.getFileName().toString())) && Files.exists(out)) {
+                return new Result(in, out, hash, true, 0, Files.size(in), Files.size(out), null);
+            }
+
+            convertToBinary(in, out);
+            verify(in, out);
+
+            return new Result(in, out, hash, false, System.nanoTime() - startTime,
+                Files.size(in), Files.size(out), null
+            );
+        } catch (Exception e) {
+            return new Result(in, out, hash, false, System.nanoTime() - startTime, 0, 0, e);
+        }
+    }
+
+    // loads the binary stylesheet back and checks it contains the same rules
+    private void verify(Path in, Path out) throws IOException {
+        Stylesheet binary = Stylesheet.loadBinary(out.toUri().toURL());
+        if (binary == null) {
+            throw new IOException("Unable to load BSS file: " + out);
+        }
+
+        Stylesheet source = new CssParser().parse(in.toUri().toURL());
+        if (source.getRules().size() != binary.getRules().size()) {
+            throw new IOException(String.format(
+                "BSS file %s contains %d rules, but %d were expected",
+                out, binary.getRules().size(), source.getRules().size()
+            ));
+        }
+    }
+
+    private void printReport(List<Result> results, long totalTime) {
+        int converted = 0;
+        for (Result r : results) {
+            if (r.error() != null) {
+                log.printf(Locale.ROOT, "  %-32s FAILED: %s%n", r.source().getFileName(), r.error().getMessage());
+            } else if (r.skipped()) {
+                log.printf(Locale.ROOT, "  %-32s up to date%n", r.source().getFileName());
+            } else {
+                converted++;
+                log.printf(Locale.ROOT, "  %-32s %6d ms %8.1f KB -> %8.1f KB%n",
+                    r.source().getFileName(), r.time() / 1_000_000, r.sourceSize() / 1024.0, r.outputSize() / 1024.0
+                );
+            }
+        }
+
+        log.printf(Locale.ROOT, "Compiled %d of %d theme(s) in %d ms using %d thread(s)%n",
+            converted, results.size(), totalTime / 1_000_000, parallelism
+        );
+    }
+
+    private static Properties loadHashes(@Nullable Path cacheFile) throws IOException {
+        var hashes = new Properties();
+        if (cacheFile != null && Files.exists(cacheFile)) {
+            try (InputStream in = Files.newInputStream(cacheFile)) {
+                hashes.load(in);
+            }
+        }
+        return hashes;
+    }
+
+    private static void saveHashes(@Nullable Path cacheFile, Properties hashes) throws IOException {
+        if (cacheFile == null) {
+            return;
+        }
+
+        if (cacheFile.getParent() != null) {
+            Files.createDirectories(cacheFile.getParent());
+        }
+
+        // write to the temp file first, so that the interrupted build
+        // couldn't leave the corrupted cache file
+        Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            hashes.store(out, "ThemeCompiler source hashes");
+        }
+        Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String hash(Path file) throws IOException, NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256");
+        // include compiler version, so that cache is invalidated on JavaFX update
+        digest.update(String.valueOf(Stylesheet.class.getPackage().getImplementationVersion()).getBytes(UTF_8));
+        return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file)));
+    }
+
     private String getFilename(Path f) {
         String name = f.getFileName().toString();
         return name.substring(0, name.lastIndexOf('.'));
     }
+
+    /**
+     * The result of a single file conversion.
+     *
+     * @param source     The source CSS file.
+     * @param output     The output BSS file.
+     * @param hash       The source file hash or null, if it couldn't be read.
+     * @param skipped    Whether the conversion was skipped, because the source hasn't changed.
+     * @param time       The conversion time in nanoseconds, including verification.
+     * @param sourceSize The source file size in bytes.
+     * @param outputSize The output file size in bytes.
+     * @param error      The conversion error or null, if it succeeded.
+     */
+    public record Result(Path source,
+                         Path output,
+                         @Nullable String hash,
+                         boolean skipped,
+                         long time,
+                         long sourceSize,
+                         long outputSize,
+                         @Nullable Exception error) {
+    }
 }
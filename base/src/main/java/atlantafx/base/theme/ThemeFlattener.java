@@ -0,0 +1,243 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the looked-up color chains of the compiled theme stylesheets
+ * at build time.
+ *
+ * <p>Theme rules don't use literal colors, but refer to the color variables
+ * defined in the {@code .root} rule, e.g. {@code -color-base-1}. JavaFX resolves
+ * every such reference for every styled node on each CSS pass, by walking up
+ * the scene graph to the node that defines it. The flattener replaces references
+ * to the static root variables with their literal values, so that there is
+ * nothing to look up. Only the variables that match the keep pattern are left
+ * as lookups, so that they could still be overridden at runtime. By default,
+ * that's the functional variables (like {@code -color-fg-default}) and the accent
+ * color scale, which is used to change the accent color.
+ *
+ * <p>The variables definitions are never removed from the {@code .root} rule,
+ * so that application stylesheets could still use them, but overriding
+ * an inlined variable at runtime has no effect on the theme rules.
+ * A variable is only inlined if it's defined once, in the {@code .root} rule,
+ * and its value doesn't depend on the kept variables.
+ */
+public class ThemeFlattener {
+
+    /**
+     * The default pattern of the variables that are kept as lookups.
+     */
+    public static final Pattern DEFAULT_KEEP_PATTERN = Pattern.compile(
+        "-color-(fg|bg|border|shadow|neutral)-[\\w-]+"
+            + "|-color-(accent|success|warning|danger)-(fg|emphasis|muted|subtle)"
+            + "|-color-accent-\\d"
+    );
+
+    private static final Pattern RULE = Pattern.compile("([^{}]+)\\{([^{}]*)}");
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    // color variable reference, but not the property name
+    private static final Pattern REFERENCE = Pattern.compile("(?<![\\w-])-color-[\\w-]+(?![\\w-])(?!\\s*:)");
+
+    private final Pattern keepPattern;
+    private final PrintStream log;
+
+    /**
+     * Creates a flattener that keeps the variables matching
+     * the {@link #DEFAULT_KEEP_PATTERN} and prints the report to the standard output.
+     */
+    public ThemeFlattener() {
+        this(DEFAULT_KEEP_PATTERN, System.out);
+    }
+
+    /**
+     * Creates a flattener with the given keep pattern.
+     *
+     * @param keepPattern The pattern of the variables that have to be kept as lookups.
+     * @param log         The stream to print the report to.
+     */
+    public ThemeFlattener(Pattern keepPattern, PrintStream log) {
+        if (keepPattern == null) {
+            throw new NullPointerException("Keep pattern cannot be null!");
+        }
+        if (log == null) {
+            throw new NullPointerException("Log stream cannot be null!");
+        }
+        this.keepPattern = keepPattern;
+        this.log = log;
+    }
+
+    /**
+     * The main class that accepts the path to the directory to be scanned
+     * for the theme CSS files and the optional keep pattern.
+     * Files are modified in place.
+     *
+     * <p>Usage:
+     * <pre>{@code
+     * java ThemeFlattener <path> [<keep pattern>]
+     * }</pre>
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length < 1) {
+                throw new IllegalArgumentException("You must provide the source directory path");
+            }
+
+            if (args.length > 2) {
+                throw new IllegalArgumentException(
+                    "Unexpected arguments were found: "
+                        + Arrays.toString(Arrays.copyOfRange(args, 2, args.length))
+                );
+            }
+
+            var flattener = args.length > 1
+                ? new ThemeFlattener(Pattern.compile(args[1]), System.out)
+                : new ThemeFlattener();
+            flattener.flattenDirectory(Paths.get(args[0]));
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Flattens all CSS files in the specified directory in place.
+     *
+     * @param dir The source directory to scan for CSS files.
+     * @throws IOException if any file can't be read or written
+     */
+    public void flattenDirectory(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir) || !Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("Invalid directory: " + dir);
+        }
+
+        List<Path> sources;
+        try (Stream<Path> stream = Files.list(dir)) {
+            sources = stream.filter(f -> f.toString().endsWith(".css")).sorted().toList();
+        }
+
+        for (Path source : sources) {
+            String css = Files.readString(source, UTF_8);
+            int[] count = {0};
+            String result = flatten(css, count);
+            if (count[0] > 0) {
+                Files.writeString(source, result, UTF_8);
+            }
+            log.printf(Locale.ROOT, "  %-32s %d reference(s) inlined%n", source.getFileName(), count[0]);
+        }
+    }
+
+    /**
+     * Returns the given stylesheet with references to the static root
+     * variables replaced by their values.
+     *
+     * @param css The CSS string.
+     */
+    public String flatten(String css) {
+        return flatten(css, new int[1]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private String flatten(String css, int[] count) {
+        Map<String, String> values = resolveStaticVariables(css);
+        if (values.isEmpty()) {
+            return css;
+        }
+
+        // comments are copied as is, only the code between them is modified
+        var sb = new StringBuilder(css.length());
+        Matcher comment = COMMENT.matcher(css);
+        int start = 0;
+        while (comment.find()) {
+            sb.append(inline(css.substring(start, comment.start()), values, count));
+            sb.append(comment.group());
+            start = comment.end();
+        }
+        sb.append(inline(css.substring(start), values, count));
+
+        return sb.toString();
+    }
+
+    // returns literal values of the root variables that can be inlined
+    private Map<String, String> resolveStaticVariables(String css) {
+        Map<String, String> rootValues = new HashMap<>();
+        Set<String> excluded = new HashSet<>();
+
+        Matcher rule = RULE.matcher(COMMENT.matcher(css).replaceAll(""));
+        while (rule.find()) {
+            boolean isRoot = ".root".equals(rule.group(1).strip());
+            InlineStyle.parse(rule.group(2)).forEach((property, value) -> {
+                if (!property.startsWith("-color-")) {
+                    return;
+                }
+                // defined more than once or in a non-root rule, which is scoped to some nodes
+                if (!isRoot || rootValues.containsKey(property) || keepPattern.matcher(property).matches()) {
+                    excluded.add(property);
+                } else {
+                    rootValues.put(property, value);
+                }
+            });
+        }
+        excluded.forEach(rootValues::remove);
+
+        Map<String, String> resolved = new HashMap<>();
+        for (String name : rootValues.keySet()) {
+            resolveVariable(name, rootValues, resolved, new HashSet<>());
+        }
+
+        // a value that still contains lookups depends on the variables that can change
+        resolved.values().removeIf(v -> REFERENCE.matcher(v).find());
+        return resolved;
+    }
+
+    private static String resolveVariable(String name,
+                                          Map<String, String> rootValues,
+                                          Map<String, String> resolved,
+                                          Set<String> visiting) {
+        String value = resolved.get(name);
+        if (value != null) {
+            return value;
+        }
+
+        // unknown variable or a cyclic reference, leave it for JavaFX
+        if (!rootValues.containsKey(name) || !visiting.add(name)) {
+            return name;
+        }
+
+        value = REFERENCE.matcher(rootValues.get(name)).replaceAll(m -> Matcher.quoteReplacement(
+            resolveVariable(m.group(), rootValues, resolved, visiting)
+        ));
+        visiting.remove(name);
+        resolved.put(name, value);
+
+        return value;
+    }
+
+    private static String inline(String code, Map<String, String> values, int[] count) {
+        return REFERENCE.matcher(code).replaceAll(m -> {
+            String value = values.get(m.group());
+            if (value == null) {
+                return m.group();
+            }
+            count[0]++;
+            return Matcher.quoteReplacement(value);
+        });
+    }
+}
@@ -0,0 +1,486 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import atlantafx.base.controls.Card;
+import atlantafx.base.controls.CustomTextField;
+import atlantafx.base.controls.Message;
+import atlantafx.base.controls.Tile;
+import atlantafx.base.controls.ToggleSwitch;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javafx.application.Platform;
+import javafx.css.CompoundSelector;
+import javafx.css.CssParser;
+import javafx.css.Rule;
+import javafx.css.Selector;
+import javafx.css.SimpleSelector;
+import javafx.css.Stylesheet;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Accordion;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.ColorPicker;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.DatePicker;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuBar;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.Pagination;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.RadioButton;
+import javafx.scene.control.Separator;
+import javafx.scene.control.Slider;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.control.TitledPane;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.ToolBar;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+
+/**
+ * Measures the runtime cost of the theme stylesheet.
+ *
+ * <p>The profiler applies the stylesheet to a generated scene graph that contains
+ * a number of instances of every common control, and reports:
+ *
+ * <ul>
+ *     <li>The median {@code applyCss()} time per control type, measured by forcing
+ *     the control container to be restyled.</li>
+ *     <li>The number of selector match attempts and matches per rule, as well as
+ *     the time spent matching. JavaFX doesn't expose its internal matching, so
+ *     the profiler replays it: every node of the styled scene graph is matched
+ *     against every selector, which rightmost part matches the node type, id and
+ *     style classes, because that's how JavaFX partitions selectors.</li>
+ * </ul>
+ *
+ * <p>The timings depend on the machine, but the match attempts count only depends
+ * on the stylesheet and the scene graph, so it can be used to catch regressions
+ * after the SASS sources change. The profiler must be run on the FX thread.
+ *
+ * <pre>{@code
+ * var report = new ThemeProfiler(new PrimerLight()).run();
+ * System.out.println(report.format(20));
+ * }</pre>
+ */
+public final class ThemeProfiler {
+
+    private final String stylesheet;
+    private final Map<String, Supplier<Node>> controls = new LinkedHashMap<>();
+    private int nodeCount = 50;
+    private int iterations = 10;
+
+    /**
+     * Creates a profiler for the theme user-agent stylesheet.
+     */
+    public ThemeProfiler(Theme theme) {
+        this(Objects.requireNonNull(theme, "Theme cannot be null!").getUserAgentStylesheet());
+    }
+
+    /**
+     * Creates a profiler for the given stylesheet.
+     *
+     * @param stylesheet The stylesheet URL or the classpath resource path.
+     */
+    public ThemeProfiler(String stylesheet) {
+        this.stylesheet = Objects.requireNonNull(stylesheet, "Stylesheet cannot be null!");
+        registerDefaultControls();
+    }
+
+    /**
+     * The main class that accepts the stylesheet URL or classpath path and
+     * the optional number of the most expensive rules to report.
+     *
+     * <p>Usage:
+     * <pre>{@code
+     * java ThemeProfiler <stylesheet> [<limit>]
+     * }</pre>
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("You must provide the stylesheet path");
+        }
+
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 25;
+        var result = new CompletableFuture<Report>();
+
+        Platform.startup(() -> {
+            try {
+                result.complete(new ThemeProfiler(args[0]).run());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            System.out.println(result.get().format(limit));
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Sets the number of instances of every control type. Default is 50.
+     */
+    public ThemeProfiler setNodeCount(int nodeCount) {
+        if (nodeCount < 1) {
+            throw new IllegalArgumentException("Node count must be positive: " + nodeCount);
+        }
+        this.nodeCount = nodeCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of measured CSS passes per control type. Default is 10.
+     */
+    public ThemeProfiler setIterations(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Adds the control type to the generated scene graph or replaces
+     * the existing one with the same name.
+     */
+    public ThemeProfiler addControl(String name, Supplier<Node> factory) {
+        Objects.requireNonNull(name, "Name cannot be null!");
+        Objects.requireNonNull(factory, "Factory cannot be null!");
+        controls.put(name, factory);
+        return this;
+    }
+
+    /**
+     * Runs the profiler. This method must be called from the FX thread.
+     */
+    public Report run() {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("Not on FX application thread; currentThread = "
+                + Thread.currentThread().getName());
+        }
+
+        String url = toURL(stylesheet);
+        Stylesheet parsed = parse(url);
+
+        var containers = new LinkedHashMap<String, Pane>();
+        var root = new VBox();
+        controls.forEach((name, factory) -> {
+            var container = new FlowPane();
+            for (int i = 0; i < nodeCount; i++) {
+                container.getChildren().add(factory.get());
+            }
+            containers.put(name, container);
+            root.getChildren().add(container);
+        });
+
+        var scene = new Scene(root, 1024, 768);
+        // use the scene user-agent stylesheet to isolate the profiled
+        // stylesheet from the application theme
+        scene.setUserAgentStylesheet(url);
+        root.applyCss();
+
+        var controlCosts = new ArrayList<ControlCost>();
+        containers.forEach((name, container) -> controlCosts.add(
+            new ControlCost(name, countNodes(container), measureCss(container))
+        ));
+        controlCosts.sort(Comparator.comparingDouble(ControlCost::cssTime).reversed());
+
+        var nodes = new ArrayList<Node>();
+        collectNodes(root, nodes);
+        List<RuleCost> ruleCosts = matchRules(parsed, nodes);
+
+        return new Report(url, controlCosts, ruleCosts);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // replays selector matching for every node and returns the rules sorted by cost
+    static List<RuleCost> matchRules(Stylesheet stylesheet, Collection<Node> nodes) {
+        var costs = new ArrayList<RuleCost>();
+
+        for (Rule rule : stylesheet.getRules()) {
+            long attempts = 0;
+            long matches = 0;
+            long time = 0;
+
+            for (Selector selector : rule.getSelectors()) {
+                SimpleSelector subject = getSubject(selector);
+                if (subject == null) {
+                    continue;
+                }
+
+                for (Node node : nodes) {
+                    if (!isCandidate(subject, node)) {
+                        continue;
+                    }
+
+                    long start = System.nanoTime();
+                    boolean applies = selector.applies(node);
+                    time += System.nanoTime() - start;
+
+                    attempts++;
+                    if (applies) {
+                        matches++;
+                    }
+                }
+            }
+
+            costs.add(new RuleCost(formatSelectors(rule), attempts, matches, time));
+        }
+
+        costs.sort(Comparator.comparingLong(RuleCost::time).reversed());
+        return costs;
+    }
+
+    private static SimpleSelector getSubject(Selector selector) {
+        if (selector instanceof SimpleSelector s) {
+            return s;
+        }
+        if (selector instanceof CompoundSelector cs && !cs.getSelectors().isEmpty()) {
+            return cs.getSelectors().get(cs.getSelectors().size() - 1);
+        }
+        return null;
+    }
+
+    private static boolean isCandidate(SimpleSelector subject, Node node) {
+        String type = subject.getName();
+        if (!type.isEmpty() && !"*".equals(type) && !type.equals(node.getTypeSelector())) {
+            return false;
+        }
+
+        String id = subject.getId();
+        if (id != null && !id.isEmpty() && !id.equals(node.getId())) {
+            return false;
+        }
+
+        return node.getStyleClass().containsAll(subject.getStyleClasses());
+    }
+
+    private static String formatSelectors(Rule rule) {
+        var sb = new StringBuilder();
+        for (Selector selector : rule.getSelectors()) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(selector);
+        }
+        return sb.toString();
+    }
+
+    // returns median CSS pass time in milliseconds
+    private double measureCss(Pane container) {
+        long[] times = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            // changing the inline style forces the whole subtree to be restyled
+            container.setStyle("-fx-padding: " + (i % 2) + "px;");
+            long start = System.nanoTime();
+            container.applyCss();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[iterations / 2] / 1_000_000.0;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static void collectNodes(Node node, List<Node> nodes) {
+        nodes.add(node);
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                collectNodes(child, nodes);
+            }
+        }
+    }
+
+    private static String toURL(String path) {
+        // any URL, e.g. "file:", "jar:" or "data:"
+        if (path.indexOf(':') > 1) {
+            return path;
+        }
+
+        URL url = Theme.class.getResource(path.startsWith("/") ? path : "/" + path);
+        if (url == null) {
+            throw new UncheckedIOException(new IOException("Stylesheet not found: " + path));
+        }
+        return url.toExternalForm();
+    }
+
+    private static Stylesheet parse(String url) {
+        try {
+            return new CssParser().parse(URI.create(url).toURL());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void registerDefaultControls() {
+        addControl("Button", () -> new Button("Button"));
+        addControl("ToggleButton", () -> new ToggleButton("Toggle"));
+        addControl("CheckBox", () -> new CheckBox("Check"));
+        addControl("RadioButton", () -> new RadioButton("Radio"));
+        addControl("Hyperlink", () -> new Hyperlink("Link"));
+        addControl("Label", () -> new Label("Label"));
+        addControl("TextField", () -> new TextField("Text"));
+        addControl("TextArea", () -> new TextArea("Text"));
+        addControl("ComboBox", () -> new ComboBox<>());
+        addControl("ChoiceBox", () -> new ChoiceBox<>());
+        addControl("Spinner", () -> new Spinner<Integer>(0, 10, 5));
+        addControl("DatePicker", DatePicker::new);
+        addControl("ColorPicker", ColorPicker::new);
+        addControl("Slider", Slider::new);
+        addControl("ProgressBar", () -> new ProgressBar(0.5));
+        addControl("ProgressIndicator", () -> new ProgressIndicator(0.5));
+        addControl("Separator", Separator::new);
+        addControl("MenuButton", () -> new MenuButton("Menu", null, new MenuItem("Item")));
+        addControl("MenuBar", () -> new MenuBar(new Menu("File"), new Menu("Edit")));
+        addControl("ToolBar", () -> new ToolBar(new Button("Button"), new Separator(), new ToggleButton("Toggle")));
+        addControl("TitledPane", () -> new TitledPane("Title", new Label("Content")));
+        addControl("Accordion", () -> new Accordion(new TitledPane("First", null), new TitledPane("Second", null)));
+        addControl("TabPane", () -> new TabPane(new Tab("First"), new Tab("Second")));
+        addControl("SplitPane", () -> new SplitPane(new Pane(), new Pane()));
+        addControl("Pagination", () -> new Pagination(10));
+        addControl("ListView", () -> {
+            var list = new ListView<String>();
+            list.getItems().setAll("One", "Two", "Three", "Four", "Five");
+            list.setPrefHeight(150);
+            return list;
+        });
+        addControl("TreeView", () -> {
+            var treeRoot = new TreeItem<>("Root");
+            treeRoot.setExpanded(true);
+            treeRoot.getChildren().setAll(List.of(
+                new TreeItem<>("One"), new TreeItem<>("Two"), new TreeItem<>("Three")
+            ));
+            var tree = new TreeView<>(treeRoot);
+            tree.setPrefHeight(150);
+            return tree;
+        });
+        addControl("TableView", () -> {
+            var table = new TableView<Label>();
+            var textCol = new TableColumn<Label, String>("Text");
+            textCol.setCellValueFactory(new PropertyValueFactory<>("text"));
+            var idCol = new TableColumn<Label, String>("ID");
+            idCol.setCellValueFactory(new PropertyValueFactory<>("id"));
+            table.getColumns().setAll(List.of(textCol, idCol));
+            table.getItems().setAll(new Label("One"), new Label("Two"), new Label("Three"));
+            table.setPrefHeight(150);
+            return table;
+        });
+        addControl("CustomTextField", () -> new CustomTextField("Text"));
+        addControl("ToggleSwitch", () -> new ToggleSwitch("Switch"));
+        addControl("Card", () -> {
+            var card = new Card();
+            card.setHeader(new Label("Header"));
+            card.setBody(new Label("Body"));
+            return card;
+        });
+        addControl("Tile", () -> new Tile("Title", "Description"));
+        addControl("Message", () -> new Message("Title", "Description"));
+    }
+
+    /**
+     * The CSS pass cost of a single control type.
+     *
+     * @param type    The control type name.
+     * @param nodes   The number of nodes in the control container, including skin nodes.
+     * @param cssTime The median {@code applyCss()} time of the container in milliseconds.
+     */
+    public record ControlCost(String type, int nodes, double cssTime) {
+    }
+
+    /**
+     * The selector matching cost of a single rule.
+     *
+     * @param selector The rule selectors.
+     * @param attempts The number of selector match attempts.
+     * @param matches  The number of successful matches.
+     * @param time     The total matching time in nanoseconds.
+     */
+    public record RuleCost(String selector, long attempts, long matches, long time) {
+    }
+
+    /**
+     * The profiling report.
+     *
+     * @param stylesheet The profiled stylesheet URL.
+     * @param controls   The control costs, the most expensive first.
+     * @param rules      The rule costs, the most expensive first.
+     */
+    public record Report(String stylesheet, List<ControlCost> controls, List<RuleCost> rules) {
+
+        /**
+         * Returns the total number of selector match attempts.
+         */
+        public long getTotalAttempts() {
+            return rules.stream().mapToLong(RuleCost::attempts).sum();
+        }
+
+        /**
+         * Formats the report as plain text.
+         *
+         * @param limit The maximum number of rules to include.
+         */
+        public String format(int limit) {
+            var sb = new StringBuilder();
+            sb.append("Stylesheet: ").append(stylesheet).append("\n\n");
+
+            sb.append(String.format(Locale.ROOT, "%-20s %8s %12s%n", "Control", "Nodes", "CSS pass, ms"));
+            for (ControlCost c : controls) {
+                sb.append(String.format(Locale.ROOT, "%-20s %8d %12.2f%n", c.type(), c.nodes(), c.cssTime()));
+            }
+
+            sb.append(String.format(Locale.ROOT, "%n%10s %10s %10s  %s%n", "Time, us", "Attempts", "Matches", "Rule"));
+            rules.stream().limit(limit).forEach(r -> sb.append(String.format(Locale.ROOT, "%10d %10d %10d  %s%n",
+                r.time() / 1_000, r.attempts(), r.matches(), r.selector()
+            )));
+
+            sb.append(String.format(Locale.ROOT, "%nTotal: %d rules, %d match attempts%n",
+                rules.size(), getTotalAttempts()
+            ));
+
+            return sb.toString();
+        }
+    }
+}
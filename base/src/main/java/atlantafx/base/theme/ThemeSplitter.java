@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javafx.css.CompoundSelector;
+import javafx.css.CssParser;
+import javafx.css.Rule;
+import javafx.css.Selector;
+import javafx.css.SimpleSelector;
+import javafx.css.Stylesheet;
+
+/**
+ * Splits the compiled theme stylesheets into a small core stylesheet and
+ * a set of per-component stylesheets, which can be loaded on demand
+ * with {@link ModularTheme}.
+ *
+ * <p>Every SASS component partial starts with the {@code /*! component: name *&#47;}
+ * marker comment. The core stylesheet contains everything before the first marker,
+ * that is looked-up colors and general rules. For every theme the splitter creates
+ * the {@code modular/<theme name>} directory next to the theme stylesheet:
+ *
+ * <pre>{@code
+ * modular/primer-light/
+ *     core.css
+ *     button.css
+ *     ...
+ *     index.txt
+ * }</pre>
+ *
+ * <p>The index file lists components in the order they appear in the source
+ * stylesheet, which is also the order they have to be concatenated in.
+ * Every line contains the component name followed by the selectors that
+ * make the component required: style classes (prefixed with a dot) and
+ * type selectors.
+ */
+public class ThemeSplitter {
+
+    static final String CORE = "core";
+    static final String INDEX_FILE = "index.txt";
+    static final String MODULAR_DIR = "modular";
+
+    private static final Pattern MARKER = Pattern.compile("/\\*! component: ([\\w-]+) \\*/");
+
+    private final PrintStream log;
+
+    /**
+     * Creates a splitter that prints the report to the standard output.
+     */
+    public ThemeSplitter() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a splitter that prints the report to the given stream.
+     */
+    public ThemeSplitter(PrintStream log) {
+        if (log == null) {
+            throw new NullPointerException("Log stream cannot be null!");
+        }
+        this.log = log;
+    }
+
+    /**
+     * The main class that accepts the path to the directory to be scanned
+     * for the theme CSS files.
+     *
+     * <p>Usage:
+     * <pre>{@code
+     * java ThemeSplitter <path>
+     * }</pre>
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length < 1) {
+                throw new IllegalArgumentException("You must provide the source directory path");
+            }
+
+            if (args.length > 1) {
+                throw new IllegalArgumentException(
+                    "Unexpected arguments were found: "
+                        + Arrays.toString(Arrays.copyOfRange(args, 1, args.length))
+                );
+            }
+
+            new ThemeSplitter().splitDirectory(Paths.get(args[0]));
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Splits all theme CSS files in the specified directory.
+     *
+     * @param dir The source directory to scan for CSS files.
+     * @throws IOException if any file can't be split
+     */
+    public void splitDirectory(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir) || !Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("Invalid directory: " + dir);
+        }
+
+        List<Path> sources;
+        try (Stream<Path> stream = Files.list(dir)) {
+            sources = stream.filter(f -> f.toString().endsWith(".css")).sorted().toList();
+        }
+
+        for (Path source : sources) {
+            String name = source.getFileName().toString();
+            Path outDir = dir.resolve(MODULAR_DIR).resolve(name.substring(0, name.lastIndexOf('.')));
+
+            Map<String, String> parts = split(Files.readString(source, UTF_8));
+            if (parts.size() < 2) {
+                log.printf(Locale.ROOT, "  %-32s no component markers, skipped%n", name);
+                continue;
+            }
+
+            write(outDir, parts);
+            log.printf(Locale.ROOT, "  %-32s %d component(s) -> %s%n", name, parts.size() - 1, outDir);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // returns the core stylesheet followed by the component stylesheets in the source order
+    static Map<String, String> split(String css) {
+        var parts = new LinkedHashMap<String, String>();
+
+        Matcher matcher = MARKER.matcher(css);
+        String current = CORE;
+        int start = 0;
+        while (matcher.find()) {
+            parts.merge(current, css.substring(start, matcher.start()).strip(), (a, b) -> a + "\n" + b);
+            current = matcher.group(1);
+            start = matcher.end();
+        }
+        parts.merge(current, css.substring(start).strip(), (a, b) -> a + "\n" + b);
+
+        return parts;
+    }
+
+    // collects selectors that make the component required, that is the first
+    // simple selector of every rule, except the '.root' which matches any scene
+    static Set<String> getTriggers(String css) {
+        var triggers = new LinkedHashSet<String>();
+
+        Stylesheet stylesheet = new CssParser().parse(css);
+        for (Rule rule : stylesheet.getRules()) {
+            for (Selector selector : rule.getSelectors()) {
+                List<SimpleSelector> simpleSelectors = selector instanceof CompoundSelector cs
+                    ? cs.getSelectors()
+                    : selector instanceof SimpleSelector ss ? List.of(ss) : List.of();
+
+                for (SimpleSelector s : simpleSelectors) {
+                    var styleClasses = new ArrayList<>(s.getStyleClasses());
+                    styleClasses.remove("root");
+
+                    if (!styleClasses.isEmpty()) {
+                        styleClasses.forEach(c -> triggers.add("." + c));
+                        break;
+                    }
+                    if (!s.getName().isEmpty() && !"*".equals(s.getName())) {
+                        triggers.add(s.getName());
+                        break;
+                    }
+                }
+            }
+        }
+
+        return triggers;
+    }
+
+    private void write(Path outDir, Map<String, String> parts) throws IOException {
+        Files.createDirectories(outDir);
+
+        // remove the stylesheets of the components that no longer exist
+        try (Stream<Path> stream = Files.list(outDir)) {
+            for (Path f : stream.toList()) {
+                Files.delete(f);
+            }
+        }
+
+        var index = new StringBuilder();
+        for (Map.Entry<String, String> e : parts.entrySet()) {
+            Files.writeString(outDir.resolve(e.getKey() + ".css"), e.getValue() + "\n", UTF_8);
+            if (!CORE.equals(e.getKey())) {
+                index.append(e.getKey());
+                getTriggers(e.getValue()).forEach(t -> index.append(' ').append(t));
+                index.append('\n');
+            }
+        }
+
+        Files.writeString(outDir.resolve(INDEX_FILE), index.toString(), UTF_8);
+    }
+}
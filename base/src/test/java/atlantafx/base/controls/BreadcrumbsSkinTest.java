@@ -0,0 +1,100 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+public class BreadcrumbsSkinTest {
+
+    @Test
+    public void testReplaceTailKeepsCommonPrefix() {
+        var list = FXCollections.observableArrayList("overflow", "a", "b", "c");
+        var removed = new ArrayList<String>();
+        var added = new ArrayList<String>();
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+                added.addAll(c.getAddedSubList());
+            }
+        });
+
+        BreadcrumbsSkin.replaceTail(list, 1, List.of("a", "b", "d", "e"));
+
+        assertThat(list).containsExactly("overflow", "a", "b", "d", "e");
+        assertThat(removed).containsExactly("c");
+        assertThat(added).containsExactly("d", "e");
+    }
+
+    @Test
+    public void testReplaceTailWithShorterPath() {
+        var list = FXCollections.observableArrayList("overflow", "a", "b", "c");
+        var changes = new ArrayList<ListChangeListener.Change<? extends String>>();
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        BreadcrumbsSkin.replaceTail(list, 1, List.of("a"));
+        assertThat(list).containsExactly("overflow", "a");
+        assertThat(changes).hasSize(1);
+
+        // nothing to do
+        changes.clear();
+        BreadcrumbsSkin.replaceTail(list, 1, List.of("a"));
+        assertThat(changes).isEmpty();
+
+        BreadcrumbsSkin.replaceTail(list, 1, List.of());
+        assertThat(list).containsExactly("overflow");
+    }
+
+    @Test
+    public void testReplaceTailComparesIdentity() {
+        @SuppressWarnings("StringOperationCanBeSimplified")
+        var copy = new String("a");
+        var list = new ArrayList<>(List.of("overflow", "a"));
+
+        BreadcrumbsSkin.replaceTail(list, 1, List.of(copy));
+
+        assertThat(list.get(1)).isSameAs(copy);
+    }
+
+    @Test
+    public void testAllCrumbsFit() {
+        var groups = new double[] {10, 10, 10, 10};
+        var dividers = new double[] {2, 2, 2, 2};
+
+        assertThat(BreadcrumbsSkin.computeHiddenTo(45, 5, 8, groups, dividers)).isZero();
+    }
+
+    @Test
+    public void testTwoCrumbsNeverCollapse() {
+        var groups = new double[] {100, 100};
+        var dividers = new double[] {2, 2};
+
+        assertThat(BreadcrumbsSkin.computeHiddenTo(50, 0, 8, groups, dividers)).isZero();
+    }
+
+    @Test
+    public void testMiddleCrumbsCollapsed() {
+        var groups = new double[] {10, 10, 10, 10, 10};
+        var dividers = new double[] {2, 2, 2, 2, 2};
+
+        // first (10) + overflow (8) + divider (2) + two last crumbs (20) = 40
+        assertThat(BreadcrumbsSkin.computeHiddenTo(40, 0, 8, groups, dividers)).isEqualTo(3);
+        // only the last crumb fits
+        assertThat(BreadcrumbsSkin.computeHiddenTo(39, 0, 8, groups, dividers)).isEqualTo(4);
+        // total width
+        assertThat(BreadcrumbsSkin.computeHiddenTo(50, 0, 8, groups, dividers)).isZero();
+    }
+
+    @Test
+    public void testLastCrumbIsAlwaysShown() {
+        var groups = new double[] {10, 10, 10, 10};
+        var dividers = new double[] {2, 2, 2, 2};
+
+        assertThat(BreadcrumbsSkin.computeHiddenTo(1, 0, 8, groups, dividers)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.base.JavaFXTest;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import javafx.scene.Scene;
+import javafx.scene.control.DateCell;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({JavaFXTest.class})
+public class CalendarSkinTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 5, 10);
+
+    private Calendar calendar;
+    private CalendarSkin skin;
+    private StackPane root;
+
+    @BeforeEach
+    public void setUp() {
+        calendar = new Calendar(DATE);
+        skin = new CalendarSkin(calendar);
+        calendar.setSkin(skin);
+
+        root = new StackPane(calendar);
+        new Scene(root, 400, 800);
+        layout();
+    }
+
+    @Test
+    public void testViewModeSwitchesMonthView() {
+        assertThat(skin.calendarGrid.getParent()).isNotNull();
+        assertThat(skin.monthScroller).isNull();
+
+        calendar.setViewMode(Calendar.ViewMode.CONTINUOUS);
+        layout();
+        assertThat(skin.monthScroller).isNotNull();
+        assertThat(skin.monthScroller.getParent()).isNotNull();
+        assertThat(skin.calendarGrid.getParent()).isNull();
+
+        calendar.setViewMode(Calendar.ViewMode.MONTH);
+        layout();
+        assertThat(skin.calendarGrid.getParent()).isNotNull();
+        assertThat(skin.monthScroller.getParent()).isNull();
+    }
+
+    @Test
+    public void testScrollerShowsDisplayedMonth() {
+        calendar.setViewMode(Calendar.ViewMode.CONTINUOUS);
+        layout();
+
+        var scroller = skin.monthScroller;
+        assertThat(scroller.isMonthVisible(YearMonth.from(DATE))).isTrue();
+        assertThat(scroller.isMonthVisible(YearMonth.from(DATE).minusMonths(1))).isFalse();
+
+        DateCell cell = scroller.findDayCell(DATE);
+        assertThat(cell).isNotNull();
+        assertThat(cell.getItem()).isEqualTo(DATE);
+    }
+
+    @Test
+    public void testScrollingChangesDisplayedMonth() {
+        calendar.setViewMode(Calendar.ViewMode.CONTINUOUS);
+        layout();
+
+        var scroller = skin.monthScroller;
+        double blockHeight = scroller.getBlockHeight();
+        assertThat(blockHeight).isPositive();
+
+        scroller.scrollBy(blockHeight * 2.5);
+        layout();
+        assertThat(skin.displayedYearMonthProperty().get()).isEqualTo(YearMonth.of(2023, 7));
+        assertThat(scroller.isMonthVisible(YearMonth.of(2023, 5))).isFalse();
+
+        scroller.scrollBy(-blockHeight * 2.5);
+        layout();
+        assertThat(skin.displayedYearMonthProperty().get()).isEqualTo(YearMonth.of(2023, 5));
+    }
+
+    @Test
+    public void testMonthBlocksAreRecycled() {
+        calendar.setViewMode(Calendar.ViewMode.CONTINUOUS);
+        layout();
+
+        var scroller = skin.monthScroller;
+        int blockCount = scroller.viewport.getChildren().size();
+        double blockHeight = scroller.getBlockHeight();
+
+        for (int i = 0; i < 24; i++) {
+            scroller.scrollBy(blockHeight);
+            layout();
+        }
+
+        assertThat(skin.displayedYearMonthProperty().get()).isEqualTo(YearMonth.of(2025, 5));
+        assertThat(scroller.viewport.getChildren()).hasSize(blockCount);
+    }
+
+    @Test
+    public void testSelectingVisibleMonthDoesNotScroll() {
+        calendar.setViewMode(Calendar.ViewMode.CONTINUOUS);
+        layout();
+        assertThat(skin.monthScroller.isMonthVisible(YearMonth.of(2023, 6))).isTrue();
+
+        calendar.setValue(LocalDate.of(2023, 6, 15));
+        layout();
+        assertThat(skin.displayedYearMonthProperty().get()).isEqualTo(YearMonth.of(2023, 5));
+
+        calendar.setValue(LocalDate.of(2024, 1, 15));
+        layout();
+        assertThat(skin.displayedYearMonthProperty().get()).isEqualTo(YearMonth.of(2024, 1));
+    }
+
+    private void layout() {
+        root.applyCss();
+        root.layout();
+    }
+}
@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class DayMetadataLoaderTest {
+
+    private static final LocalDate START = LocalDate.of(2023, 5, 1);
+    private static final LocalDate END = LocalDate.of(2023, 6, 11);
+
+    @Test
+    public void testLoadAndCache() {
+        var calls = new AtomicInteger();
+        var loader = new DayMetadataLoader(Runnable::run);
+        Calendar.DayMetadataProvider provider = (start, end) -> {
+            calls.incrementAndGet();
+            return Map.of(start, "first");
+        };
+
+        var loaded = new ArrayList<Map<LocalDate, ?>>();
+        // direct executor completes the request immediately
+        assertThat(loader.get(START, END, provider, Runnable::run, loaded::add)).isNull();
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded.get(0).get(START)).isEqualTo("first");
+
+        Map<LocalDate, ?> cached = loader.get(START, END, provider, Runnable::run, loaded::add);
+        assertThat(cached).isNotNull();
+        assertThat(cached.get(START)).isEqualTo("first");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPendingRequestIsNotRepeated() {
+        var tasks = new ArrayList<Runnable>();
+        Executor deferred = tasks::add;
+        var loader = new DayMetadataLoader(Runnable::run);
+
+        loader.get(START, END, (start, end) -> Map.of(), deferred, m -> { });
+        loader.get(START, END, (start, end) -> Map.of(), deferred, m -> { });
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    public void testInvalidateDiscardsPendingResults() {
+        var tasks = new ArrayList<Runnable>();
+        var loaded = new ArrayList<Map<LocalDate, ?>>();
+        var loader = new DayMetadataLoader(Runnable::run);
+
+        loader.get(START, END, (start, end) -> Map.of(start, 1), tasks::add, loaded::add);
+        loader.invalidate();
+        tasks.forEach(Runnable::run);
+
+        assertThat(loaded).isEmpty();
+        assertThat(loader.size()).isZero();
+    }
+
+    @Test
+    public void testFailedRequestIsCachedAsEmpty() {
+        var loader = new DayMetadataLoader(Runnable::run);
+        List<Map<LocalDate, ?>> loaded = new ArrayList<>();
+
+        loader.get(START, END, (start, end) -> {
+            throw new IllegalStateException("backend is down");
+        }, Runnable::run, loaded::add);
+
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded.get(0)).isEmpty();
+    }
+
+    @Test
+    public void testCacheEviction() {
+        var loader = new DayMetadataLoader(Runnable::run, 2);
+        for (int i = 0; i < 5; i++) {
+            loader.get(START.plusMonths(i), END.plusMonths(i), (start, end) -> Map.of(), Runnable::run, m -> { });
+        }
+        assertThat(loader.size()).isEqualTo(2);
+    }
+}
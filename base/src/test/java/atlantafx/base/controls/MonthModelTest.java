@@ -0,0 +1,64 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.chrono.IsoChronology;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MonthModelTest {
+
+    @BeforeEach
+    public void setUp() {
+        MonthModel.clearCache();
+    }
+
+    @Test
+    public void testGridLayout() {
+        // May 2023 starts on Monday
+        var model = MonthModel.get(YearMonth.of(2023, 5), Locale.UK, IsoChronology.INSTANCE);
+
+        assertThat(model.getDaysPerWeek()).isEqualTo(7);
+        assertThat(model.size()).isEqualTo(MonthModel.MAX_WEEKS * 7);
+        assertThat(model.getDate(0)).isEqualTo(LocalDate.of(2023, 5, 1));
+        assertThat(model.getText(0)).isEqualTo("1");
+        assertThat(model.hasFlag(0, MonthModel.FLAG_PREVIOUS_MONTH)).isFalse();
+        assertThat(model.getDate(31)).isEqualTo(LocalDate.of(2023, 6, 1));
+        assertThat(model.hasFlag(31, MonthModel.FLAG_NEXT_MONTH)).isTrue();
+    }
+
+    @Test
+    public void testFirstDayOfWeekDependsOnLocale() {
+        // US week starts on Sunday
+        var model = MonthModel.get(YearMonth.of(2023, 5), Locale.US, IsoChronology.INSTANCE);
+
+        assertThat(model.getDate(0)).isEqualTo(LocalDate.of(2023, 4, 30));
+        assertThat(model.hasFlag(0, MonthModel.FLAG_PREVIOUS_MONTH)).isTrue();
+        assertThat(model.indexOf(LocalDate.of(2023, 5, 1))).isEqualTo(1);
+        assertThat(model.indexOf(LocalDate.of(2024, 1, 1))).isEqualTo(-1);
+    }
+
+    @Test
+    public void testModelsAreCached() {
+        var ym = YearMonth.of(2023, 5);
+        var model = MonthModel.get(ym, Locale.UK, IsoChronology.INSTANCE);
+
+        assertThat(MonthModel.get(ym, Locale.UK, IsoChronology.INSTANCE)).isSameAs(model);
+        assertThat(MonthModel.get(ym, Locale.US, IsoChronology.INSTANCE)).isNotSameAs(model);
+    }
+
+    @Test
+    public void testPrefetchNeighbours() {
+        var ym = YearMonth.of(2023, 5);
+        MonthModel.prefetch(ym, Locale.UK, IsoChronology.INSTANCE);
+        assertThat(MonthModel.cacheSize()).isEqualTo(2);
+
+        MonthModel.get(ym.plusMonths(1), Locale.UK, IsoChronology.INSTANCE);
+        assertThat(MonthModel.cacheSize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,127 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.base.JavaFXTest;
+import java.util.List;
+import javafx.event.Event;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({JavaFXTest.class})
+public class NotificationCenterTest {
+
+    private NotificationCenter center;
+
+    @BeforeEach
+    public void setUp() {
+        center = new NotificationCenter();
+        center.setDisplayDuration(Duration.INDEFINITE);
+        new Scene(center, 800, 600);
+    }
+
+    @Test
+    public void testMessagesAreQueued() {
+        center.setMaxVisible(2);
+        center.show("first");
+        center.show("second");
+        center.show("third");
+
+        // nothing is displayed until the next pulse
+        assertThat(getNotifications()).isEmpty();
+        assertThat(center.getMessageCount()).isEqualTo(3);
+
+        center.processQueue();
+        assertThat(getNotifications()).extracting(Notification::getMessage).containsExactly("first", "second");
+        assertThat(center.getMessageCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDuplicatesAreCoalesced() {
+        center.show("message");
+        center.show("message");
+        center.show("message", null, "accent");
+
+        center.processQueue();
+        assertThat(getNotifications()).extracting(Notification::getMessage).containsExactly("message (2)", "message");
+        assertThat(center.getMessageCount()).isEqualTo(2);
+
+        // the visible message is coalesced too
+        center.show("message");
+        assertThat(getNotifications().get(0).getMessage()).isEqualTo("message (3)");
+        assertThat(center.getMessageCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testQueueSizeIsLimited() {
+        center.setMaxVisible(1);
+        for (int i = 0; i < NotificationCenter.MAX_QUEUE_SIZE + 5; i++) {
+            center.show(String.valueOf(i));
+        }
+        assertThat(center.getMessageCount()).isEqualTo(NotificationCenter.MAX_QUEUE_SIZE);
+
+        // the oldest messages are dropped
+        center.processQueue();
+        assertThat(getNotifications()).extracting(Notification::getMessage).containsExactly("5");
+    }
+
+    @Test
+    public void testDismissalShowsNextMessage() {
+        center.setMaxVisible(1);
+        center.show("first");
+        center.show("second");
+        center.processQueue();
+
+        Notification first = getNotifications().get(0);
+        first.getOnClose().handle(new Event(Event.ANY));
+
+        // the closed notification is excluded from the stack while the exit animation plays
+        assertThat(first.isManaged()).isFalse();
+        assertThat(center.getMessageCount()).isEqualTo(1);
+
+        center.processQueue();
+        assertThat(getNotifications())
+            .filteredOn(Node::isManaged)
+            .extracting(Notification::getMessage)
+            .containsExactly("second");
+
+        // the closed message isn't coalesced anymore
+        center.show("first");
+        assertThat(center.getMessageCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testClear() {
+        center.setMaxVisible(1);
+        center.show("first");
+        center.show("second");
+        center.processQueue();
+
+        center.clear();
+        assertThat(center.getMessageCount()).isZero();
+        assertThat(getNotifications()).allMatch(n -> !n.isManaged());
+    }
+
+    @Test
+    public void testNotificationIsSizedBeforeEnterAnimation() {
+        center.setPosition(Pos.TOP_RIGHT);
+        center.show("message");
+        center.processQueue();
+
+        // the slide distance is the notification width, it must be known before layout
+        assertThat(getNotifications().get(0).getWidth()).isPositive();
+    }
+
+    private List<Notification> getNotifications() {
+        return center.getChildrenUnmodifiable().stream()
+            .map(Notification.class::cast)
+            .toList();
+    }
+}
@@ -0,0 +1,122 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static atlantafx.base.controls.RotationClockTest.onFxThread;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.base.JavaFXTest;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({JavaFXTest.class})
+public class RingProgressIndicatorSkinTest {
+
+    private Stage stage;
+    private StackPane root;
+    private RingProgressIndicator indicator;
+    private RingProgressIndicatorSkin skin;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        onFxThread(() -> {
+            indicator = new RingProgressIndicator(ProgressIndicator.INDETERMINATE_PROGRESS);
+            skin = new RingProgressIndicatorSkin(indicator);
+            indicator.setSkin(skin);
+            root = new StackPane(indicator);
+
+            stage = new Stage();
+            stage.setScene(new Scene(root, 200, 200));
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        onFxThread(() -> {
+            indicator.setSkin(null);
+            stage.hide();
+        });
+    }
+
+    @Test
+    public void testClockRunsOnlyWhileWindowIsShowing() throws Exception {
+        onFxThread(() -> {
+            assertThat(skin.showingObserver.isShowing()).isFalse();
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            stage.show();
+            assertThat(skin.showingObserver.isShowing()).isTrue();
+            assertThat(RotationClock.isRunning()).isTrue();
+
+            stage.hide();
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            stage.show();
+            assertThat(RotationClock.isRunning()).isTrue();
+        });
+    }
+
+    @Test
+    public void testClockStopsWhenNodeIsRemoved() throws Exception {
+        onFxThread(() -> {
+            stage.show();
+            assertThat(RotationClock.isRunning()).isTrue();
+
+            root.getChildren().remove(indicator);
+            assertThat(skin.showingObserver.isShowing()).isFalse();
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            root.getChildren().add(indicator);
+            assertThat(RotationClock.isRunning()).isTrue();
+        });
+    }
+
+    @Test
+    public void testClockStopsWhenAncestorIsHidden() throws Exception {
+        onFxThread(() -> {
+            stage.show();
+
+            root.setVisible(false);
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            root.setVisible(true);
+            assertThat(RotationClock.isRunning()).isTrue();
+        });
+    }
+
+    @Test
+    public void testClockStopsWhenProgressIsDeterminate() throws Exception {
+        onFxThread(() -> {
+            stage.show();
+
+            indicator.setProgress(0.5);
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            indicator.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
+            assertThat(RotationClock.isRunning()).isTrue();
+        });
+    }
+
+    @Test
+    public void testDisposeUnsubscribes() throws Exception {
+        onFxThread(() -> {
+            stage.show();
+            assertThat(RotationClock.getSubscriberCount()).isEqualTo(1);
+
+            indicator.setSkin(null);
+            assertThat(RotationClock.getSubscriberCount()).isZero();
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            // the disposed skin must not resubscribe
+            stage.hide();
+            stage.show();
+            assertThat(RotationClock.isRunning()).isFalse();
+        });
+    }
+}
@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.controls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.base.JavaFXTest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({JavaFXTest.class})
+public class RotationClockTest {
+
+    @Test
+    public void testClockRunsWhileSubscribed() throws Exception {
+        onFxThread(() -> {
+            assertThat(RotationClock.isRunning()).isFalse();
+
+            var first = RotationClock.subscribe(2);
+            assertThat(RotationClock.isRunning()).isTrue();
+
+            // the same cycle duration shares the same angle
+            var second = RotationClock.subscribe(2);
+            assertThat(second).isSameAs(first);
+            var third = RotationClock.subscribe(3);
+            assertThat(third).isNotSameAs(first);
+            assertThat(RotationClock.getSubscriberCount()).isEqualTo(3);
+
+            RotationClock.unsubscribe(2);
+            RotationClock.unsubscribe(3);
+            assertThat(RotationClock.isRunning()).isTrue();
+
+            RotationClock.unsubscribe(2);
+            assertThat(RotationClock.isRunning()).isFalse();
+            assertThat(RotationClock.getSubscriberCount()).isZero();
+        });
+    }
+
+    @Test
+    public void testUnknownSubscriptionIsIgnored() throws Exception {
+        onFxThread(() -> {
+            RotationClock.subscribe(2);
+            RotationClock.unsubscribe(5);
+            assertThat(RotationClock.isRunning()).isTrue();
+
+            RotationClock.unsubscribe(2);
+            RotationClock.unsubscribe(2);
+            assertThat(RotationClock.isRunning()).isFalse();
+            assertThat(RotationClock.getSubscriberCount()).isZero();
+        });
+    }
+
+    static void onFxThread(Runnable runnable) throws Exception {
+        var future = new CompletableFuture<Void>();
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        future.get(5, TimeUnit.SECONDS);
+    }
+}
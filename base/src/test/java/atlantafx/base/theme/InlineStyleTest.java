@@ -0,0 +1,101 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Map;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+public class InlineStyleTest {
+
+    @Test
+    public void testParse() {
+        var map = InlineStyle.parse("""
+            -fx-background-color: red, blue;
+            -fx-background-image: url("data:image/png;base64,AAA=");
+            -fx-font-family: 'Foo;Bar'
+            """
+        );
+        assertThat(map).containsExactly(
+            Map.entry("-fx-background-color", "red, blue"),
+            Map.entry("-fx-background-image", "url(\"data:image/png;base64,AAA=\")"),
+            Map.entry("-fx-font-family", "'Foo;Bar'")
+        );
+    }
+
+    @Test
+    public void testParseInvalidDeclarations() {
+        assertThat(InlineStyle.parse(null)).isEmpty();
+        assertThat(InlineStyle.parse(";;  ;")).isEmpty();
+        assertThat(InlineStyle.parse(":red;-fx-fill:;-fx-stroke")).isEmpty();
+    }
+
+    @Test
+    public void testParseDuplicates() {
+        var map = InlineStyle.parse("-fx-fill:red;-fx-stroke:white;-fx-fill:blue;");
+        assertThat(map).containsExactly(
+            Map.entry("-fx-fill", "blue"),
+            Map.entry("-fx-stroke", "white")
+        );
+    }
+
+    @Test
+    public void testEditCommitsOnce() {
+        var node = new Region();
+        node.setStyle("-fx-fill:red;");
+
+        int[] writes = {0};
+        node.styleProperty().addListener((obs, old, val) -> writes[0]++);
+
+        Styles.edit(node, s -> s
+            .set("-fx-stroke", "white")
+            .set("-fx-fill", "blue")
+            .set("-fx-padding", "10px")
+            .remove("-fx-padding")
+        );
+
+        assertThat(node.getStyle()).isEqualTo("-fx-fill:blue;-fx-stroke:white;");
+        assertThat(writes[0]).isEqualTo(1);
+    }
+
+    @Test
+    public void testEditWithoutChanges() {
+        var node = new Region();
+        node.setStyle("-fx-fill:red;");
+
+        int[] writes = {0};
+        node.styleProperty().addListener((obs, old, val) -> writes[0]++);
+
+        Styles.edit(node, s -> s.set("-fx-fill", "red"));
+        Styles.edit(node, s -> s.set("-fx-fill", "blue").set("-fx-fill", "red"));
+
+        assertThat(writes[0]).isZero();
+    }
+
+    @Test
+    public void testModelIsSyncedWithNodeStyle() {
+        var node = new Region();
+        Styles.edit(node, s -> s.set("-fx-fill", "red"));
+        assertThat(InlineStyle.of(node)).isSameAs(InlineStyle.of(node));
+
+        node.setStyle("-fx-stroke:white;");
+        assertThat(InlineStyle.of(node).asMap()).containsOnlyKeys("-fx-stroke");
+
+        Styles.appendStyle(node, "-fx-fill", "blue");
+        assertThat(InlineStyle.of(node).get("-fx-fill")).isEqualTo("blue");
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    public void testEditNPE() {
+        assertThatNullPointerException().isThrownBy(
+            () -> Styles.edit(null, s -> s.set("-fx-fill", "red"))
+        );
+        assertThatNullPointerException().isThrownBy(
+            () -> Styles.edit(new Region(), null)
+        );
+    }
+}
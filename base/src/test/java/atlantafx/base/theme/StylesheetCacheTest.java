@@ -0,0 +1,99 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import atlantafx.base.JavaFXTest;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith({JavaFXTest.class})
+public class StylesheetCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        onFxThread(() -> {
+            StylesheetCache.invalidate();
+            return null;
+        });
+    }
+
+    @Test
+    public void testRetainedStylesheetIsNotParsedAgain() throws Exception {
+        Path file = tempDir.resolve("retained.css");
+        Files.writeString(file, ".foo { -fx-opacity: 0.5; }");
+        String url = file.toUri().toString();
+
+        assertThat(onFxThread(() -> StylesheetCache.retain(url))).isEqualTo(url);
+        assertThat(onFxThread(() -> openWindow(url))).isEqualTo(0.5);
+
+        // JavaFX would see the new content, if it parsed the stylesheet again
+        Files.writeString(file, ".foo { -fx-opacity: 0.25; }");
+        assertThat(onFxThread(() -> openWindow(url))).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testStylesheetIsParsedAgainAfterInvalidation() throws Exception {
+        Path file = tempDir.resolve("invalidated.css");
+        Files.writeString(file, ".foo { -fx-opacity: 0.5; }");
+        String url = file.toUri().toString();
+
+        onFxThread(() -> StylesheetCache.retain(url));
+        assertThat(onFxThread(() -> openWindow(url))).isEqualTo(0.5);
+
+        Files.writeString(file, ".foo { -fx-opacity: 0.25; }");
+        assertThat(onFxThread(() -> {
+            StylesheetCache.invalidate(url);
+            return StylesheetCache.isRetained(url);
+        })).isFalse();
+        assertThat(onFxThread(() -> openWindow(url))).isEqualTo(0.25);
+    }
+
+    @Test
+    public void testMissingStylesheet() {
+        assertThatThrownBy(() -> StylesheetCache.retain("/atlantafx/base/theme/missing.css"))
+            .isInstanceOf(UncheckedIOException.class);
+    }
+
+    // emulates a short-lived window that uses the stylesheet
+    private double openWindow(String url) {
+        var root = new Region();
+        root.getStyleClass().add("foo");
+
+        var scene = new Scene(root);
+        scene.getStylesheets().add(url);
+        root.applyCss();
+        double opacity = root.getOpacity();
+
+        scene.getStylesheets().remove(url);
+        return opacity;
+    }
+
+    private <T> T onFxThread(Supplier<T> supplier) throws Exception {
+        var future = new CompletableFuture<T>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future.get(5, TimeUnit.SECONDS);
+    }
+}
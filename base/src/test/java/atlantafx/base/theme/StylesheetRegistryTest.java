@@ -0,0 +1,69 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+public class StylesheetRegistryTest {
+
+    @Test
+    public void testSameContentSameUri() {
+        String css = ".foo { -fx-fill: red; }";
+        String uri1 = StylesheetRegistry.acquire(css);
+        String uri2 = StylesheetRegistry.acquire(new String(css.toCharArray()));
+
+        assertThat(uri1).isSameAs(uri2).isEqualTo(Styles.toDataURI(css));
+
+        StylesheetRegistry.release(uri1);
+        StylesheetRegistry.release(uri2);
+    }
+
+    @Test
+    public void testSetStylesheetSkipsUnchangedContent() {
+        var node = new Region();
+        node.getStylesheets().add("first.css");
+
+        int[] changes = {0};
+        node.getStylesheets().addListener((ListChangeListener<String>) c -> changes[0]++);
+
+        assertThat(StylesheetRegistry.setStylesheet(node, "custom", ".foo { -fx-fill: red; }")).isTrue();
+        assertThat(StylesheetRegistry.setStylesheet(node, "custom", ".foo { -fx-fill: red; }")).isFalse();
+        assertThat(changes[0]).isEqualTo(1);
+
+        node.getStylesheets().add("last.css");
+        assertThat(StylesheetRegistry.setStylesheet(node, "custom", ".foo { -fx-fill: blue; }")).isTrue();
+        assertThat(node.getStylesheets()).containsExactly(
+            "first.css",
+            Styles.toDataURI(".foo { -fx-fill: blue; }"),
+            "last.css"
+        );
+
+        StylesheetRegistry.setStylesheet(node, "custom", null);
+        assertThat(node.getStylesheets()).containsExactly("first.css", "last.css");
+    }
+
+    @Test
+    public void testReferenceCounting() {
+        int size = StylesheetRegistry.size();
+        String css = ".bar { -fx-fill: red; }";
+
+        var node1 = new Region();
+        var node2 = new Region();
+        StylesheetRegistry.setStylesheet(node1, "custom", css);
+        StylesheetRegistry.setStylesheet(node2, "custom", css);
+        assertThat(StylesheetRegistry.size()).isEqualTo(size + 1);
+
+        StylesheetRegistry.setStylesheet(node1, "custom", null);
+        assertThat(StylesheetRegistry.size()).isEqualTo(size + 1);
+
+        StylesheetRegistry.setStylesheet(node2, "custom", ".bar { -fx-fill: blue; }");
+        assertThat(StylesheetRegistry.size()).isEqualTo(size + 1);
+
+        StylesheetRegistry.setStylesheet(node2, "custom", null);
+        assertThat(StylesheetRegistry.size()).isEqualTo(size);
+    }
+}
@@ -0,0 +1,132 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javafx.css.Stylesheet;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThemeBuilderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testDeriveScale() {
+        var seed = Color.web("#0969da");
+        Color[] scale = ThemeBuilder.deriveScale(seed);
+
+        assertThat(scale).hasSize(10);
+        assertThat(scale[ThemeBuilder.SEED_INDEX]).isEqualTo(seed);
+        for (int i = 1; i < scale.length; i++) {
+            assertThat(scale[i].getBrightness() + (1 - scale[i].getSaturation()))
+                .isLessThan(scale[i - 1].getBrightness() + (1 - scale[i - 1].getSaturation()));
+        }
+    }
+
+    @Test
+    public void testOverrides() {
+        String css = new ThemeBuilder(Theme.of("Test", "file:/test.css", false))
+            .setAccentColor(Color.web("#0969da"))
+            .setColor("-color-accent-fg", Color.RED)
+            .setColor("-color-bg-default", Color.WHITE)
+            .buildOverrides();
+
+        assertThat(css)
+            .startsWith(".root {")
+            .contains("-color-accent-5: #0969daff;")
+            .contains("-color-accent-fg: #ff0000ff;")
+            .contains("-color-bg-default: #ffffffff;")
+            .doesNotContain("-color-accent-fg: #0969daff;");
+    }
+
+    @Test
+    public void testInvalidColorName() {
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new ThemeBuilder(Theme.of("Test", "file:/test.css", false)).setColor("accent", Color.RED)
+        );
+    }
+
+    @Test
+    public void testBuildWithCache() throws IOException {
+        Path baseCss = tempDir.resolve("base.css");
+        Files.writeString(baseCss, ".root { -color-accent-5: blue; } .button { -fx-text-fill: -color-accent-5; }");
+        var base = Theme.of("Base", baseCss.toUri().toString(), true);
+        Path cacheDir = tempDir.resolve("cache");
+
+        Theme first = new ThemeBuilder(base)
+            .setName("Derived")
+            .setAccentColor(Color.web("#8957e5"))
+            .setCacheDir(cacheDir)
+            .build();
+
+        assertThat(first.getName()).isEqualTo("Derived");
+        assertThat(first.isDarkMode()).isTrue();
+        assertThat(first.getUserAgentStylesheetBSS()).isNotNull();
+
+        // imported base rules are compiled into the same binary stylesheet
+        Stylesheet bss = Stylesheet.loadBinary(URI.create(first.getUserAgentStylesheetBSS()).toURL());
+        assertThat(bss.getRules()).hasSize(3);
+
+        Theme second = new ThemeBuilder(base)
+            .setName("Derived")
+            .setAccentColor(Color.web("#8957e5"))
+            .setCacheDir(cacheDir)
+            .build();
+
+        assertThat(second.getUserAgentStylesheetBSS()).isEqualTo(first.getUserAgentStylesheetBSS());
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files.map(f -> f.getFileName().toString())).hasSize(2);
+        }
+    }
+
+    @Test
+    public void testBaseThemeChangeInvalidatesCache() throws IOException {
+        Path baseCss = tempDir.resolve("base.css");
+        Files.writeString(baseCss, ".root { -color-accent-5: blue; } .button { -fx-text-fill: -color-accent-5; }");
+        var base = Theme.of("Base", baseCss.toUri().toString(), false);
+        Path cacheDir = tempDir.resolve("cache");
+
+        Theme first = new ThemeBuilder(base).setAccentColor(Color.RED).setCacheDir(cacheDir).build();
+
+        // same URL, different content, e.g. after the library upgrade
+        Files.writeString(baseCss, ".root { -color-accent-5: blue; } .button { -fx-text-fill: -color-accent-5; } "
+            + ".label { -fx-text-fill: -color-accent-5; }"
+        );
+        Theme second = new ThemeBuilder(base).setAccentColor(Color.RED).setCacheDir(cacheDir).build();
+
+        assertThat(second.getUserAgentStylesheetBSS()).isNotEqualTo(first.getUserAgentStylesheetBSS());
+        Stylesheet bss = Stylesheet.loadBinary(URI.create(second.getUserAgentStylesheetBSS()).toURL());
+        assertThat(bss.getRules()).hasSize(4);
+    }
+
+    @Test
+    public void testTempFileIsRemovedOnFailure() throws IOException {
+        Path baseCss = tempDir.resolve("base.css");
+        Files.writeString(baseCss, ".root { -color-accent-5: blue; }");
+        var base = Theme.of("Base", baseCss.toUri().toString(), false);
+        Path cacheDir = tempDir.resolve("cache");
+
+        // saving fails, because the CSS file name is occupied by a non-empty directory
+        var builder = new ThemeBuilder(base).setAccentColor(Color.RED).setCacheDir(cacheDir);
+        String css = "@import url(\"" + baseCss.toUri() + "\");\n\n" + builder.buildOverrides();
+        String hash = ThemeBuilder.hash(css, Files.readAllBytes(baseCss));
+        Files.createDirectories(cacheDir.resolve(hash + ".css"));
+        Files.writeString(cacheDir.resolve(hash + ".css").resolve("keep"), "");
+
+        assertThatThrownBy(builder::build).isInstanceOf(UncheckedIOException.class);
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files.map(f -> f.getFileName().toString())).containsExactly(hash + ".css");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThemeCompilerTest {
+
+    private static final String CSS = """
+        .root { -color-fg-default: black; }
+        .button { -fx-text-fill: -color-fg-default; }
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnchangedFilesAreSkipped() throws IOException {
+        Path cacheFile = tempDir.resolve("target").resolve("theme-compiler.properties");
+        Files.writeString(tempDir.resolve("a.css"), CSS, UTF_8);
+        Files.writeString(tempDir.resolve("b.css"), CSS, UTF_8);
+
+        var first = compiler().convertDirectory(tempDir, cacheFile);
+        assertThat(first).extracting(ThemeCompiler.Result::skipped).containsExactly(false, false);
+        assertThat(tempDir.resolve("a.bss")).exists();
+        assertThat(tempDir.resolve("b.bss")).exists();
+
+        Files.writeString(tempDir.resolve("b.css"), CSS + ".label { -fx-text-fill: red; }", UTF_8);
+        var second = compiler().convertDirectory(tempDir, cacheFile);
+        assertThat(second).extracting(ThemeCompiler.Result::skipped).containsExactly(true, false);
+    }
+
+    @Test
+    public void testMissingOutputIsConvertedAgain() throws IOException {
+        Path cacheFile = tempDir.resolve("theme-compiler.properties");
+        Files.writeString(tempDir.resolve("a.css"), CSS, UTF_8);
+
+        compiler().convertDirectory(tempDir, cacheFile);
+        Files.delete(tempDir.resolve("a.bss"));
+
+        var results = compiler().convertDirectory(tempDir, cacheFile);
+        assertThat(results).extracting(ThemeCompiler.Result::skipped).containsExactly(false);
+        assertThat(tempDir.resolve("a.bss")).exists();
+    }
+
+    @Test
+    public void testNoCacheFile() throws IOException {
+        Files.writeString(tempDir.resolve("a.css"), CSS, UTF_8);
+
+        compiler().convertDirectory(tempDir, null);
+        var results = compiler().convertDirectory(tempDir, null);
+        assertThat(results).extracting(ThemeCompiler.Result::skipped).containsExactly(false);
+    }
+
+    @Test
+    public void testHashesArePersisted() throws IOException {
+        Path cacheFile = tempDir.resolve("target").resolve("theme-compiler.properties");
+        Files.writeString(tempDir.resolve("a.css"), CSS, UTF_8);
+
+        var results = compiler().convertDirectory(tempDir, cacheFile);
+
+        Properties hashes = loadHashes(cacheFile);
+        assertThat(hashes.stringPropertyNames()).containsExactly("a.css");
+        assertThat(hashes.getProperty("a.css")).isEqualTo(results.get(0).hash()).hasSize(64);
+        assertThat(tempDir.resolve("target").resolve("theme-compiler.properties.tmp")).doesNotExist();
+    }
+
+    @Test
+    public void testFailuresAreAggregated() throws IOException {
+        Path cacheFile = tempDir.resolve("theme-compiler.properties");
+        Files.writeString(tempDir.resolve("a.css"), CSS, UTF_8);
+        Files.writeString(tempDir.resolve("b.css"), CSS, UTF_8);
+        Files.writeString(tempDir.resolve("c.css"), CSS, UTF_8);
+
+        // make the output files of the two themes unwritable
+        Files.createDirectory(tempDir.resolve("a.bss"));
+        Files.createDirectory(tempDir.resolve("c.bss"));
+
+        assertThatThrownBy(() -> compiler().convertDirectory(tempDir, cacheFile))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("a.css")
+            .satisfies(e -> assertThat(e.getSuppressed()).hasSize(2));
+
+        assertThat(tempDir.resolve("b.bss")).isRegularFile();
+        // the failed files must be converted again on the next run
+        assertThat(loadHashes(cacheFile).stringPropertyNames()).containsExactly("b.css");
+    }
+
+    @Test
+    public void testFailedFilesAreRemovedFromCache() throws IOException {
+        Path cacheFile = tempDir.resolve("theme-compiler.properties");
+        Files.writeString(tempDir.resolve("a.css"), CSS, UTF_8);
+        compiler().convertDirectory(tempDir, cacheFile);
+        assertThat(loadHashes(cacheFile).stringPropertyNames()).containsExactly("a.css");
+
+        Files.writeString(tempDir.resolve("a.css"), CSS + ".label { -fx-text-fill: red; }", UTF_8);
+        Files.delete(tempDir.resolve("a.bss"));
+        Files.createDirectory(tempDir.resolve("a.bss"));
+
+        assertThatThrownBy(() -> compiler().convertDirectory(tempDir, cacheFile)).isInstanceOf(IOException.class);
+        assertThat(loadHashes(cacheFile).stringPropertyNames()).isEmpty();
+    }
+
+    @Test
+    public void testResultsOrder() throws IOException {
+        for (String name : List.of("c.css", "a.css", "b.css")) {
+            Files.writeString(tempDir.resolve(name), CSS, UTF_8);
+        }
+
+        var results = new ThemeCompiler(3, silentLog()).convertDirectory(tempDir, null);
+        assertThat(results)
+            .extracting(r -> r.source().getFileName().toString())
+            .containsExactly("a.css", "b.css", "c.css");
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static ThemeCompiler compiler() {
+        return new ThemeCompiler(2, silentLog());
+    }
+
+    private static PrintStream silentLog() {
+        return new PrintStream(new ByteArrayOutputStream(), true, UTF_8);
+    }
+
+    private static Properties loadHashes(Path cacheFile) throws IOException {
+        var hashes = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            hashes.load(in);
+        }
+        return hashes;
+    }
+}
@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.Pane;
+
+/**
+ * Compares the full CSS pass time of a large scene styled with the original and
+ * with the flattened theme stylesheet. It's not a unit test, run it manually after
+ * the full build, because theme stylesheets are only available in the build output.
+ *
+ * <pre>{@code
+ * mvn install -pl styles,base -DskipTests
+ * java -cp <test classpath> atlantafx.base.theme.ThemeFlattenBenchmark [nodes] [iterations]
+ * }</pre>
+ */
+public class ThemeFlattenBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        var theme = new PrimerLight();
+        String css;
+        try (InputStream in = Theme.class.getResourceAsStream(theme.getUserAgentStylesheet())) {
+            if (in == null) {
+                System.out.println("Theme stylesheet not found, build the project first");
+                return;
+            }
+            css = new String(in.readAllBytes(), UTF_8);
+        }
+
+        Path original = Files.createTempFile("theme", ".css");
+        Path flattened = Files.createTempFile("theme-flat", ".css");
+        try {
+            Files.writeString(original, css, UTF_8);
+            Files.writeString(flattened, new ThemeFlattener().flatten(css), UTF_8);
+
+            Platform.startup(() -> { });
+            System.out.printf(Locale.ROOT, "%-12s %12s%n", "Stylesheet", "CSS pass, ms");
+            System.out.printf(Locale.ROOT, "%-12s %12.2f%n", "original", measure(original, nodes, iterations));
+            System.out.printf(Locale.ROOT, "%-12s %12.2f%n", "flattened", measure(flattened, nodes, iterations));
+        } finally {
+            Platform.exit();
+            Files.deleteIfExists(original);
+            Files.deleteIfExists(flattened);
+        }
+    }
+
+    // returns median CSS pass time in milliseconds
+    private static double measure(Path stylesheet, int nodes, int iterations) throws Exception {
+        var result = new CompletableFuture<Double>();
+        Platform.runLater(() -> {
+            try {
+                var root = createScene(nodes);
+                var scene = new Scene(root, 1024, 768);
+                scene.getStylesheets().add(stylesheet.toUri().toString());
+                root.applyCss();
+
+                long[] times = new long[iterations];
+                for (int i = 0; i < WARMUP_ITERATIONS + iterations; i++) {
+                    // changing the root inline style forces the whole scene graph to be restyled
+                    root.setStyle("-fx-font-size: " + (i % 2 == 0 ? 14 : 15) + "px;");
+                    long start = System.nanoTime();
+                    root.applyCss();
+                    if (i >= WARMUP_ITERATIONS) {
+                        times[i - WARMUP_ITERATIONS] = System.nanoTime() - start;
+                    }
+                }
+
+                Arrays.sort(times);
+                result.complete(times[iterations / 2] / 1_000_000.0);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get();
+    }
+
+    private static Pane createScene(int nodes) {
+        var root = new FlowPane();
+        for (int i = 0; i < nodes; i++) {
+            root.getChildren().add(switch (i % 5) {
+                case 0 -> new Button("Button");
+                case 1 -> new Label("Label");
+                case 2 -> new TextField("Text");
+                case 3 -> new CheckBox("Check");
+                default -> new ToggleButton("Toggle");
+            });
+        }
+        return root;
+    }
+}
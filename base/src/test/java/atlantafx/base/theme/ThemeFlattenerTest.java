@@ -0,0 +1,66 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ThemeFlattenerTest {
+
+    private final ThemeFlattener flattener = new ThemeFlattener(
+        ThemeFlattener.DEFAULT_KEEP_PATTERN,
+        new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8)
+    );
+
+    @Test
+    public void testStaticVariablesAreInlined() {
+        String css = flattener.flatten("""
+            .root { -color-base-1: #eaeef2; -color-chart-1: -color-base-1; }
+            .button { -fx-background-color: -color-base-1, derive(-color-chart-1, 10%); }
+            """
+        );
+        assertThat(css)
+            .contains("-color-base-1: #eaeef2")
+            .contains("-color-chart-1: #eaeef2")
+            .contains("-fx-background-color: #eaeef2, derive(#eaeef2, 10%)");
+    }
+
+    @Test
+    public void testOverridableVariablesAreKept() {
+        String css = flattener.flatten("""
+            .root { -color-fg-default: #1f2328; -color-accent-5: #0969da; -color-chart-1: -color-accent-5; }
+            .label { -fx-text-fill: -color-fg-default; -fx-fill: -color-chart-1; }
+            """
+        );
+        assertThat(css).contains("-fx-text-fill: -color-fg-default;", "-fx-fill: -color-chart-1;");
+    }
+
+    @Test
+    public void testScopedVariablesAreKept() {
+        String css = flattener.flatten("""
+            .root { -color-base-1: #eaeef2; -color-base-2: #d0d7de; }
+            .root:dark { -color-base-1: #000000; }
+            .tile { -color-base-2: red; }
+            .button { -fx-background-color: -color-base-1, -color-base-2; }
+            """
+        );
+        assertThat(css).contains("-fx-background-color: -color-base-1, -color-base-2;");
+    }
+
+    @Test
+    public void testCommentsAndCyclesAreIgnored() {
+        String css = flattener.flatten("""
+            .root { -color-base-1: -color-base-2; -color-base-2: -color-base-1; -color-dark: #000; }
+            /*! component: -color-dark */
+            .button { -fx-text-fill: -color-dark; -fx-fill: -color-base-1; }
+            """
+        );
+        assertThat(css)
+            .contains("/*! component: -color-dark */")
+            .contains("-fx-text-fill: #000;", "-fx-fill: -color-base-1;");
+    }
+}
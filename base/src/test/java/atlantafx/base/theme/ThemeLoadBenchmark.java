@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import javafx.css.CssParser;
+import javafx.css.Stylesheet;
+
+/**
+ * Compares the user-agent stylesheet load time of the CSS and BSS formats
+ * for all built-in themes. It's not a unit test, run it manually after the
+ * full build, because theme stylesheets are only available in the build output.
+ *
+ * <pre>{@code
+ * mvn install -pl styles,base -DskipTests
+ * java -cp <test classpath> atlantafx.base.theme.ThemeLoadBenchmark [iterations]
+ * }</pre>
+ */
+public class ThemeLoadBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final List<Theme> THEMES = List.of(
+        new PrimerLight(),
+        new PrimerDark(),
+        new NordLight(),
+        new NordDark(),
+        new CupertinoLight(),
+        new CupertinoDark(),
+        new Dracula()
+    );
+
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        System.out.printf(Locale.ROOT, "%-16s %12s %12s %8s%n", "Theme", "CSS, ms", "BSS, ms", "Speedup");
+        for (Theme theme : THEMES) {
+            URL css = Theme.class.getResource(theme.getUserAgentStylesheet());
+            URL bss = Theme.class.getResource(theme.getUserAgentStylesheetBSS());
+            if (css == null || bss == null) {
+                System.out.printf(Locale.ROOT, "%-16s stylesheets not found, build the project first%n",
+                    theme.getName()
+                );
+                continue;
+            }
+
+            double cssTime = measure(() -> new CssParser().parse(css), iterations);
+            double bssTime = measure(() -> Stylesheet.loadBinary(bss), iterations);
+
+            System.out.printf(Locale.ROOT, "%-16s %12.2f %12.2f %7.1fx%n",
+                theme.getName(), cssTime, bssTime, cssTime / bssTime
+            );
+        }
+    }
+
+    // returns median load time in milliseconds
+    private static double measure(Loader loader, int iterations) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            loader.load();
+        }
+
+        long[] times = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            loader.load();
+            times[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(times);
+        return times[iterations / 2] / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+
+        Stylesheet load() throws IOException;
+    }
+}
@@ -0,0 +1,98 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import atlantafx.base.JavaFXTest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.css.CssParser;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({JavaFXTest.class})
+public class ThemeProfilerTest {
+
+    // The average number of selector match attempts per node for the default scene graph.
+    // It only depends on the theme and the profiled controls, so it's a regression guard
+    // against the SASS changes that add expensive selectors. Raise it deliberately.
+    private static final int ATTEMPTS_PER_NODE_BUDGET = 250;
+
+    @Test
+    public void testMatchRules() {
+        var stylesheet = new CssParser().parse("""
+            .foo { -fx-padding: 1; }
+            .bar .foo { -fx-padding: 2; }
+            .foo.baz { -fx-padding: 3; }
+            .unused { -fx-padding: 4; }
+            """
+        );
+
+        var parent = new HBox();
+        parent.getStyleClass().add("bar");
+        var first = new Region();
+        first.getStyleClass().add("foo");
+        var second = new Region();
+        second.getStyleClass().addAll("foo", "baz");
+        parent.getChildren().setAll(first, second);
+        var orphan = new Region();
+        orphan.getStyleClass().add("foo");
+
+        var costs = ThemeProfiler.matchRules(stylesheet, List.of(parent, first, second, orphan));
+        assertThat(costs).hasSize(4);
+
+        assertThat(find(costs, ".foo")).satisfies(c -> {
+            assertThat(c.attempts()).isEqualTo(3);
+            assertThat(c.matches()).isEqualTo(3);
+        });
+        assertThat(find(costs, ".bar .foo")).satisfies(c -> {
+            assertThat(c.attempts()).isEqualTo(3);
+            assertThat(c.matches()).isEqualTo(2);
+        });
+        assertThat(find(costs, ".foo.baz")).satisfies(c -> {
+            assertThat(c.attempts()).isEqualTo(1);
+            assertThat(c.matches()).isEqualTo(1);
+        });
+        assertThat(find(costs, ".unused").attempts()).isZero();
+    }
+
+    @Test
+    public void testThemeStylesheetBudget() throws Exception {
+        var theme = new PrimerLight();
+        // compiled theme stylesheets are only available after the styles module build
+        assumeTrue(Theme.class.getResource(theme.getUserAgentStylesheet()) != null,
+            "Theme stylesheet not found: " + theme.getUserAgentStylesheet()
+        );
+
+        var future = new CompletableFuture<ThemeProfiler.Report>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(new ThemeProfiler(theme).setNodeCount(5).setIterations(1).run());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        var report = future.get(60, TimeUnit.SECONDS);
+
+        assertThat(report.rules()).isNotEmpty();
+        assertThat(report.controls()).extracting(ThemeProfiler.ControlCost::type).contains("Button", "TableView");
+
+        int nodes = report.controls().stream().mapToInt(ThemeProfiler.ControlCost::nodes).sum();
+        assertThat(report.getTotalAttempts())
+            .withFailMessage(() -> "Selector match attempts exceed the budget:\n" + report.format(20))
+            .isLessThanOrEqualTo((long) nodes * ATTEMPTS_PER_NODE_BUDGET);
+    }
+
+    private ThemeProfiler.RuleCost find(List<ThemeProfiler.RuleCost> costs, String selector) {
+        return costs.stream()
+            .filter(c -> c.selector().replace("*", "").equals(selector))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Rule not found: " + selector + " in " + costs));
+    }
+}
@@ -0,0 +1,62 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThemeSplitterTest {
+
+    private static final String THEME = """
+        .root { -color-fg-default: black; }
+        .text { -fx-font-smoothing-type: gray; }
+        /*! component: button */
+        .button { -fx-text-fill: -color-fg-default; }
+        .root:dark .button.flat { -fx-background-color: transparent; }
+        /*! component: combo-box */
+        .combo-box > .arrow-button { -fx-padding: 0; }
+        ListCell { -fx-padding: 2px; }
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSplit() {
+        var parts = ThemeSplitter.split(THEME);
+        assertThat(parts).containsOnlyKeys("core", "button", "combo-box");
+        assertThat(parts.keySet()).containsExactly("core", "button", "combo-box");
+        assertThat(parts.get("core")).contains(".root", ".text").doesNotContain(".button");
+        assertThat(parts.get("button")).contains(".button").doesNotContain("component:", ".combo-box");
+    }
+
+    @Test
+    public void testTriggers() {
+        var parts = ThemeSplitter.split(THEME);
+        assertThat(ThemeSplitter.getTriggers(parts.get("button"))).containsExactly(".button", ".flat");
+        assertThat(ThemeSplitter.getTriggers(parts.get("combo-box"))).containsExactly(".combo-box", "ListCell");
+    }
+
+    @Test
+    public void testSplitDirectory() throws IOException {
+        Files.writeString(tempDir.resolve("test-theme.css"), THEME, UTF_8);
+        new ThemeSplitter(new PrintStream(new ByteArrayOutputStream(), true, UTF_8)).splitDirectory(tempDir);
+
+        Path outDir = tempDir.resolve("modular").resolve("test-theme");
+        assertThat(outDir.resolve("core.css")).exists();
+        assertThat(outDir.resolve("button.css")).exists();
+        assertThat(outDir.resolve("combo-box.css")).exists();
+
+        var index = ModularTheme.parseIndex(Files.readAllLines(outDir.resolve("index.txt"), UTF_8));
+        assertThat(index.keySet()).containsExactly("button", "combo-box");
+        assertThat(index.get("combo-box")).containsOnly(".combo-box", "ListCell");
+    }
+}
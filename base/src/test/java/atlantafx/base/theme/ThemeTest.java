@@ -0,0 +1,56 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.base.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+public class ThemeTest {
+
+    @Test
+    public void testPreferredStylesheetWithoutBSS() {
+        var theme = Theme.of("Test", "/test.css", false);
+        assertThat(theme.getPreferredUserAgentStylesheet()).isEqualTo("/test.css");
+    }
+
+    @Test
+    public void testPreferredStylesheetWithMissingBSS() {
+        var theme = new TestTheme("/atlantafx/base/theme/missing.bss");
+        assertThat(theme.getPreferredUserAgentStylesheet()).isEqualTo("/test.css");
+    }
+
+    @Test
+    public void testPreferredStylesheetWithExistingBSS() {
+        // any existing resource will do
+        var theme = new TestTheme("/atlantafx/base/theme/Theme.class");
+        assertThat(theme.getPreferredUserAgentStylesheet()).isEqualTo("/atlantafx/base/theme/Theme.class");
+
+        var urlTheme = new TestTheme("file:///opt/themes/test.bss");
+        assertThat(urlTheme.getPreferredUserAgentStylesheet()).isEqualTo("file:///opt/themes/test.bss");
+    }
+
+    private record TestTheme(@Nullable String bss) implements Theme {
+
+        @Override
+        public String getName() {
+            return "Test";
+        }
+
+        @Override
+        public String getUserAgentStylesheet() {
+            return "/test.css";
+        }
+
+        @Override
+        public @Nullable String getUserAgentStylesheetBSS() {
+            return bss;
+        }
+
+        @Override
+        public boolean isDarkMode() {
+            return false;
+        }
+    }
+}
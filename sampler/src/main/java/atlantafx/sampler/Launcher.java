@@ -4,6 +4,7 @@ package atlantafx.sampler;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import atlantafx.base.theme.ThemeProfiler;
 import atlantafx.sampler.event.BrowseEvent;
 import atlantafx.sampler.event.DefaultEventBus;
 import atlantafx.sampler.event.HotkeyEvent;
@@ -44,6 +45,14 @@ public class Launcher extends Application {
         new KeyCodeCombination(KeyCode.W, KeyCombination.CONTROL_DOWN)
     );
 
+    // dev mode only, prints the current theme CSS cost report to the console
+    private static final KeyCodeCombination PROFILER_HOTKEY =
+        new KeyCodeCombination(KeyCode.P, KeyCombination.CONTROL_DOWN, KeyCombination.SHIFT_DOWN);
+
+    // dev mode only, shows or hides the background scheduler metrics overlay
+    private static final KeyCodeCombination SCHEDULER_HOTKEY =
+        new KeyCodeCombination(KeyCode.M, KeyCombination.CONTROL_DOWN, KeyCombination.SHIFT_DOWN);
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -70,6 +79,8 @@ public class Launcher extends Application {
         tm.setTheme(tm.getDefaultTheme());
         if (IS_DEV_MODE) {
             startCssFX(scene);
+            scene.getAccelerators().put(PROFILER_HOTKEY, this::profileTheme);
+            scene.getAccelerators().put(SCHEDULER_HOTKEY, root::toggleSchedulerMonitor);
         }
 
         scene.getStylesheets().addAll(Resources.resolve("assets/styles/index.css"));
@@ -112,6 +123,13 @@ public class Launcher extends Application {
         }
     }
 
+    private void profileTheme() {
+        var theme = ThemeManager.getInstance().getTheme();
+        var report = new ThemeProfiler(theme.getResource().toURI().toString()).run();
+        System.out.println("[INFO] Theme profiler: " + theme.getName());
+        System.out.println(report.format(25));
+    }
+
     @SuppressWarnings("CatchAndPrintStackTrace")
     private void startCssFX(Scene scene) {
         URIToPathConverter fileUrlConverter = uri -> {
@@ -2,12 +2,23 @@
 
 package atlantafx.sampler.event;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 
 /**
  * Simple event bus implementation.
@@ -17,38 +28,98 @@ import java.util.function.Consumer;
  *
  * <p>You can use the default event bus instance {@link #getInstance}, which is a singleton,
  * or you can create one or multiple instances of {@link DefaultEventBus}.
+ *
+ * <p>Subscriptions are stored as immutable arrays, which are replaced on every change.
+ * The subscribers of every concrete event class, including the subscribers of its super
+ * classes, are resolved on the first publish and cached in the dispatch table until
+ * the next subscription change. Thus, publishing doesn't allocate and doesn't lock,
+ * while subscribing is relatively expensive, which is fine, because it's rare.
+ *
+ * <p>Subscribers that don't use the {@link Delivery#SYNC} delivery are wrapped into
+ * the delivering subscribers, which are stored in place of the original ones.
  */
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class DefaultEventBus implements EventBus {
 
+    private static final Consumer[] NO_SUBSCRIBERS = new Consumer[0];
+
     public DefaultEventBus() {
+        this(Executors.newSingleThreadExecutor(r -> {
+            var thread = new Thread(r, "event-bus");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a new event bus.
+     *
+     * @param backgroundExecutor the executor for the {@link Delivery#BACKGROUND} subscribers.
+     */
+    public DefaultEventBus(Executor backgroundExecutor) {
+        this(backgroundExecutor, DefaultEventBus::runOnNextPulse);
     }
 
-    private final Map<Class<?>, Set<Consumer>> subscribers = new ConcurrentHashMap<>();
+    // the pulse scheduler can be replaced for testing purposes
+    DefaultEventBus(Executor backgroundExecutor, Consumer<Runnable> pulseScheduler) {
+        this.backgroundExecutor = Objects.requireNonNull(backgroundExecutor);
+        this.pulseScheduler = Objects.requireNonNull(pulseScheduler);
+    }
+
+    private final Executor backgroundExecutor;
+    private final Consumer<Runnable> pulseScheduler;
+    private final Object lock = new Object();
+
+    // subscribed event type | subscribers, only modified under lock by replacing the whole map
+    private volatile Map<Class<?>, Consumer[]> subscribers = Map.of();
+
+    // subscriber | subscribed event types, to unsubscribe without scanning all types
+    private final Map<Object, Set<Class<?>>> subscriptions = new HashMap<>();
+
+    // concrete event class | subscribers of the class and all its super classes,
+    // replaced with the empty table on every subscription change
+    private volatile Map<Class<?>, Consumer[]> dispatchTable = new ConcurrentHashMap<>();
 
     @Override
     public <E extends Event> void subscribe(Class<? extends E> eventType, Consumer<E> subscriber) {
+        subscribe(eventType, Delivery.SYNC, subscriber);
+    }
+
+    @Override
+    public <E extends Event> void subscribe(Class<? extends E> eventType, Delivery delivery, Consumer<E> subscriber) {
         Objects.requireNonNull(eventType);
+        Objects.requireNonNull(delivery);
         Objects.requireNonNull(subscriber);
 
-        Set<Consumer> eventSubscribers = getOrCreateSubscribers(eventType);
-        eventSubscribers.add(subscriber);
+        addSubscriber(eventType, subscriber, wrap(delivery, subscriber, subscriber));
     }
 
-    private <E> Set<Consumer> getOrCreateSubscribers(Class<E> eventType) {
-        Set<Consumer> eventSubscribers = subscribers.get(eventType);
-        if (eventSubscribers == null) {
-            eventSubscribers = new CopyOnWriteArraySet<>();
-            subscribers.put(eventType, eventSubscribers);
-        }
-        return eventSubscribers;
+    @Override
+    public <O, E extends Event> void subscribeWeak(O owner,
+                                                   Class<? extends E> eventType,
+                                                   Delivery delivery,
+                                                   BiConsumer<O, E> subscriber) {
+        Objects.requireNonNull(owner);
+        Objects.requireNonNull(eventType);
+        Objects.requireNonNull(delivery);
+        Objects.requireNonNull(subscriber);
+
+        var weak = new WeakSubscriber<>(this, owner, delivery, subscriber);
+        addSubscriber(eventType, weak, weak);
     }
 
     @Override
     public <E extends Event> void unsubscribe(Consumer<E> subscriber) {
         Objects.requireNonNull(subscriber);
 
-        subscribers.values().forEach(eventSubscribers -> eventSubscribers.remove(subscriber));
+        synchronized (lock) {
+            Set<Class<?>> types = subscriptions.get(subscriber);
+            if (types != null) {
+                for (Class<?> type : List.copyOf(types)) {
+                    removeSubscriber(type, subscriber);
+                }
+            }
+        }
     }
 
     @Override
@@ -56,24 +127,41 @@ public final class DefaultEventBus implements EventBus {
         Objects.requireNonNull(eventType);
         Objects.requireNonNull(subscriber);
 
-        subscribers.keySet().stream()
-            .filter(eventType::isAssignableFrom)
-            .map(subscribers::get)
-            .forEach(eventSubscribers -> eventSubscribers.remove(subscriber));
+        synchronized (lock) {
+            Set<Class<?>> types = subscriptions.get(subscriber);
+            if (types == null) {
+                return;
+            }
+
+            for (Class<?> type : List.copyOf(types)) {
+                if (eventType.isAssignableFrom(type)) {
+                    removeSubscriber(type, subscriber);
+                }
+            }
+        }
     }
 
     @Override
     public <E extends Event> void publish(E event) {
         Objects.requireNonNull(event);
 
+        // the table must be read before the subscribers, so that the stale
+        // dispatch entry can only be put into the already discarded table
+        Map<Class<?>, Consumer[]> table = dispatchTable;
         Class<?> eventType = event.getClass();
-        subscribers.keySet().stream()
-            .filter(type -> type.isAssignableFrom(eventType))
-            .flatMap(type -> subscribers.get(type).stream())
-            .forEach(subscriber -> publish(event, subscriber));
+
+        Consumer[] targets = table.get(eventType);
+        if (targets == null) {
+            targets = resolve(eventType);
+            table.putIfAbsent(eventType, targets);
+        }
+
+        for (Consumer target : targets) {
+            publish(event, target);
+        }
     }
 
-    private <E extends Event> void publish(E event, Consumer<E> subscriber) {
+    private static <E extends Event> void publish(E event, Consumer<E> subscriber) {
         try {
             subscriber.accept(event);
         } catch (Exception e) {
@@ -83,6 +171,200 @@ public final class DefaultEventBus implements EventBus {
 
     ///////////////////////////////////////////////////////////////////////////
 
+    private Consumer wrap(Delivery delivery, Object key, Consumer target) {
+        return switch (delivery) {
+            case SYNC -> target;
+            case FX_THREAD -> new DeliveringSubscriber(key, target) {
+                @Override
+                public void accept(Event event) {
+                    runOnFxThread(() -> publish(event, target));
+                }
+            };
+            case BACKGROUND -> new DeliveringSubscriber(key, target) {
+                @Override
+                public void accept(Event event) {
+                    backgroundExecutor.execute(() -> publish(event, target));
+                }
+            };
+            case COALESCE -> new CoalescingSubscriber(key, target, pulseScheduler);
+        };
+    }
+
+    private void addSubscriber(Class<?> eventType, Object key, Consumer subscriber) {
+        synchronized (lock) {
+            Consumer[] current = subscribers.getOrDefault(eventType, NO_SUBSCRIBERS);
+            if (indexOf(current, key) >= 0) {
+                return;
+            }
+
+            Consumer[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = subscriber;
+            updateSubscribers(eventType, updated);
+            subscriptions.computeIfAbsent(key, k -> new HashSet<>()).add(eventType);
+        }
+    }
+
+    private Consumer[] resolve(Class<?> eventType) {
+        var targets = new ArrayList<Consumer>();
+        subscribers.forEach((type, typeSubscribers) -> {
+            if (type.isAssignableFrom(eventType)) {
+                targets.addAll(Arrays.asList(typeSubscribers));
+            }
+        });
+        return targets.isEmpty() ? NO_SUBSCRIBERS : targets.toArray(Consumer[]::new);
+    }
+
+    // must be called under lock
+    private void removeSubscriber(Class<?> type, Object subscriber) {
+        Consumer[] current = subscribers.getOrDefault(type, NO_SUBSCRIBERS);
+        int idx = indexOf(current, subscriber);
+        if (idx < 0) {
+            return;
+        }
+
+        var updated = new Consumer[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, idx);
+        System.arraycopy(current, idx + 1, updated, idx, current.length - idx - 1);
+        updateSubscribers(type, updated);
+
+        Set<Class<?>> types = subscriptions.get(subscriber);
+        types.remove(type);
+        if (types.isEmpty()) {
+            subscriptions.remove(subscriber);
+        }
+    }
+
+    // must be called under lock
+    private void updateSubscribers(Class<?> type, Consumer[] typeSubscribers) {
+        var updated = new LinkedHashMap<>(subscribers);
+        if (typeSubscribers.length > 0) {
+            updated.put(type, typeSubscribers);
+        } else {
+            updated.remove(type);
+        }
+
+        subscribers = updated;
+        dispatchTable = new ConcurrentHashMap<>();
+    }
+
+    private static int indexOf(Consumer[] array, Object subscriber) {
+        for (int i = 0; i < array.length; i++) {
+            Object key = array[i] instanceof DeliveringSubscriber ds ? ds.key : array[i];
+            if (key.equals(subscriber)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    private static void runOnNextPulse(Runnable action) {
+        var timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                action.run();
+            }
+        };
+        runOnFxThread(timer::start);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // delivers events to the target subscriber, the key is the original subscriber
+    // which is used to unsubscribe
+    private abstract static class DeliveringSubscriber implements Consumer<Event> {
+
+        protected final Object key;
+        protected final Consumer target;
+
+        public DeliveringSubscriber(Object key, Consumer target) {
+            this.key = key;
+            this.target = target;
+        }
+    }
+
+    private static final class CoalescingSubscriber extends DeliveringSubscriber {
+
+        // coalescing key | the latest event, guarded by this
+        private final Map<Object, Event> pending = new LinkedHashMap<>();
+        private final Consumer<Runnable> pulseScheduler;
+
+        public CoalescingSubscriber(Object key, Consumer target, Consumer<Runnable> pulseScheduler) {
+            super(key, target);
+            this.pulseScheduler = pulseScheduler;
+        }
+
+        @Override
+        public void accept(Event event) {
+            boolean schedule;
+            synchronized (this) {
+                schedule = pending.isEmpty();
+                // re-insert to preserve the order of the latest events
+                pending.remove(event.getCoalescingKey());
+                pending.put(event.getCoalescingKey(), event);
+            }
+
+            if (schedule) {
+                pulseScheduler.accept(this::flush);
+            }
+        }
+
+        private void flush() {
+            List<Event> events;
+            synchronized (this) {
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+
+            for (Event event : events) {
+                publish(event, target);
+            }
+        }
+    }
+
+    private static final class WeakSubscriber<O> implements Consumer<Event> {
+
+        private final DefaultEventBus bus;
+        private final WeakReference<O> owner;
+        private final BiConsumer<O, Event> subscriber;
+        private final Consumer target;
+
+        public WeakSubscriber(DefaultEventBus bus, O owner, Delivery delivery, BiConsumer subscriber) {
+            this.bus = bus;
+            this.owner = new WeakReference<>(owner);
+            this.subscriber = subscriber;
+            this.target = bus.wrap(delivery, this, (Consumer<Event>) this::deliver);
+        }
+
+        @Override
+        public void accept(Event event) {
+            if (owner.get() == null) {
+                // stale subscribers are removed lazily, on the next event
+                bus.unsubscribe(this);
+                return;
+            }
+            target.accept(event);
+        }
+
+        private void deliver(Event event) {
+            // the owner can be collected while the event is being delivered asynchronously
+            O o = owner.get();
+            if (o != null) {
+                subscriber.accept(o, event);
+            }
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
     private static class InstanceHolder {
 
         private static final DefaultEventBus INSTANCE = new DefaultEventBus();
@@ -15,6 +15,15 @@ public abstract class Event {
         return id;
     }
 
+    /**
+     * Returns the key that is used to coalesce events delivered in the
+     * {@link EventBus.Delivery#COALESCE} mode. Only the latest of the events
+     * with the same key is delivered. Default is the event class.
+     */
+    public Object getCoalescingKey() {
+        return getClass();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
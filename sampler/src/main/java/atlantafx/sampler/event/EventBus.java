@@ -2,10 +2,36 @@
 
 package atlantafx.sampler.event;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public interface EventBus {
 
+    /**
+     * Defines the thread and the moment when the subscriber receives an event.
+     */
+    enum Delivery {
+        /**
+         * Synchronously, on the publisher thread.
+         */
+        SYNC,
+        /**
+         * On the JavaFX application thread. If the event is published from the FX thread,
+         * it's delivered synchronously, otherwise it's scheduled via {@code Platform.runLater()}.
+         */
+        FX_THREAD,
+        /**
+         * Asynchronously, on the event bus background executor.
+         */
+        BACKGROUND,
+        /**
+         * On the JavaFX application thread, once per pulse. If multiple events with the same
+         * coalescing key (see {@link Event#getCoalescingKey()}) are published during a single
+         * frame, only the latest of them is delivered.
+         */
+        COALESCE
+    }
+
     /**
      * Subscribe to an event type.
      *
@@ -15,6 +41,34 @@ public interface EventBus {
      */
     <T extends Event> void subscribe(Class<? extends T> eventType, Consumer<T> subscriber);
 
+    /**
+     * Subscribe to an event type with the specified delivery mode.
+     *
+     * @param eventType  the event type, can be a super class of all events to subscribe.
+     * @param delivery   the delivery mode.
+     * @param subscriber the subscriber which will consume the events.
+     * @param <T>        the event type class.
+     */
+    <T extends Event> void subscribe(Class<? extends T> eventType, Delivery delivery, Consumer<T> subscriber);
+
+    /**
+     * Subscribe to an event type while the owner is alive. The event bus only holds a weak
+     * reference to the owner, which is passed back to the subscriber on every event, so the
+     * subscriber must not capture the owner itself. The subscription is removed automatically
+     * after the owner is garbage collected.
+     *
+     * @param owner      the subscription owner, e.g. a page.
+     * @param eventType  the event type, can be a super class of all events to subscribe.
+     * @param delivery   the delivery mode.
+     * @param subscriber the subscriber which will consume the events.
+     * @param <O>        the owner type.
+     * @param <T>        the event type class.
+     */
+    <O, T extends Event> void subscribeWeak(O owner,
+                                            Class<? extends T> eventType,
+                                            Delivery delivery,
+                                            BiConsumer<O, T> subscriber);
+
     /**
      * Unsubscribe from all event types.
      *
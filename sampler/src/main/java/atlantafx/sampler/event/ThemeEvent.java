@@ -2,6 +2,11 @@
 
 package atlantafx.sampler.event;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 public final class ThemeEvent extends Event {
 
     public enum EventType {
@@ -16,20 +21,40 @@ public final class ThemeEvent extends Event {
         THEME_REMOVE
     }
 
-    private final EventType eventType;
+    private final Set<EventType> eventTypes;
 
     public ThemeEvent(EventType eventType) {
-        this.eventType = eventType;
+        this.eventTypes = Collections.unmodifiableSet(EnumSet.of(Objects.requireNonNull(eventType)));
+    }
+
+    /**
+     * Creates an event that combines multiple changes, e.g. made in a single batch.
+     */
+    public ThemeEvent(Set<EventType> eventTypes) {
+        if (Objects.requireNonNull(eventTypes).isEmpty()) {
+            throw new IllegalArgumentException("Event types cannot be empty!");
+        }
+        this.eventTypes = Collections.unmodifiableSet(EnumSet.copyOf(eventTypes));
+    }
+
+    public Set<EventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    public boolean hasEventType(EventType eventType) {
+        return eventTypes.contains(eventType);
     }
 
-    public EventType getEventType() {
-        return eventType;
+    // distinct changes must not supersede each other
+    @Override
+    public Object getCoalescingKey() {
+        return eventTypes;
     }
 
     @Override
     public String toString() {
         return "ThemeEvent{"
-            + "eventType=" + eventType
+            + "eventTypes=" + eventTypes
             + "} " + super.toString();
     }
 }
@@ -2,6 +2,8 @@
 
 package atlantafx.sampler.layout;
 
+import static atlantafx.sampler.Launcher.IS_DEV_MODE;
+
 import atlantafx.base.controls.ModalPane;
 import atlantafx.sampler.util.NodeUtils;
 import javafx.geometry.Insets;
@@ -14,6 +16,7 @@ public final class ApplicationWindow extends AnchorPane {
     public static final int SIDEBAR_WIDTH = 250;
     public static final String MAIN_MODAL_ID = "modal-pane";
 
+    private final SchedulerMonitor schedulerMonitor = new SchedulerMonitor();
 
     public ApplicationWindow() {
         // this is the place to apply user custom CSS,
@@ -28,5 +31,16 @@ public final class ApplicationWindow extends AnchorPane {
         NodeUtils.setAnchors(body, Insets.EMPTY);
 
         getChildren().setAll(body);
+
+        if (IS_DEV_MODE) {
+            AnchorPane.setRightAnchor(schedulerMonitor, 10.0);
+            AnchorPane.setBottomAnchor(schedulerMonitor, 10.0);
+            getChildren().add(schedulerMonitor);
+        }
+    }
+
+    // shows or hides background scheduler metrics, dev mode only
+    public void toggleSchedulerMonitor() {
+        schedulerMonitor.toggle();
     }
 }
@@ -6,12 +6,14 @@ import static atlantafx.sampler.event.PageEvent.Action;
 import static javafx.scene.layout.Priority.ALWAYS;
 
 import atlantafx.sampler.event.DefaultEventBus;
+import atlantafx.sampler.event.EventBus.Delivery;
 import atlantafx.sampler.event.HotkeyEvent;
 import atlantafx.sampler.event.PageEvent;
 import atlantafx.sampler.event.ThemeEvent;
 import atlantafx.sampler.layout.MainModel.SubLayer;
 import atlantafx.sampler.page.Page;
 import atlantafx.sampler.theme.ThemeManager;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -123,7 +125,7 @@ class MainLayer extends BorderPane {
         });
 
         // update code view color theme on app theme change
-        DefaultEventBus.getInstance().subscribe(ThemeEvent.class, e -> {
+        DefaultEventBus.getInstance().subscribe(ThemeEvent.class, Delivery.COALESCE, e -> {
             if (ThemeManager.getInstance().getTheme() != null
                 && model.currentSubLayerProperty().get() == SubLayer.SOURCE_CODE) {
                 showSourceCode();
@@ -160,6 +162,12 @@ class MainLayer extends BorderPane {
             // reset previous page, e.g. to free resources
             prevPage.reset();
 
+            // cancel background tasks, so that they don't update the discarded page
+            TaskScope backgroundTasks = prevPage.getBackgroundTasks();
+            if (backgroundTasks != null) {
+                backgroundTasks.cancelAll();
+            }
+
             // animate switching between pages
             subLayerPane.getChildren().add(nextPage.getView());
             subLayerPane.getChildren().remove(prevPage.getView());
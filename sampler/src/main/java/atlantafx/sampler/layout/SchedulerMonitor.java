@@ -0,0 +1,70 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.layout;
+
+import atlantafx.base.theme.Styles;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.Metrics;
+import java.util.Locale;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+/**
+ * Debug overlay that displays the {@link BackgroundScheduler} metrics.
+ * The metrics are only polled while the overlay is visible.
+ */
+final class SchedulerMonitor extends StackPane {
+
+    private static final Duration REFRESH_INTERVAL = Duration.millis(500);
+
+    private final Label label = new Label();
+    private final Timeline refresh = new Timeline(new KeyFrame(REFRESH_INTERVAL, e -> update()));
+
+    public SchedulerMonitor() {
+        super();
+
+        label.setStyle("-fx-font-family: monospace;");
+        label.getStyleClass().add(Styles.TEXT_SMALL);
+
+        getStyleClass().addAll(Styles.BG_DEFAULT, Styles.BORDER_DEFAULT, Styles.ELEVATED_1);
+        setPadding(new Insets(10));
+        setMouseTransparent(true);
+        setVisible(false);
+        setManaged(false);
+        getChildren().setAll(label);
+
+        refresh.setCycleCount(Animation.INDEFINITE);
+        visibleProperty().addListener((obs, old, val) -> {
+            if (val) {
+                update();
+                refresh.play();
+            } else {
+                refresh.stop();
+            }
+        });
+    }
+
+    public void toggle() {
+        setVisible(!isVisible());
+        setManaged(isVisible());
+    }
+
+    private void update() {
+        var sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-8s %6s %6s %9s %9s %9s %9s%n",
+            "CATEGORY", "ACTIVE", "QUEUED", "COMPLETED", "AVG WAIT", "MAX WAIT", "AVG RUN"
+        ));
+        for (Metrics m : BackgroundScheduler.getInstance().getMetrics()) {
+            sb.append(String.format(Locale.ROOT, "%-8s %6d %6d %9d %7.1fms %7.1fms %7.1fms%n",
+                m.category(), m.active(), m.queued(), m.completed(),
+                m.avgWaitMillis(), m.maxWaitMillis(), m.avgRunMillis()
+            ));
+        }
+        label.setText(sb.toString().stripTrailing());
+    }
+}
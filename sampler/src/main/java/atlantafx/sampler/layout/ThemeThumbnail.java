@@ -4,8 +4,8 @@ package atlantafx.sampler.layout;
 
 import atlantafx.base.theme.Styles;
 import atlantafx.sampler.theme.SamplerTheme;
-import java.io.IOException;
-import java.util.Map;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.Category;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.css.PseudoClass;
@@ -29,39 +29,38 @@ public final class ThemeThumbnail extends VBox implements Toggle {
 
         toggle = new RadioButton();
 
-        try {
-            Map<String, String> colors = theme.parseColors();
+        var nameLbl = new Label(theme.getName());
+        nameLbl.getStyleClass().add(Styles.TEXT_CAPTION);
 
-            var circles = new HBox(
+        var circles = new HBox();
+        circles.setAlignment(Pos.CENTER);
+
+        // theme colors are filled in as soon as the theme file is parsed
+        Styles.edit(this, s -> s
+            .set("-fx-background-radius", "10px, 8px")
+            .set("-fx-background-insets", "0, 3px")
+            .set("-fx-background-color", "-color-thumbnail-border,-color-bg-default")
+        );
+        setOnMouseClicked(e -> setSelected(true));
+        getStyleClass().add("theme-thumbnail");
+        getChildren().setAll(nameLbl, circles);
+
+        // external theme files can be arbitrarily large, don't parse them on the FX thread
+        BackgroundScheduler.getInstance().submit(Category.IO, theme::parseColors, colors -> {
+            circles.getChildren().setAll(
                 createCircle(colors.get("-color-fg-default"), colors.get("-color-fg-default"), false),
                 createCircle(colors.get("-color-fg-default"), colors.get("-color-accent-emphasis"), true),
                 createCircle(colors.get("-color-fg-default"), colors.get("-color-success-emphasis"), true),
                 createCircle(colors.get("-color-fg-default"), colors.get("-color-danger-emphasis"), true),
                 createCircle(colors.get("-color-fg-default"), colors.get("-color-warning-emphasis"), true)
             );
-            circles.setAlignment(Pos.CENTER);
-
-            var nameLbl = new Label(theme.getName());
-            nameLbl.getStyleClass().add(Styles.TEXT_CAPTION);
             Styles.appendStyle(nameLbl, "-fx-text-fill", colors.get("-color-fg-muted"));
-
-            setStyle("""
-                -fx-background-radius: 10px, 8px;
-                -fx-background-insets: 0, 3px
-                """
-            );
-            Styles.appendStyle(
-                this,
-                "-fx-background-color",
-                "-color-thumbnail-border," + colors.get("-color-bg-default")
-            );
-            setOnMouseClicked(e -> setSelected(true));
-            getStyleClass().add("theme-thumbnail");
-            getChildren().setAll(nameLbl, circles);
-
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
-        }
+            Styles.edit(this, s -> s.set(
+                "-fx-background-color", "-color-thumbnail-border," + colors.get("-color-bg-default")
+            ));
+        }, error -> System.err.println("[ERROR] Unable to parse \"" + theme.getName()
+            + "\" theme colors. Either CSS not valid or file isn't readable.")
+        );
 
         selectedProperty().addListener(
             (obs, old, val) -> pseudoClassStateChanged(SELECTED, val)
@@ -70,8 +69,10 @@ public final class ThemeThumbnail extends VBox implements Toggle {
 
     private Circle createCircle(String borderColor, String bgColor, boolean overlap) {
         var circle = new Circle(10);
-        Styles.appendStyle(circle, "-fx-stroke", borderColor);
-        Styles.appendStyle(circle, "-fx-fill", bgColor);
+        Styles.edit(circle, s -> s
+            .set("-fx-stroke", borderColor)
+            .set("-fx-fill", bgColor)
+        );
         if (overlap) {
             HBox.setMargin(circle, new Insets(0, 0, 0, -5));
         }
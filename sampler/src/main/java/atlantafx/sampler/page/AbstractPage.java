@@ -6,6 +6,8 @@ import static javafx.scene.control.ScrollPane.ScrollBarPolicy.AS_NEEDED;
 import static javafx.scene.control.ScrollPane.ScrollBarPolicy.NEVER;
 
 import atlantafx.base.util.BBCodeParser;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import atlantafx.sampler.util.NodeUtils;
 import java.net.URI;
 import javafx.geometry.Pos;
@@ -20,6 +22,7 @@ public abstract class AbstractPage extends StackPane implements Page {
 
     protected final VBox userContent = new VBox();
     protected final StackPane userContentArea = new StackPane(userContent);
+    protected final TaskScope backgroundTasks = BackgroundScheduler.getInstance().createScope();
     protected boolean isRendered = false;
 
     protected AbstractPage() {
@@ -67,6 +70,11 @@ public abstract class AbstractPage extends StackPane implements Page {
     public void reset() {
     }
 
+    @Override
+    public final TaskScope getBackgroundTasks() {
+        return backgroundTasks;
+    }
+
     @Override
     protected void layoutChildren() {
         super.layoutChildren();
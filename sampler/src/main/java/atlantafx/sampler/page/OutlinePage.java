@@ -6,6 +6,8 @@ import static javafx.scene.control.ScrollPane.ScrollBarPolicy.AS_NEEDED;
 import static javafx.scene.control.ScrollPane.ScrollBarPolicy.NEVER;
 
 import atlantafx.base.theme.Styles;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import atlantafx.sampler.util.NodeUtils;
 import java.net.URI;
 import java.util.LinkedHashSet;
@@ -38,6 +40,7 @@ public abstract class OutlinePage extends StackPane implements Page {
     protected final VBox userContent = new VBox();
     protected final StackPane userContentArea = new StackPane(userContent);
     protected final Outline outline = new Outline(createOutlineHandler());
+    protected final TaskScope backgroundTasks = BackgroundScheduler.getInstance().createScope();
     protected boolean isRendered = false;
 
     protected OutlinePage() {
@@ -178,6 +181,11 @@ public abstract class OutlinePage extends StackPane implements Page {
     public void reset() {
     }
 
+    @Override
+    public final TaskScope getBackgroundTasks() {
+        return backgroundTasks;
+    }
+
     @Override
     protected void layoutChildren() {
         super.layoutChildren();
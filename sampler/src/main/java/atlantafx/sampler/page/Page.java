@@ -12,6 +12,7 @@ import atlantafx.sampler.event.DefaultEventBus;
 import atlantafx.sampler.event.NavEvent;
 import atlantafx.sampler.event.PageEvent;
 import atlantafx.sampler.layout.ApplicationWindow;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
@@ -61,6 +62,14 @@ public interface Page {
 
     void reset();
 
+    /**
+     * Returns the scope of the page background tasks. The tasks are cancelled when
+     * the page is discarded, regardless of the {@link #reset()} implementation.
+     */
+    default @Nullable TaskScope getBackgroundTasks() {
+        return null;
+    }
+
     default <T> List<T> generate(Supplier<T> supplier, int count) {
         return Stream.generate(supplier).limit(count).toList();
     }
@@ -50,6 +50,7 @@ public final class CalendarPage extends OutlinePage {
         addSection("No Past Dates", noPastDatesExample());
         addSection("User Slots", clockExample());
         addSection("Style", styleExample());
+        addSection("Continuous Mode", continuousExample());
     }
 
     private ExampleBox usageExample() {
@@ -170,4 +171,21 @@ public final class CalendarPage extends OutlinePage {
 
         return new ExampleBox(box, new Snippet(getClass(), 4), description);
     }
+
+    private ExampleBox continuousExample() {
+        //snippet_5:start
+        var cal = new Calendar(TODAY);
+        cal.setViewMode(Calendar.ViewMode.CONTINUOUS);
+        cal.setPrefHeight(480);
+        //snippet_5:end
+
+        var box = new HBox(cal);
+        var description = BBCodeParser.createFormattedText("""
+            In the continuous mode the [i]Calendar[/i] displays a vertically scrollable list \
+            of months. The number of visible months depends on the available height. Week \
+            numbers are only supported in the default month mode."""
+        );
+
+        return new ExampleBox(box, new Snippet(getClass(), 5), description);
+    }
 }
@@ -74,8 +74,10 @@ public class CardPage extends OutlinePage {
             cell.setPadding(new Insets(10));
             cell.setFillWidth(true);
             cell.setAlignment(Pos.CENTER);
-            Styles.appendStyle(cell, "-fx-border-color", "-color-accent-muted");
-            Styles.appendStyle(cell, "-fx-border-width", "5px");
+            Styles.edit(cell, style -> style
+                .set("-fx-border-color", "-color-accent-muted")
+                .set("-fx-border-width", "5px")
+            );
 
             return cell;
         };
@@ -6,6 +6,7 @@ import atlantafx.base.controls.ToggleSwitch;
 import atlantafx.base.theme.Theme;
 import atlantafx.base.util.BBCodeParser;
 import atlantafx.sampler.event.DefaultEventBus;
+import atlantafx.sampler.event.EventBus.Delivery;
 import atlantafx.sampler.event.ThemeEvent;
 import atlantafx.sampler.page.AbstractPage;
 import atlantafx.sampler.theme.HighlightJSTheme;
@@ -46,10 +47,10 @@ public final class HtmlEditorPage extends AbstractPage {
         addNode(editorSample());
 
         // update editor colors on app theme change
-        DefaultEventBus.getInstance().subscribe(ThemeEvent.class, e -> {
+        DefaultEventBus.getInstance().subscribeWeak(this, ThemeEvent.class, Delivery.COALESCE, (page, e) -> {
             if (ThemeManager.getInstance().getTheme() != null) {
-                editor.setHtmlText(generateContent());
-                editor.requestFocus();
+                page.editor.setHtmlText(page.generateContent());
+                page.editor.requestFocus();
             }
         });
 
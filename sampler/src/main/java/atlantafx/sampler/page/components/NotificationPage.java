@@ -3,6 +3,7 @@
 package atlantafx.sampler.page.components;
 
 import atlantafx.base.controls.Notification;
+import atlantafx.base.controls.NotificationCenter;
 import atlantafx.base.theme.Styles;
 import atlantafx.base.util.Animations;
 import atlantafx.base.util.BBCodeParser;
@@ -18,6 +19,7 @@ import javafx.scene.control.Button;
 import javafx.scene.control.MenuItem;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -53,6 +55,7 @@ public class NotificationPage extends OutlinePage {
         addSection("Intent", intentExample());
         addSection("Popup", popupExample());
         addSection("Elevation", elevationExample());
+        addSection("Notification Center", notificationCenterExample());
     }
 
     private Node usageExample() {
@@ -227,4 +230,45 @@ public class NotificationPage extends OutlinePage {
 
         return new ExampleBox(box, new Snippet(getClass(), 5), description);
     }
+
+    private ExampleBox notificationCenterExample() {
+        //snippet_6:start
+        var center = new NotificationCenter();
+        center.setPadding(new Insets(10));
+        center.setMaxVisible(3);
+        getChildren().add(center);
+
+        var showBtn = new Button("Show");
+        showBtn.setOnAction(e -> center.show(
+            FAKER.lorem().sentence(10),
+            new FontIcon(Material2OutlinedAL.HELP_OUTLINE),
+            Styles.ACCENT, Styles.ELEVATED_1
+        ));
+
+        var burstBtn = new Button("Burst");
+        burstBtn.setOnAction(e -> {
+            for (int i = 0; i < 100; i++) {
+                center.show(
+                    "Alert #" + (i % 5),
+                    null,
+                    i % 5 == 0 ? Styles.DANGER : Styles.WARNING, Styles.ELEVATED_1
+                );
+            }
+        });
+        //snippet_6:end
+
+        var box = new HBox(HGAP_20, showBtn, burstBtn);
+        box.setPadding(new Insets(0, 0, 10, 0));
+        var description = BBCodeParser.createFormattedText("""
+            The [i]NotificationCenter[/i] is a layout that stacks notifications in one \
+            of its corners. It limits the number of visible notifications and queues \
+            the rest, coalesces duplicate messages and reuses notification instances, \
+            so it can handle bursts of messages without flooding the scene graph."""
+        );
+
+        var example = new ExampleBox(box, new Snippet(getClass(), 6), description);
+        example.setAllowDisable(false);
+
+        return example;
+    }
 }
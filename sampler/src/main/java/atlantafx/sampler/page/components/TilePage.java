@@ -76,8 +76,10 @@ public class TilePage extends OutlinePage {
             cell.setPadding(new Insets(10));
             cell.setFillWidth(true);
             cell.setAlignment(pos);
-            Styles.appendStyle(cell, "-fx-border-color", "-color-accent-muted");
-            Styles.appendStyle(cell, "-fx-border-width", "5px");
+            Styles.edit(cell, style -> style
+                .set("-fx-border-color", "-color-accent-muted")
+                .set("-fx-border-width", "5px")
+            );
             return cell;
         };
 
@@ -416,9 +416,11 @@ public final class AnimationsPage extends StackPane implements Page {
 
     private Hyperlink createMenuItem(String text) {
         var item = new Hyperlink(text);
-        Styles.appendStyle(item, "-color-link-fg", "-color-fg-default");
-        Styles.appendStyle(item, "-color-link-fg-visited", "-color-fg-default");
-        Styles.appendStyle(item, "-fx-underline", "false");
+        Styles.edit(item, s -> s
+            .set("-color-link-fg", "-color-fg-default")
+            .set("-color-link-fg-visited", "-color-fg-default")
+            .set("-fx-underline", "false")
+        );
         return item;
     }
 
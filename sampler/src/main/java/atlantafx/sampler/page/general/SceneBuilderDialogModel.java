@@ -6,6 +6,8 @@ import atlantafx.base.theme.PrimerLight;
 import atlantafx.sampler.theme.SamplerTheme;
 import atlantafx.sampler.theme.SceneBuilderTheme;
 import atlantafx.sampler.theme.ThemeManager;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.Category;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -93,7 +95,7 @@ final class SceneBuilderDialogModel {
         )));
         task.setOnFailed(e -> report.set(Report.error(e.getSource().getException().getMessage(), Screen.EXEC)));
 
-        new Thread(task).start();
+        BackgroundScheduler.getInstance().execute(Category.SYSTEM, task);
     }
 
     private void uninstallAll() {
@@ -112,7 +114,7 @@ final class SceneBuilderDialogModel {
         )));
         task.setOnFailed(e -> report.set(Report.error(e.getSource().getException().getMessage(), Screen.EXEC)));
 
-        new Thread(task).start();
+        BackgroundScheduler.getInstance().execute(Category.SYSTEM, task);
     }
 
     private void requireSupportedAction() {
@@ -9,6 +9,7 @@ import atlantafx.base.theme.Styles;
 import atlantafx.base.util.BBCodeParser;
 import atlantafx.sampler.Resources;
 import atlantafx.sampler.event.DefaultEventBus;
+import atlantafx.sampler.event.EventBus.Delivery;
 import atlantafx.sampler.event.ThemeEvent;
 import atlantafx.sampler.page.OutlinePage;
 import atlantafx.sampler.theme.SamplerTheme;
@@ -109,17 +110,19 @@ public final class ThemePage extends OutlinePage {
             dialog.show(getScene());
         }, bgBaseColor);
 
-        DefaultEventBus.getInstance().subscribe(ThemeEvent.class, e -> {
-            var eventType = e.getEventType();
-            if (eventType == EventType.THEME_ADD || eventType == EventType.THEME_REMOVE) {
-                themeSelector.getItems().setAll(TM.getRepository().getAll());
-                selectCurrentTheme();
+        DefaultEventBus.getInstance().subscribeWeak(this, ThemeEvent.class, Delivery.COALESCE, (page, e) -> {
+            if (e.hasEventType(EventType.THEME_ADD) || e.hasEventType(EventType.THEME_REMOVE)) {
+                page.themeSelector.getItems().setAll(TM.getRepository().getAll());
+                page.selectCurrentTheme();
             }
-            if (eventType == EventType.THEME_CHANGE || eventType == EventType.COLOR_CHANGE) {
-                colorPalette.updateColorInfo(Duration.seconds(1));
-                colorScale.updateColorInfo(Duration.seconds(1));
-                fontFamilyChooser.getSelectionModel().select(DEFAULT_FONT_ID);
-                fontSizeSpinner.getValueFactory().setValue(DEFAULT_FONT_SIZE);
+            if (e.hasEventType(EventType.THEME_CHANGE) || e.hasEventType(EventType.COLOR_CHANGE)) {
+                page.colorPalette.updateColorInfo(Duration.seconds(1));
+                page.colorScale.updateColorInfo(Duration.seconds(1));
+                // both controls update theme manager, apply their changes at once
+                TM.batch(editor -> {
+                    page.fontFamilyChooser.getSelectionModel().select(DEFAULT_FONT_ID);
+                    page.fontSizeSpinner.getValueFactory().setValue(DEFAULT_FONT_SIZE);
+                });
             }
         });
 
@@ -14,12 +14,12 @@ import atlantafx.base.controls.Spacer;
 import atlantafx.sampler.theme.SamplerTheme;
 import atlantafx.sampler.theme.ThemeManager;
 import atlantafx.sampler.theme.ThemeRepository;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.Category;
 import atlantafx.sampler.util.NodeUtils;
 import java.io.File;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import javafx.concurrent.Task;
 import javafx.css.PseudoClass;
@@ -37,7 +37,6 @@ import org.kordamp.ikonli.material2.Material2OutlinedAL;
 @SuppressWarnings("UnnecessaryLambda")
 final class ThemeRepoManager extends VBox {
 
-    private static final Executor THREAD_POOL = Executors.newFixedThreadPool(3);
     private static final ThemeRepository REPO = ThemeManager.getInstance().getRepository();
 
     private VBox themeList;
@@ -178,7 +177,7 @@ final class ThemeRepoManager extends VBox {
                     + "\" theme colors. Either CSS not valid or file isn't readable.")
             );
 
-            THREAD_POOL.execute(task);
+            BackgroundScheduler.getInstance().execute(Category.IO, task);
 
             // == CONTROLS ==
 
@@ -7,6 +7,7 @@ import static atlantafx.sampler.event.ThemeEvent.EventType;
 import atlantafx.base.theme.Styles;
 import atlantafx.base.util.BBCodeParser;
 import atlantafx.sampler.event.DefaultEventBus;
+import atlantafx.sampler.event.EventBus.Delivery;
 import atlantafx.sampler.event.ThemeEvent;
 import atlantafx.sampler.page.ExampleBox;
 import atlantafx.sampler.page.OutlinePage;
@@ -62,10 +63,9 @@ public final class TypographyPage extends OutlinePage {
         addSection("Label", labelExample());
         addSection("Hyperlink", hyperlinkExample());
 
-        DefaultEventBus.getInstance().subscribe(ThemeEvent.class, e -> {
-            var eventType = e.getEventType();
-            if (eventType == EventType.THEME_CHANGE || eventType == EventType.FONT_CHANGE) {
-                updateFontInfo();
+        DefaultEventBus.getInstance().subscribeWeak(this, ThemeEvent.class, Delivery.COALESCE, (page, e) -> {
+            if (e.hasEventType(EventType.THEME_CHANGE) || e.hasEventType(EventType.FONT_CHANGE)) {
+                page.updateFontInfo();
             }
         });
     }
@@ -5,6 +5,8 @@ package atlantafx.sampler.page.showcase;
 import atlantafx.base.controls.Spacer;
 import atlantafx.base.theme.Styles;
 import atlantafx.sampler.page.Page;
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import java.net.URI;
 import java.util.Objects;
 import javafx.beans.property.BooleanProperty;
@@ -35,6 +37,7 @@ public abstract class ShowcasePage extends StackPane implements Page {
     protected final VBox showCaseContent = new VBox();
     protected final FontIcon aboutBtn = new FontIcon(Feather.HELP_CIRCLE);
     protected final BooleanProperty maximized = new SimpleBooleanProperty();
+    protected final TaskScope backgroundTasks = BackgroundScheduler.getInstance().createScope();
     protected int windowWidth = DEFAULT_WIDTH;
     protected int windowHeight = DEFAULT_HEIGHT;
 
@@ -135,6 +138,11 @@ public abstract class ShowcasePage extends StackPane implements Page {
     public void reset() {
     }
 
+    @Override
+    public final TaskScope getBackgroundTasks() {
+        return backgroundTasks;
+    }
+
     protected void showWarning(String header, String description) {
         var alert = new Alert(Alert.AlertType.WARNING);
         alert.setTitle("Error Dialog");
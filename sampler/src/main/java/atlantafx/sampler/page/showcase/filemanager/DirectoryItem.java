@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.page.showcase.filemanager;
+
+import atlantafx.sampler.util.BackgroundScheduler.Category;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import javafx.scene.control.TreeItem;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The directory tree item. Subdirectories are listed in background when the item
+ * is expanded for the first time. Until then the item isn't a leaf, so that it can
+ * be expanded without touching the disk.
+ *
+ * <p>Listings are cached per path for all items and revalidated by the directory
+ * modification time on every expansion. The cache is process-wide on purpose, because
+ * the page is re-created on every visit. It's bounded to {@value #CACHE_SIZE} least
+ * recently used directories and only holds paths and immutable metadata, never
+ * the tree items, so a discarded page can be garbage collected.
+ */
+final class DirectoryItem extends TreeItem<FileEntry> {
+
+    static final int CACHE_SIZE = 512;
+
+    // The directory modification time can be as coarse as 2 seconds (FAT), so a child
+    // added within the same tick doesn't change it. A listing taken that close to
+    // the modification time can't be trusted and is always listed again.
+    static final long MTIME_RESOLUTION_MILLIS = 2000;
+
+    private static final Comparator<FileEntry> NAME_COMPARATOR = Comparator.comparing(FileEntry::name);
+    private static final Map<Path, Listing> CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Listing> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        }
+    );
+
+    private final TaskScope tasks;
+    private boolean loaded = false;
+    // the task callbacks aren't called when the task is cancelled (e.g. the page
+    // is discarded), so the pending state is derived from the task itself
+    private @Nullable Future<Listing> loading;
+
+    public DirectoryItem(FileEntry entry, TaskScope tasks) {
+        super(Objects.requireNonNull(entry, "Entry cannot be null!"));
+        this.tasks = Objects.requireNonNull(tasks, "Task scope cannot be null!");
+
+        expandedProperty().addListener((obs, old, val) -> {
+            if (val) {
+                load();
+            }
+        });
+    }
+
+    @Override
+    public boolean isLeaf() {
+        return loaded && getChildren().isEmpty();
+    }
+
+    // package-private for testing
+    @Nullable Future<Listing> getLoading() {
+        return loading;
+    }
+
+    // a cancelled listing leaves the placeholder in place, it will be
+    // replaced by the next expansion, which lists the directory again
+    private void load() {
+        if (loading != null && !loading.isDone()) {
+            return;
+        }
+
+        Path dir = getValue().path();
+        Listing cached = CACHE.get(dir);
+        if (!loaded) {
+            if (cached != null) {
+                setEntries(cached.entries());
+            } else {
+                // placeholder item, see DirectoryTree.DirectoryCell
+                getChildren().setAll(List.of(new TreeItem<>()));
+            }
+        }
+
+        loading = tasks.submit(Category.IO, () -> list(dir, cached), listing -> {
+            if (listing != cached) {
+                setEntries(listing.entries());
+            }
+        }, error -> {
+            System.err.println("[WARNING] Unable to list directory \"" + dir + "\": " + error.getMessage());
+            if (!loaded) {
+                setEntries(List.of());
+            }
+        });
+    }
+
+    private void setEntries(List<FileEntry> entries) {
+        // reuse existing items to keep their expanded state and children
+        var existing = new HashMap<Path, DirectoryItem>();
+        for (TreeItem<FileEntry> child : getChildren()) {
+            if (child instanceof DirectoryItem item) {
+                existing.put(item.getValue().path(), item);
+            }
+        }
+
+        var children = new ArrayList<DirectoryItem>(entries.size());
+        for (FileEntry entry : entries) {
+            DirectoryItem item = existing.get(entry.path());
+            if (item != null) {
+                item.setValue(entry);
+            } else {
+                item = new DirectoryItem(entry, tasks);
+            }
+            children.add(item);
+        }
+
+        loaded = true;
+        getChildren().setAll(children);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // background thread, returns the cached listing if the directory hasn't changed
+    static Listing list(Path dir, @Nullable Listing cached) throws IOException {
+        // must be taken before reading the directory, see MTIME_RESOLUTION_MILLIS
+        long listedAt = System.currentTimeMillis();
+        FileTime modified = Files.getLastModifiedTime(dir);
+        if (cached != null && cached.isUpToDate(modified)) {
+            return cached;
+        }
+
+        var entries = new ArrayList<FileEntry>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path path : stream) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException();
+                }
+                entries.add(FileEntry.read(path));
+            }
+        }
+        entries.sort(NAME_COMPARATOR);
+
+        var listing = new Listing(modified, listedAt, List.copyOf(entries));
+        CACHE.put(dir, listing);
+        return listing;
+    }
+
+    static @Nullable Listing getCached(Path dir) {
+        return CACHE.get(dir);
+    }
+
+    record Listing(FileTime modified, long listedAt, List<FileEntry> entries) {
+
+        boolean isUpToDate(FileTime currentModified) {
+            return modified.equals(currentModified)
+                && listedAt - modified.toMillis() > MTIME_RESOLUTION_MILLIS;
+        }
+    }
+}
@@ -2,87 +2,72 @@
 
 package atlantafx.sampler.page.showcase.filemanager;
 
-import static atlantafx.sampler.page.showcase.filemanager.Utils.isFileHidden;
-
 import atlantafx.base.theme.Tweaks;
-import java.io.File;
-import java.util.Comparator;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
+import java.nio.file.Path;
+import java.util.Objects;
 import javafx.scene.control.TreeCell;
-import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeView;
 import javafx.scene.image.ImageView;
 
-final class DirectoryTree extends TreeView<File> {
+/**
+ * The directory tree, see {@link DirectoryItem} for the loading details.
+ */
+final class DirectoryTree extends TreeView<FileEntry> {
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public DirectoryTree(Model model, File rootPath) {
+    public DirectoryTree(Model model, Path rootPath, TaskScope tasks) {
         super();
 
+        Objects.requireNonNull(rootPath, "Root path cannot be null!");
+
         getStyleClass().add(Tweaks.ALT_ICON);
 
-        var root = new TreeItem<>(rootPath);
-        root.setExpanded(true);
+        // the root metadata isn't used except for the name, no need to read it from disk
+        var root = new DirectoryItem(new FileEntry(
+            rootPath,
+            rootPath.getFileName() != null ? rootPath.getFileName().toString() : rootPath.toString(),
+            true, false, 0, null, null, FileEntry.COUNT_PENDING
+        ), tasks);
         setRoot(root);
+        root.setExpanded(true);
 
-        // scan file tree two levels deep for starters
-        scan(root, 2);
-
-        setCellFactory(c -> new TreeCell<>() {
-            @Override
-            protected void updateItem(File item, boolean empty) {
-                super.updateItem(item, empty);
-                if (empty || item == null) {
-                    setText(null);
-                    setGraphic(null);
-                } else {
-                    setText(item.getName());
-
-                    var image = new ImageView(FileIconRepository.FOLDER);
-                    image.setFitWidth(20);
-                    image.setFitHeight(20);
-                    setGraphic(image);
-
-                    pseudoClassStateChanged(Model.HIDDEN, isFileHidden(item.toPath()));
-                }
-            }
-        });
-
-        // scan deeper as the user navigates down the tree
-        root.addEventHandler(TreeItem.branchExpandedEvent(), event -> {
-            TreeItem parent = event.getTreeItem();
-            parent.getChildren().forEach(child -> {
-                var item = (TreeItem<File>) child;
-                if (item.getChildren().isEmpty()) {
-                    scan(item, 1);
-                }
-            });
-        });
+        setCellFactory(c -> new DirectoryCell());
 
         getSelectionModel().selectedItemProperty().addListener((obs, old, item) -> {
             if (item != null && item.getValue() != null) {
-                model.navigate(item.getValue().toPath(), true);
+                model.navigate(item.getValue().path(), true);
             }
         });
     }
 
-    public static void scan(TreeItem<File> parent, int depth) {
-        File[] files = parent.getValue().listFiles();
-        depth--;
+    ///////////////////////////////////////////////////////////////////////////
 
-        if (files != null) {
-            for (File f : files) {
-                if (f.isDirectory()) {
-                    var item = new TreeItem<>(f);
-                    parent.getChildren().add(item);
+    private static final class DirectoryCell extends TreeCell<FileEntry> {
+
+        private final ImageView imageView = new ImageView(FileIconRepository.FOLDER);
+
+        public DirectoryCell() {
+            super();
+            imageView.setFitWidth(20);
+            imageView.setFitHeight(20);
+        }
 
-                    if (depth > 0) {
-                        scan(item, depth);
-                    }
-                }
+        @Override
+        protected void updateItem(FileEntry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            if (empty) {
+                setText(null);
+                setGraphic(null);
+                pseudoClassStateChanged(Model.HIDDEN, false);
+            } else if (entry == null) {
+                setText("Loading…");
+                setGraphic(null);
+                pseudoClassStateChanged(Model.HIDDEN, false);
+            } else {
+                setText(entry.name());
+                setGraphic(imageView);
+                pseudoClassStateChanged(Model.HIDDEN, entry.hidden());
             }
-            parent.getChildren().sort(
-                Comparator.comparing(TreeItem::getValue)
-            );
         }
     }
 }
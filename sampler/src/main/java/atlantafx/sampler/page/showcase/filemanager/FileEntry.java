@@ -0,0 +1,106 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.page.showcase.filemanager;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable snapshot of the file metadata. Entries are read in background,
+ * so that rendering a file never touches the disk.
+ *
+ * @param path       the file path.
+ * @param name       the file name.
+ * @param directory  whether the file is a directory, symlinks are followed.
+ * @param hidden     whether the file is hidden.
+ * @param size       the file size in bytes.
+ * @param modified   the last modification time or null, if unknown.
+ * @param mimeType   the file MIME type or null, if unknown.
+ * @param childCount the number of directory children, or one of the
+ *                   {@link #COUNT_PENDING} and {@link #COUNT_UNKNOWN} values.
+ */
+record FileEntry(Path path,
+                 String name,
+                 boolean directory,
+                 boolean hidden,
+                 long size,
+                 @Nullable FileTime modified,
+                 @Nullable String mimeType,
+                 int childCount) {
+
+    /**
+     * The children are not counted yet.
+     */
+    public static final int COUNT_PENDING = -1;
+
+    /**
+     * The children can't be counted, e.g. the directory is not readable or the file is not a directory.
+     */
+    public static final int COUNT_UNKNOWN = -2;
+
+    public FileEntry {
+        Objects.requireNonNull(path, "Path cannot be null!");
+        Objects.requireNonNull(name, "Name cannot be null!");
+    }
+
+    /**
+     * Reads the file metadata. Blocking, must not be called on the FX thread.
+     */
+    public static FileEntry read(Path path) {
+        Objects.requireNonNull(path, "Path cannot be null!");
+
+        BasicFileAttributes attrs = readAttributes(path);
+        boolean directory = attrs != null && attrs.isDirectory();
+
+        return new FileEntry(
+            path,
+            path.getFileName() != null ? path.getFileName().toString() : path.toString(),
+            directory,
+            Utils.isFileHidden(path),
+            attrs != null ? attrs.size() : 0,
+            attrs != null ? attrs.lastModifiedTime() : null,
+            !directory ? Utils.getMimeType(path) : null,
+            directory ? COUNT_PENDING : COUNT_UNKNOWN
+        );
+    }
+
+    /**
+     * Counts the directory children. Blocking, must not be called on the FX thread.
+     */
+    public static int countChildren(Path dir) {
+        int count = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (var it = stream.iterator(); it.hasNext(); it.next()) {
+                count++;
+            }
+        } catch (IOException | SecurityException e) {
+            return COUNT_UNKNOWN;
+        }
+        return count;
+    }
+
+    public FileEntry withChildCount(int childCount) {
+        return new FileEntry(path, name, directory, hidden, size, modified, mimeType, childCount);
+    }
+
+    private static @Nullable BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // e.g. a broken symlink, the link itself can be still displayed
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+            } catch (IOException ignored) {
+                return null;
+            }
+        }
+    }
+}
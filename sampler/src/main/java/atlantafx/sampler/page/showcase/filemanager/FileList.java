@@ -2,41 +2,69 @@
 
 package atlantafx.sampler.page.showcase.filemanager;
 
-import static atlantafx.sampler.page.showcase.filemanager.Utils.isFileHidden;
-
+import atlantafx.sampler.util.BackgroundScheduler.Category;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import javafx.animation.AnimationTimer;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import javafx.scene.control.TableView;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * The directory content. The directory is listed in background and the entries
+ * are streamed into the list in batches, one batch per pulse, so that neither
+ * a huge directory nor a slow disk freeze the UI.
+ */
 final class FileList {
 
-    static final Comparator<Path> FILE_TYPE_COMPARATOR = Comparator.comparing(
-        path -> !Files.isDirectory(path)
+    static final Comparator<FileEntry> FILE_TYPE_COMPARATOR = Comparator.comparing(
+        entry -> !entry.directory()
     );
-    static final Predicate<Path> PREDICATE_ANY = path -> true;
-    static final Predicate<Path> PREDICATE_NOT_HIDDEN = path -> !isFileHidden(path);
+    static final Predicate<FileEntry> PREDICATE_ANY = entry -> true;
+    static final Predicate<FileEntry> PREDICATE_NOT_HIDDEN = entry -> !entry.hidden();
+
+    // every added or replaced item is inserted into the sorted list separately,
+    // so the batch size is adjusted to keep the insertion time within the budget
+    static final long PULSE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+    static final int MIN_BATCH_SIZE = 64;
+    static final int MAX_BATCH_SIZE = 4096;
+
+    private final ObservableList<FileEntry> list = FXCollections.observableArrayList();
+    private final ObjectProperty<Predicate<FileEntry>> predicateProperty = new SimpleObjectProperty<>(PREDICATE_ANY);
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+    private final TaskScope tasks;
+    private final Function<Runnable, PulseTimer> timerFactory;
+    private @Nullable Listing listing;
 
-    private final ObservableList<Path> list = FXCollections.observableArrayList();
-    private final ObjectProperty<Predicate<Path>> predicateProperty = new SimpleObjectProperty<>(path -> true);
+    public FileList(TableView<FileEntry> table, TaskScope tasks) {
+        this(tasks, FileList::createAnimationTimer);
 
-    public FileList(TableView<Path> table) {
         var filteredList = new FilteredList<>(list);
         filteredList.predicateProperty().bind(predicateProperty);
 
         var sortedList = new SortedList<>(filteredList);
         sortedList.comparatorProperty().bind(Bindings.createObjectBinding(() -> {
-            Comparator<Path> tableComparator = table.comparatorProperty().get();
+            Comparator<FileEntry> tableComparator = table.comparatorProperty().get();
             return tableComparator != null
                 ? FILE_TYPE_COMPARATOR.thenComparing(tableComparator)
                 : FILE_TYPE_COMPARATOR;
@@ -44,15 +72,200 @@ final class FileList {
         table.setItems(sortedList);
     }
 
-    public void load(Stream<Path> stream) {
-        list.setAll(stream.collect(Collectors.toList()));
+    // package-private for testing, allows to drive the listing without the FX toolkit
+    FileList(TaskScope tasks, Function<Runnable, PulseTimer> timerFactory) {
+        this.tasks = Objects.requireNonNull(tasks);
+        this.timerFactory = Objects.requireNonNull(timerFactory);
+    }
+
+    /**
+     * Replaces the list content with the directory entries. The previous listing,
+     * if it is still running, is cancelled.
+     */
+    public void load(Path dir) {
+        Objects.requireNonNull(dir, "Directory cannot be null!");
+
+        cancel();
+        list.clear();
+
+        listing = new Listing(dir);
+        loading.set(true);
+        listing.begin();
     }
 
     public void clear() {
+        cancel();
         list.clear();
     }
 
-    public ObjectProperty<Predicate<Path>> predicateProperty() {
+    public ObjectProperty<Predicate<FileEntry>> predicateProperty() {
         return predicateProperty;
     }
+
+    /**
+     * Whether the directory listing is still in progress.
+     */
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    // package-private for testing, unfiltered and unsorted entries in the listing order
+    ObservableList<FileEntry> getEntries() {
+        return list;
+    }
+
+    private void cancel() {
+        if (listing != null) {
+            listing.cancel();
+            listing = null;
+            loading.set(false);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // The listing runs in two passes. The first one reads the entries metadata, so that
+    // the table is filled as soon as possible. The second one counts the children of
+    // the directory entries and replaces them in the list. Because the list is cleared
+    // before loading and entries are added in order, the entry index in the list
+    // is the same as its index in the listing.
+    private final class Listing {
+
+        private final Path dir;
+        private final PulseTimer timer = timerFactory.apply(this::pulse);
+        private final Queue<FileEntry> added = new ConcurrentLinkedQueue<>();
+        private final Queue<Update> updated = new ConcurrentLinkedQueue<>();
+        private @Nullable Future<?> future;
+        private int batchSize = MIN_BATCH_SIZE;
+
+        public Listing(Path dir) {
+            this.dir = dir;
+        }
+
+        public void begin() {
+            future = tasks.execute(Category.IO, this::list);
+            timer.start();
+        }
+
+        public void cancel() {
+            timer.stop();
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        // background thread
+        private void list() {
+            var dirs = new ArrayList<Update>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                int index = 0;
+                for (Path path : stream) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+
+                    var entry = FileEntry.read(path);
+                    added.add(entry);
+                    if (entry.directory()) {
+                        dirs.add(new Update(index, entry));
+                    }
+                    index++;
+                }
+            } catch (IOException e) {
+                System.err.println("[WARNING] Unable to list directory \"" + dir + "\": " + e.getMessage());
+                return;
+            }
+
+            for (Update pending : dirs) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                updated.add(new Update(pending.index(), pending.entry().withChildCount(
+                    FileEntry.countChildren(pending.entry().path())
+                )));
+            }
+        }
+
+        // FX thread, once per pulse
+        private void pulse() {
+            // must be checked before draining the queue, otherwise the tail can be lost
+            boolean finished = future == null || future.isDone();
+
+            long start = System.nanoTime();
+            int processed = 0;
+
+            if (!added.isEmpty()) {
+                var batch = new ArrayList<FileEntry>(batchSize);
+                FileEntry entry;
+                while (batch.size() < batchSize && (entry = added.poll()) != null) {
+                    batch.add(entry);
+                }
+                list.addAll(batch);
+                processed = batch.size();
+            } else {
+                // the updates are only produced after all entries were listed,
+                // so it's safe to apply them as soon as the added queue is drained
+                Update update;
+                while (processed < batchSize && (update = updated.poll()) != null) {
+                    list.set(update.index(), update.entry());
+                    processed++;
+                }
+            }
+
+            if (processed > 0) {
+                batchSize = adjustBatchSize(batchSize, processed, System.nanoTime() - start);
+            }
+
+            if (finished && added.isEmpty() && updated.isEmpty()) {
+                timer.stop();
+                if (listing == this) {
+                    listing = null;
+                    loading.set(false);
+                }
+            }
+        }
+    }
+
+    // halves the batch if the pulse budget was exceeded, or doubles the full batch
+    // if it took less than a half of the budget
+    static int adjustBatchSize(int batchSize, int processed, long elapsedNanos) {
+        if (elapsedNanos > PULSE_BUDGET_NANOS) {
+            return Math.max(MIN_BATCH_SIZE, batchSize / 2);
+        } else if (elapsedNanos < PULSE_BUDGET_NANOS / 2 && processed == batchSize) {
+            return Math.min(MAX_BATCH_SIZE, batchSize * 2);
+        }
+        return batchSize;
+    }
+
+    private static PulseTimer createAnimationTimer(Runnable handler) {
+        var timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                handler.run();
+            }
+        };
+
+        return new PulseTimer() {
+            @Override
+            public void start() {
+                timer.start();
+            }
+
+            @Override
+            public void stop() {
+                timer.stop();
+            }
+        };
+    }
+
+    // calls the handler once per pulse while started
+    interface PulseTimer {
+
+        void start();
+
+        void stop();
+    }
+
+    private record Update(int index, FileEntry entry) {
+    }
 }
@@ -104,10 +104,10 @@ public class FileManagerPage extends ShowcasePage {
         );
 
         // ~
-        var dirTree = new DirectoryTree(model, Model.USER_HOME.toFile());
+        var dirTree = new DirectoryTree(model, Model.USER_HOME, backgroundTasks);
         dirTree.setMinWidth(100);
 
-        var dirView = new TableDirectoryView();
+        var dirView = new TableDirectoryView(backgroundTasks);
         dirView.setMinWidth(300);
         dirView.setDirectory(model.currentPathProperty().get());
         dirView.setOnAction(path -> {
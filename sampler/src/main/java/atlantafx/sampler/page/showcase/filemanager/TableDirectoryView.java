@@ -2,28 +2,26 @@
 
 package atlantafx.sampler.page.showcase.filemanager;
 
-import static atlantafx.sampler.page.showcase.filemanager.Utils.fileMTime;
-import static atlantafx.sampler.page.showcase.filemanager.Utils.fileSize;
-import static atlantafx.sampler.page.showcase.filemanager.Utils.isFileHidden;
 import static atlantafx.sampler.util.HumanReadableFormat.byteCount;
-import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static javafx.scene.control.TableColumn.SortType.ASCENDING;
 
 import atlantafx.base.theme.Styles;
 import atlantafx.base.theme.Tweaks;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import atlantafx.sampler.util.HumanReadableFormat;
 import atlantafx.sampler.util.NodeUtils;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleLongProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
@@ -40,37 +38,57 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
     private final FileList fileList;
     private Consumer<Path> actionHandler;
 
-    public TableDirectoryView() {
-        TableView<Path> table = createTable();
-        fileList = new FileList(table);
+    public TableDirectoryView(TaskScope tasks) {
+        TableView<FileEntry> table = createTable();
+        fileList = new FileList(table, tasks);
 
-        getChildren().setAll(table);
+        var placeholder = new Label();
+        placeholder.textProperty().bind(Bindings.when(fileList.loadingProperty())
+            .then("Loading…")
+            .otherwise("No content in table")
+        );
+        table.setPlaceholder(placeholder);
+
+        var progress = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+        progress.getStyleClass().add(Styles.SMALL);
+        progress.setMaxWidth(Double.MAX_VALUE);
+        progress.setMouseTransparent(true);
+        progress.visibleProperty().bind(fileList.loadingProperty());
+
+        getChildren().setAll(table, progress);
         getStyleClass().addAll("table-directory-view");
         NodeUtils.setAnchors(table, Insets.EMPTY);
+        AnchorPane.setTopAnchor(progress, 0d);
+        AnchorPane.setLeftAnchor(progress, 0d);
+        AnchorPane.setRightAnchor(progress, 0d);
     }
 
     @SuppressWarnings("unchecked")
-    private TableView<Path> createTable() {
-        var filenameCol = new TableColumn<Path, String>("Name");
+    private TableView<FileEntry> createTable() {
+        var filenameCol = new TableColumn<FileEntry, String>("Name");
         filenameCol.setCellValueFactory(param -> new SimpleStringProperty(
-            param.getValue() != null ? param.getValue().getFileName().toString() : null
+            param.getValue() != null ? param.getValue().name() : null
         ));
         filenameCol.setComparator(Comparator.comparing(String::toLowerCase));
         filenameCol.setSortType(ASCENDING);
         filenameCol.setCellFactory(col -> new FilenameCell());
 
-        var sizeCol = new TableColumn<Path, Number>("Size");
-        sizeCol.setCellValueFactory(param -> new SimpleLongProperty(fileSize(param.getValue())));
+        var sizeCol = new TableColumn<FileEntry, Number>("Size");
+        sizeCol.setCellValueFactory(param -> new SimpleLongProperty(
+            param.getValue() != null ? param.getValue().size() : 0
+        ));
         sizeCol.setCellFactory(col -> new FileSizeCell());
 
-        var mtimeCol = new TableColumn<Path, FileTime>("Modified");
-        mtimeCol.setCellValueFactory(param -> new SimpleObjectProperty<>(fileMTime(param.getValue(), NOFOLLOW_LINKS)));
+        var mtimeCol = new TableColumn<FileEntry, FileTime>("Modified");
+        mtimeCol.setCellValueFactory(param -> new SimpleObjectProperty<>(
+            param.getValue() != null ? param.getValue().modified() : null
+        ));
         mtimeCol.setCellFactory(col -> new FileTimeCell());
         mtimeCol.getStyleClass().add(Tweaks.ALIGN_RIGHT);
 
         // ~
 
-        var table = new TableView<Path>();
+        var table = new TableView<FileEntry>();
         table.getStyleClass().addAll(Styles.STRIPED, Tweaks.EDGE_TO_EDGE);
         table.getColumns().setAll(filenameCol, sizeCol, mtimeCol);
         table.getSortOrder().add(filenameCol);
@@ -78,11 +96,11 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
         filenameCol.minWidthProperty().bind(table.widthProperty().multiply(0.5));
         table.setRowFactory(param -> {
-            TableRow<Path> row = new TableRow<>();
+            TableRow<FileEntry> row = new TableRow<>();
 
             row.setOnMouseClicked(e -> {
                 if (e.getClickCount() == 2 && !row.isEmpty() && actionHandler != null) {
-                    actionHandler.accept(row.getItem());
+                    actionHandler.accept(row.getItem().path());
                 }
             });
 
@@ -103,11 +121,7 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
         if (path == null) {
             fileList.clear();
         } else {
-            try (Stream<Path> stream = Files.list(path)) {
-                fileList.load(stream);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            fileList.load(path);
         }
     }
 
@@ -123,7 +137,7 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
 
     ///////////////////////////////////////////////////////////////////////////
 
-    private static class FilenameCell extends TableCell<Path, String> {
+    private static class FilenameCell extends TableCell<FileEntry, String> {
 
         private final ImageView imageView = new ImageView();
 
@@ -140,17 +154,16 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
                 setGraphic(null);
                 setText(null);
             } else {
-                var isDirectory = Files.isDirectory(getTableRow().getItem());
-                var path = getTableRow().getItem();
+                FileEntry entry = getTableRow().getItem();
 
-                if (!isDirectory) {
-                    imageView.setImage(REPO.getByMimeType(Utils.getMimeType(path)));
+                if (!entry.directory()) {
+                    imageView.setImage(REPO.getByMimeType(entry.mimeType()));
                 } else {
                     imageView.setImage(FileIconRepository.FOLDER);
                 }
 
-                pseudoClassStateChanged(Model.FOLDER, isDirectory);
-                getTableRow().pseudoClassStateChanged(Model.HIDDEN, isFileHidden(path));
+                pseudoClassStateChanged(Model.FOLDER, entry.directory());
+                getTableRow().pseudoClassStateChanged(Model.HIDDEN, entry.hidden());
 
                 setGraphic(imageView);
                 setText(filename);
@@ -158,7 +171,7 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
         }
     }
 
-    private static class FileSizeCell extends TableCell<Path, Number> {
+    private static class FileSizeCell extends TableCell<FileEntry, Number> {
 
         @Override
         protected void updateItem(Number fileSize, boolean empty) {
@@ -166,16 +179,12 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
             if (empty || getTableRow() == null || getTableRow().getItem() == null) {
                 setText(null);
             } else {
-                Path path = getTableRow().getItem();
-                if (Files.isDirectory(path)) {
-                    if (Files.isReadable(path)) {
-                        try (Stream<Path> stream = Files.list(path)) {
-                            setText(stream.count() + " items");
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    } else {
-                        setText(UNKNOWN);
+                FileEntry entry = getTableRow().getItem();
+                if (entry.directory()) {
+                    switch (entry.childCount()) {
+                        case FileEntry.COUNT_PENDING -> setText(null);
+                        case FileEntry.COUNT_UNKNOWN -> setText(UNKNOWN);
+                        default -> setText(entry.childCount() + " items");
                     }
                 } else {
                     setText(byteCount(fileSize.longValue()));
@@ -184,7 +193,7 @@ final class TableDirectoryView extends AnchorPane implements DirectoryView {
         }
     }
 
-    private static class FileTimeCell extends TableCell<Path, FileTime> {
+    private static class FileTimeCell extends TableCell<FileEntry, FileTime> {
 
         @Override
         protected void updateItem(FileTime fileTime, boolean empty) {
@@ -2,12 +2,12 @@
 
 package atlantafx.sampler.page.showcase.filemanager;
 
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.Category;
 import java.awt.Desktop;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.LinkOption;
 import java.nio.file.Path;
-import java.nio.file.attribute.FileTime;
 
 final class Utils {
 
@@ -15,17 +15,6 @@ final class Utils {
         // Default constructor
     }
 
-    public static long fileSize(Path path) {
-        if (path == null) {
-            return 0;
-        }
-        try {
-            return Files.size(path);
-        } catch (IOException e) {
-            return 0;
-        }
-    }
-
     public static boolean isFileHidden(Path path) {
         if (path == null) {
             return false;
@@ -37,26 +26,15 @@ final class Utils {
         }
     }
 
-    public static FileTime fileMTime(Path path, LinkOption... options) {
-        if (path == null) {
-            return null;
-        }
-        try {
-            return Files.getLastModifiedTime(path, options);
-        } catch (IOException e) {
-            return null;
-        }
-    }
-
     public static void openFile(Path path) {
         if (Desktop.isDesktopSupported()) {
-            new Thread(() -> {
+            BackgroundScheduler.getInstance().execute(Category.SYSTEM, () -> {
                 try {
                     Desktop.getDesktop().open(path.toFile());
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
-            }).start();
+            });
         }
     }
 
@@ -31,7 +31,7 @@ public class MusicPlayerPage extends ShowcasePage {
 
     private void createView() {
         var startScreen = new StartScreen(model);
-        var playerScreen = new PlayerScreen(model);
+        var playerScreen = new PlayerScreen(model, backgroundTasks);
 
         var root = new BorderPane();
         root.setId("music-player-showcase");
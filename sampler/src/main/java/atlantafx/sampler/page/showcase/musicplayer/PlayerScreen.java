@@ -4,6 +4,7 @@ package atlantafx.sampler.page.showcase.musicplayer;
 
 import static atlantafx.sampler.util.JColorUtils.toHexWithAlpha;
 
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import java.util.Objects;
 import javafx.scene.control.SplitPane;
 import javafx.scene.paint.Color;
@@ -11,18 +12,20 @@ import javafx.scene.paint.Color;
 final class PlayerScreen extends SplitPane {
 
     private final Model model;
+    private final TaskScope tasks;
 
-    public PlayerScreen(Model model) {
+    public PlayerScreen(Model model, TaskScope tasks) {
         super();
 
         this.model = model;
+        this.tasks = tasks;
 
         createView();
     }
 
     private void createView() {
         var player = new PlayerPane(model);
-        var playlist = new PlaylistPane(model);
+        var playlist = new PlaylistPane(model, tasks);
 
         getStyleClass().add("player-screen");
         getItems().setAll(player, playlist);
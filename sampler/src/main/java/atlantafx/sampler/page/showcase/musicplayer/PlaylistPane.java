@@ -17,6 +17,8 @@ import static org.kordamp.ikonli.material2.Material2MZ.PLAYLIST_PLAY;
 
 import atlantafx.base.controls.Spacer;
 import atlantafx.base.theme.Tweaks;
+import atlantafx.sampler.util.BackgroundScheduler.Category;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
 import java.io.File;
 import java.util.List;
 import java.util.Objects;
@@ -40,6 +42,7 @@ import org.kordamp.ikonli.javafx.FontIcon;
 final class PlaylistPane extends VBox {
 
     private final Model model;
+    private final TaskScope tasks;
 
     private Label sizeLabel;
     private Label sizeDescLabel;
@@ -47,10 +50,11 @@ final class PlaylistPane extends VBox {
     private Button addButton;
     private ListView<MediaFile> playlist;
 
-    public PlaylistPane(Model model) {
+    public PlaylistPane(Model model, TaskScope tasks) {
         super();
 
         this.model = model;
+        this.tasks = tasks;
 
         createView();
         init();
@@ -144,8 +148,9 @@ final class PlaylistPane extends VBox {
             };
 
             task.setOnSucceeded(te -> loadProgress.setVisible(false));
+            task.setOnCancelled(te -> loadProgress.setVisible(false));
             loadProgress.progressProperty().bind(task.progressProperty());
-            new Thread(task).start();
+            tasks.execute(Category.IO, task);
         });
     }
 
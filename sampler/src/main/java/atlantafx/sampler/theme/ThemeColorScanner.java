@@ -0,0 +1,207 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Extracts the looked-up colors, i.e. all {@code -color-*} declarations of the {@code .root}
+ * rules, from a theme stylesheet. The stylesheet is streamed through a tiny tokenizer,
+ * which only knows about comments, strings and blocks, so it doesn't depend on the
+ * formatting and supports minified CSS as well. Only the current token is kept in memory.
+ *
+ * <p>The scanner doesn't cache anything. The results are cached per theme
+ * by {@link SamplerTheme#parseColors()}.
+ */
+final class ThemeColorScanner {
+
+    private static final String ROOT_SELECTOR = ".root";
+    private static final String COLOR_PREFIX = "-color-";
+    private static final int BUFFER_SIZE = 8192;
+
+    private ThemeColorScanner() {
+        // no instances
+    }
+
+    /**
+     * Reads the stylesheet from the given stream and returns its looked-up colors.
+     * The stream isn't closed.
+     */
+    public static Map<String, String> scan(InputStream input) throws IOException {
+        Objects.requireNonNull(input, "Input stream cannot be null!");
+        return scan(new InputStreamReader(input, UTF_8));
+    }
+
+    /**
+     * Returns the looked-up colors declared in the given stylesheet.
+     */
+    static Map<String, String> scan(String css) {
+        Objects.requireNonNull(css, "CSS cannot be null!");
+        try {
+            return scan(new StringReader(css));
+        } catch (IOException e) {
+            // never thrown by StringReader
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the stylesheet from the given reader and returns its looked-up colors.
+     * If the same color is declared multiple times, the latest declaration wins,
+     * just like in CSS. The reader isn't closed.
+     */
+    static Map<String, String> scan(Reader reader) throws IOException {
+        var in = new CharReader(reader);
+        var colors = new LinkedHashMap<String, String>();
+
+        // whether each of the currently open blocks is a root rule
+        Deque<Boolean> blocks = new ArrayDeque<>();
+        var token = new StringBuilder();
+        String property = null;
+
+        int c;
+        while ((c = in.read()) >= 0) {
+            // comments are skipped entirely
+            if (c == '/' && in.peek() == '*') {
+                in.read();
+                skipComment(in);
+                continue;
+            }
+
+            // strings can contain any of the delimiters below
+            if (c == '"' || c == '\'') {
+                readString(in, (char) c, token);
+                continue;
+            }
+
+            boolean inRoot = !blocks.isEmpty() && blocks.peek();
+            switch (c) {
+                case '{' -> {
+                    blocks.push(isRootSelector(token));
+                    token.setLength(0);
+                    property = null;
+                }
+                case '}' -> {
+                    if (inRoot) {
+                        putColor(colors, property, token);
+                    }
+                    if (!blocks.isEmpty()) {
+                        blocks.pop();
+                    }
+                    token.setLength(0);
+                    property = null;
+                }
+                case ';' -> {
+                    if (inRoot) {
+                        putColor(colors, property, token);
+                    }
+                    token.setLength(0);
+                    property = null;
+                }
+                case ':' -> {
+                    // pseudo-classes belong to the selector, the colon only
+                    // separates the property name inside declaration blocks
+                    if (inRoot && property == null) {
+                        property = token.toString().trim();
+                        token.setLength(0);
+                    } else {
+                        token.append((char) c);
+                    }
+                }
+                default -> token.append((char) c);
+            }
+        }
+
+        return Collections.unmodifiableMap(colors);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static void putColor(Map<String, String> colors, String property, CharSequence value) {
+        if (property != null && property.startsWith(COLOR_PREFIX)) {
+            colors.put(property, value.toString().trim());
+        }
+    }
+
+    private static boolean isRootSelector(CharSequence prelude) {
+        for (String selector : prelude.toString().split(",")) {
+            if (ROOT_SELECTOR.equals(selector.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void skipComment(CharReader in) throws IOException {
+        int prev = -1;
+        int c;
+        while ((c = in.read()) >= 0) {
+            if (prev == '*' && c == '/') {
+                return;
+            }
+            prev = c;
+        }
+    }
+
+    private static void readString(CharReader in, char quote, StringBuilder token) throws IOException {
+        token.append(quote);
+        int c;
+        while ((c = in.read()) >= 0) {
+            token.append((char) c);
+            if (c == '\\') {
+                int next = in.read();
+                if (next >= 0) {
+                    token.append((char) next);
+                }
+            } else if (c == quote) {
+                return;
+            }
+        }
+    }
+
+    // unsynchronized buffered reader with a single char lookahead
+    private static final class CharReader {
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int pos = 0;
+        private int len = 0;
+
+        CharReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        int read() throws IOException {
+            return fill() ? buffer[pos++] : -1;
+        }
+
+        int peek() throws IOException {
+            return fill() ? buffer[pos] : -1;
+        }
+
+        private boolean fill() throws IOException {
+            while (pos >= len) {
+                len = reader.read(buffer);
+                pos = 0;
+                if (len < 0) {
+                    len = 0;
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
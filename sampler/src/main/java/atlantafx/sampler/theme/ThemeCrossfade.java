@@ -0,0 +1,172 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.theme;
+
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.transform.Transform;
+import javafx.util.Duration;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Crossfade effect for the theme change. The scene is snapshotted before the change
+ * and the snapshot is faded out on top of the scene afterwards.
+ *
+ * <p>A full resolution snapshot of a large scene takes tens of megabytes, so the snapshot
+ * is downscaled to fit {@link #SNAPSHOT_PIXEL_BUDGET}. The image is pooled and reused while
+ * the scene size remains the same, but only softly referenced, so that it can be reclaimed
+ * between theme changes. Very large scenes are not animated at all. The same is true when
+ * the previous snapshot or the previous fade was slow, for a few consecutive theme changes.
+ */
+final class ThemeCrossfade {
+
+    static final double SNAPSHOT_PIXEL_BUDGET = 1280 * 720;
+    static final double MAX_SCENE_PIXELS = 3840 * 2160;
+
+    static final long SLOW_SNAPSHOT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    static final long SLOW_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(33);
+    static final int SKIP_AFTER_SLOW = 3;
+
+    private SoftReference<WritableImage> imagePool = new SoftReference<>(null);
+    private @Nullable Runnable stopCurrent;
+    private int skipCount = 0;
+
+    /**
+     * Takes the scene snapshot and starts fading it out. Must be called before the change is applied.
+     */
+    public void play(Scene scene, Duration duration) {
+        Objects.requireNonNull(scene);
+        Objects.requireNonNull(duration);
+
+        // the running fade must not get into the new snapshot
+        if (stopCurrent != null) {
+            stopCurrent.run();
+        }
+
+        double width = scene.getWidth();
+        double height = scene.getHeight();
+        if (!(scene.getRoot() instanceof Pane root) || !canAnimate(width, height) || skipNext()) {
+            return;
+        }
+
+        double scale = computeScale(width, height);
+        var params = new SnapshotParameters();
+        params.setTransform(Transform.scale(scale, scale));
+
+        long snapshotStart = System.nanoTime();
+        WritableImage snapshot = root.snapshot(params, getImage(width * scale, height * scale));
+        long snapshotNanos = System.nanoTime() - snapshotStart;
+
+        var imageView = new ImageView(snapshot);
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
+        root.getChildren().add(imageView); // add snapshot on top
+
+        var frameMeter = new FrameMeter();
+        var transition = new Timeline(
+            new KeyFrame(Duration.ZERO, new KeyValue(imageView.opacityProperty(), 1, Interpolator.EASE_OUT)),
+            new KeyFrame(duration, new KeyValue(imageView.opacityProperty(), 0, Interpolator.EASE_OUT))
+        );
+
+        Runnable stop = () -> {
+            transition.stop();
+            frameMeter.stop();
+            root.getChildren().remove(imageView);
+            imageView.setImage(null);
+            stopCurrent = null;
+
+            recordPerformance(snapshotNanos, frameMeter.getAverageFrameNanos());
+        };
+        transition.setOnFinished(e -> stop.run());
+        stopCurrent = stop;
+
+        frameMeter.start();
+        transition.play();
+    }
+
+    private WritableImage getImage(double width, double height) {
+        int w = toImageSize(width);
+        int h = toImageSize(height);
+
+        WritableImage image = imagePool.get();
+        if (image == null || !isSameSize(image.getWidth(), image.getHeight(), w, h)) {
+            image = new WritableImage(w, h);
+            imagePool = new SoftReference<>(image);
+        }
+
+        return image;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // the decisions below don't depend on the toolkit, so that they can be unit tested
+
+    // whether the scene of the given size is animated at all
+    static boolean canAnimate(double width, double height) {
+        return width > 0 && height > 0 && width * height <= MAX_SCENE_PIXELS;
+    }
+
+    // the snapshot downscale factor that fits the snapshot into the pixel budget
+    static double computeScale(double width, double height) {
+        return Math.min(1.0, Math.sqrt(SNAPSHOT_PIXEL_BUDGET / (width * height)));
+    }
+
+    static int toImageSize(double size) {
+        return (int) Math.ceil(size);
+    }
+
+    // whether the pooled image can be reused for the snapshot of the given size
+    static boolean isSameSize(double imageWidth, double imageHeight, int width, int height) {
+        return (int) imageWidth == width && (int) imageHeight == height;
+    }
+
+    static boolean isSlow(long snapshotNanos, long averageFrameNanos) {
+        return snapshotNanos > SLOW_SNAPSHOT_NANOS || averageFrameNanos > SLOW_FRAME_NANOS;
+    }
+
+    // returns true if the next theme change mustn't be animated because of the slow previous one
+    boolean skipNext() {
+        if (skipCount > 0) {
+            skipCount--;
+            return true;
+        }
+        return false;
+    }
+
+    void recordPerformance(long snapshotNanos, long averageFrameNanos) {
+        if (isSlow(snapshotNanos, averageFrameNanos)) {
+            skipCount = SKIP_AFTER_SLOW;
+        }
+    }
+
+    // measures the average interval between pulses while the fade is running
+    private static final class FrameMeter extends AnimationTimer {
+
+        private long firstFrame = -1;
+        private long lastFrame = -1;
+        private long frameCount = 0;
+
+        @Override
+        public void handle(long now) {
+            if (firstFrame < 0) {
+                firstFrame = now;
+            }
+            lastFrame = now;
+            frameCount++;
+        }
+
+        public long getAverageFrameNanos() {
+            return frameCount > 1 ? (lastFrame - firstFrame) / (frameCount - 1) : 0;
+        }
+    }
+}
@@ -2,8 +2,8 @@
 
 package atlantafx.sampler.theme;
 
+import static atlantafx.sampler.Launcher.IS_DEV_MODE;
 import static atlantafx.sampler.Resources.getResource;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
 import atlantafx.base.theme.CupertinoDark;
 import atlantafx.base.theme.CupertinoLight;
@@ -12,6 +12,7 @@ import atlantafx.base.theme.NordDark;
 import atlantafx.base.theme.NordLight;
 import atlantafx.base.theme.PrimerDark;
 import atlantafx.base.theme.PrimerLight;
+import atlantafx.base.theme.StylesheetRegistry;
 import atlantafx.base.theme.Theme;
 import atlantafx.sampler.Resources;
 import atlantafx.sampler.event.DefaultEventBus;
@@ -19,26 +20,20 @@ import atlantafx.sampler.event.EventBus;
 import atlantafx.sampler.event.ThemeEvent;
 import atlantafx.sampler.event.ThemeEvent.EventType;
 import atlantafx.sampler.util.JColor;
-import java.util.Base64;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.application.Application;
 import javafx.css.PseudoClass;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
@@ -57,6 +52,7 @@ public final class ThemeManager {
 
     private static final PseudoClass DARK = PseudoClass.getPseudoClass("dark");
     private static final PseudoClass USER_CUSTOM = PseudoClass.getPseudoClass("user-custom");
+    private static final String USER_CUSTOM_STYLESHEET_SLOT = "user-custom";
     private static final EventBus EVENT_BUS = DefaultEventBus.getInstance();
 
     public static final String DEFAULT_FONT_FAMILY_NAME = "Inter";
@@ -69,7 +65,7 @@ public final class ThemeManager {
     private final Map<String, String> customCSSDeclarations = new LinkedHashMap<>(); // -fx-property | value;
     private final Map<String, String> customCSSRules = new LinkedHashMap<>(); // .foo | -fx-property: value;
 
-    private final ThemeRepository repository = new ThemeRepository();
+    private final ThemeRepository repository = new ThemeRepository(this::onExternalThemeChange);
 
     private Scene scene;
 
@@ -79,6 +75,15 @@ public final class ThemeManager {
     private int zoom = DEFAULT_ZOOM;
     private AccentColor accentColor = DEFAULT_ACCENT_COLOR;
 
+    // batch state, changes are applied and published when the outermost batch is finished
+    private final Editor editor = new Editor();
+    private final Set<EventType> pendingChanges = EnumSet.noneOf(EventType.class);
+    private int batchDepth = 0;
+    private boolean customCSSChanged = false;
+    private boolean themeChangeAnimated = false;
+
+    private final ThemeCrossfade crossfade = new ThemeCrossfade();
+
     public ThemeRepository getRepository() {
         return repository;
     }
@@ -107,20 +112,42 @@ public final class ThemeManager {
     public void setTheme(SamplerTheme theme) {
         Objects.requireNonNull(theme);
 
-        if (currentTheme != null) {
-            animateThemeChange(Duration.millis(750));
-        }
+        batch(e -> {
+            if (currentTheme != null) {
+                animateThemeChange(Duration.millis(750));
+            }
 
-        Application.setUserAgentStylesheet(Objects.requireNonNull(theme.getUserAgentStylesheet()));
-        getScene().getStylesheets().setAll(theme.getAllStylesheets());
-        getScene().getRoot().pseudoClassStateChanged(DARK, theme.isDarkMode());
+            Application.setUserAgentStylesheet(Objects.requireNonNull(theme.getUserAgentStylesheet()));
+            getScene().getStylesheets().setAll(theme.getAllStylesheets());
+            getScene().getRoot().pseudoClassStateChanged(DARK, theme.isDarkMode());
 
-        // remove user CSS customizations and reset accent on theme change
-        resetAccentColor();
-        resetCustomCSS();
+            // remove user CSS customizations and reset accent on theme change
+            resetAccentColor();
+            resetCustomCSS();
 
-        currentTheme = theme;
-        EVENT_BUS.publish(new ThemeEvent(EventType.THEME_CHANGE));
+            currentTheme = theme;
+            commitChange(EventType.THEME_CHANGE, false);
+        });
+    }
+
+    /**
+     * Applies multiple changes at once. The custom stylesheet is rebuilt and applied
+     * only once, after all changes are made, and a single {@link ThemeEvent} with all
+     * change types is published. Setters called inside the batch, including indirectly,
+     * e.g. from control listeners, are also deferred. Batches can be nested.
+     */
+    public void batch(Consumer<Editor> changes) {
+        Objects.requireNonNull(changes);
+
+        batchDepth++;
+        try {
+            changes.accept(editor);
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                applyChanges();
+            }
+        }
     }
 
     public String getFontFamily() {
@@ -133,8 +160,7 @@ public final class ThemeManager {
 
         this.fontFamily = fontFamily;
 
-        reloadCustomCSS();
-        EVENT_BUS.publish(new ThemeEvent(EventType.FONT_CHANGE));
+        commitChange(EventType.FONT_CHANGE, true);
     }
 
     public boolean isDefaultFontFamily() {
@@ -165,8 +191,7 @@ public final class ThemeManager {
             .min(Comparator.comparingInt(i -> Math.abs(i - rawZoom)))
             .orElseThrow(NoSuchElementException::new);
 
-        reloadCustomCSS();
-        EVENT_BUS.publish(new ThemeEvent(EventType.FONT_CHANGE));
+        commitChange(EventType.FONT_CHANGE, true);
     }
 
     public boolean isDefaultSize() {
@@ -184,8 +209,11 @@ public final class ThemeManager {
             );
         }
 
-        setFontSize((int) Math.ceil(zoom != 100 ? (DEFAULT_FONT_SIZE * zoom) / 100.0f : DEFAULT_FONT_SIZE));
-        this.zoom = zoom;
+        // zoom must be updated before the change is published
+        batch(e -> {
+            setFontSize((int) Math.ceil(zoom != 100 ? (DEFAULT_FONT_SIZE * zoom) / 100.0f : DEFAULT_FONT_SIZE));
+            this.zoom = zoom;
+        });
     }
 
     public AccentColor getAccentColor() {
@@ -204,7 +232,7 @@ public final class ThemeManager {
         getScene().getRoot().pseudoClassStateChanged(color.pseudoClass(), true);
         this.accentColor = color;
 
-        EVENT_BUS.publish(new ThemeEvent(EventType.COLOR_CHANGE));
+        commitChange(EventType.COLOR_CHANGE, false);
     }
 
     public void resetAccentColor() {
@@ -215,26 +243,24 @@ public final class ThemeManager {
             accentColor = null;
         }
 
-        EVENT_BUS.publish(new ThemeEvent(EventType.COLOR_CHANGE));
+        commitChange(EventType.COLOR_CHANGE, false);
     }
 
     public void setNamedColors(Map<String, Color> colors) {
         Objects.requireNonNull(colors).forEach(this::setOrRemoveColor);
-        reloadCustomCSS();
-        EVENT_BUS.publish(new ThemeEvent(EventType.COLOR_CHANGE));
+        commitChange(EventType.COLOR_CHANGE, true);
     }
 
     public void unsetNamedColors(String... colors) {
         for (String c : colors) {
             setOrRemoveColor(c, null);
         }
-        reloadCustomCSS();
-        EVENT_BUS.publish(new ThemeEvent(EventType.COLOR_CHANGE));
+        commitChange(EventType.COLOR_CHANGE, true);
     }
 
     public void resetAllChanges() {
         resetCustomCSS();
-        EVENT_BUS.publish(new ThemeEvent(EventType.THEME_CHANGE));
+        commitChange(EventType.THEME_CHANGE, false);
     }
 
     public HighlightJSTheme getMatchingSourceCodeHighlightTheme(Theme theme) {
@@ -284,19 +310,39 @@ public final class ThemeManager {
         }
     }
 
-    private void animateThemeChange(Duration duration) {
-        Image snapshot = scene.snapshot(null);
-        Pane root = (Pane) scene.getRoot();
+    // applies the change immediately or defers it until the end of the current batch
+    private void commitChange(EventType eventType, boolean cssChanged) {
+        pendingChanges.add(eventType);
+        customCSSChanged |= cssChanged;
+        if (batchDepth == 0) {
+            applyChanges();
+        }
+    }
+
+    private void applyChanges() {
+        if (customCSSChanged) {
+            reloadCustomCSS();
+        }
+
+        var event = !pendingChanges.isEmpty() ? new ThemeEvent(pendingChanges) : null;
+        pendingChanges.clear();
+        customCSSChanged = false;
+        themeChangeAnimated = false;
+
+        if (event != null) {
+            EVENT_BUS.publish(event);
+        }
+    }
 
-        ImageView imageView = new ImageView(snapshot);
-        root.getChildren().add(imageView); // add snapshot on top
+    private void animateThemeChange(Duration duration) {
+        // snapshot must only be taken before the first change of the batch,
+        // otherwise it would render the scene with the changes applied partially
+        if (themeChangeAnimated) {
+            return;
+        }
+        themeChangeAnimated = batchDepth > 0;
 
-        var transition = new Timeline(
-            new KeyFrame(Duration.ZERO, new KeyValue(imageView.opacityProperty(), 1, Interpolator.EASE_OUT)),
-            new KeyFrame(duration, new KeyValue(imageView.opacityProperty(), 0, Interpolator.EASE_OUT))
-        );
-        transition.setOnFinished(e -> root.getChildren().remove(imageView));
-        transition.play();
+        crossfade.play(scene, duration);
     }
 
     private void reloadCustomCSS() {
@@ -327,19 +373,80 @@ public final class ThemeManager {
             css.append("}\n");
         });
 
-        getScene().getRoot().getStylesheets().removeIf(uri -> uri.startsWith("data:text/css"));
-        getScene().getRoot().getStylesheets().add(
-            "data:text/css;base64," + Base64.getEncoder().encodeToString(css.toString().getBytes(UTF_8))
-        );
+        // the stylesheet is only replaced when its content has changed,
+        // otherwise JavaFX would re-parse it and restyle the whole scene
+        StylesheetRegistry.setStylesheet(getScene().getRoot(), USER_CUSTOM_STYLESHEET_SLOT, css.toString());
         getScene().getRoot().pseudoClassStateChanged(USER_CUSTOM, true);
     }
 
+    // re-applies the current theme when its file was changed on disk
+    private void onExternalThemeChange(SamplerTheme theme) {
+        if (currentTheme == null || !Objects.equals(currentTheme.getPath(), theme.getPath())) {
+            return;
+        }
+
+        // in dev mode theme CSS is reloaded by CSSFX, otherwise JavaFX has to be forced
+        // to re-read the stylesheet, because setting the same URL again is ignored
+        if (!IS_DEV_MODE) {
+            Application.setUserAgentStylesheet(DUMMY_STYLESHEET);
+            Application.setUserAgentStylesheet(Objects.requireNonNull(theme.getUserAgentStylesheet()));
+        }
+
+        commitChange(EventType.COLOR_CHANGE, false);
+    }
+
     public void resetCustomCSS() {
         customCSSDeclarations.clear();
         customCSSRules.clear();
         getScene().getRoot().pseudoClassStateChanged(USER_CUSTOM, false);
     }
 
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Collects theme changes inside {@link #batch(Consumer)}.
+     */
+    public final class Editor {
+
+        private Editor() {
+        }
+
+        public Editor setFontFamily(String fontFamily) {
+            ThemeManager.this.setFontFamily(fontFamily);
+            return this;
+        }
+
+        public Editor setFontSize(int size) {
+            ThemeManager.this.setFontSize(size);
+            return this;
+        }
+
+        public Editor setZoom(int zoom) {
+            ThemeManager.this.setZoom(zoom);
+            return this;
+        }
+
+        public Editor setAccentColor(AccentColor color) {
+            ThemeManager.this.setAccentColor(color);
+            return this;
+        }
+
+        public Editor resetAccentColor() {
+            ThemeManager.this.resetAccentColor();
+            return this;
+        }
+
+        public Editor setNamedColors(Map<String, Color> colors) {
+            ThemeManager.this.setNamedColors(colors);
+            return this;
+        }
+
+        public Editor unsetNamedColors(String... colors) {
+            ThemeManager.this.unsetNamedColors(colors);
+            return this;
+        }
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Singleton                                                             //
     ///////////////////////////////////////////////////////////////////////////
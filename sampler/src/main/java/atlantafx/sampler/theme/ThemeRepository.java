@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 import java.util.stream.Collectors;
@@ -45,8 +46,17 @@ public final class ThemeRepository {
 
     private final List<SamplerTheme> externalThemes = new ArrayList<>();
     private final Preferences themePreferences = Resources.getPreferences().node("theme");
+    private final ThemeWatcher watcher;
+
+    /**
+     * Creates a new repository.
+     *
+     * @param onExternalThemeChange the listener to notify when the file of an external theme
+     *                              was changed, on the FX application thread.
+     */
+    public ThemeRepository(Consumer<SamplerTheme> onExternalThemeChange) {
+        watcher = new ThemeWatcher(onExternalThemeChange);
 
-    public ThemeRepository() {
         try {
             loadPreferences();
         } catch (BackingStoreException e) {
@@ -84,6 +94,7 @@ public final class ThemeRepository {
         addToPreferences(theme);
         externalThemes.add(theme);
         externalThemes.sort(THEME_COMPARATOR);
+        watcher.watch(theme);
         DefaultEventBus.getInstance().publish(new ThemeEvent(EventType.THEME_ADD));
 
         return theme;
@@ -92,6 +103,7 @@ public final class ThemeRepository {
     public void remove(SamplerTheme theme) {
         Objects.requireNonNull(theme);
         externalThemes.removeIf(t -> Objects.equals(t.getName(), theme.getName()));
+        watcher.unwatch(theme);
         DefaultEventBus.getInstance().publish(new ThemeEvent(EventType.THEME_REMOVE));
         removeFromPreferences(theme);
     }
@@ -128,10 +140,12 @@ public final class ThemeRepository {
                 continue;
             }
 
-            externalThemes.add(new SamplerTheme(
+            var theme = new SamplerTheme(
                 Theme.of(themeName, uaStylesheet, uaStylesheetPath.getFileName().toString().contains("dark"))
-            ));
+            );
+            externalThemes.add(theme);
             externalThemes.sort(THEME_COMPARATOR);
+            watcher.watch(theme);
         }
     }
 
@@ -0,0 +1,273 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.theme;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+
+/**
+ * Watches external theme files and notifies when their content has changed.
+ *
+ * <p>The {@link WatchService} can only watch directories, so the parent directory of every
+ * registered theme file is watched instead. Editors usually produce a burst of events on
+ * every save, thus the events are debounced per file. After that the file is read on the
+ * watcher thread, and the listener is only notified if the content hash has actually changed.
+ * The theme colors are re-parsed before the notification, so the listener, which is called on
+ * the FX application thread, can use them without blocking.
+ */
+final class ThemeWatcher implements AutoCloseable {
+
+    static final long DEBOUNCE_MILLIS = 250;
+
+    private final Consumer<SamplerTheme> listener;
+    private final Executor listenerExecutor;
+
+    // theme file | theme
+    private final Map<Path, SamplerTheme> themes = new ConcurrentHashMap<>();
+    // theme file | content hash
+    private final Map<Path, String> hashes = new ConcurrentHashMap<>();
+    // theme file | scheduled check
+    private final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    // watched directory | watch key, guarded by this
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private WatchService watchService;
+    private boolean disabled;
+
+    /**
+     * Creates a new watcher.
+     *
+     * @param listener the listener that receives the changed theme on the FX application thread.
+     */
+    public ThemeWatcher(Consumer<SamplerTheme> listener) {
+        this(listener, Platform::runLater);
+    }
+
+    // the listener executor can be replaced for testing purposes
+    ThemeWatcher(Consumer<SamplerTheme> listener, Executor listenerExecutor) {
+        this.listener = Objects.requireNonNull(listener);
+        this.listenerExecutor = Objects.requireNonNull(listenerExecutor);
+    }
+
+    /**
+     * Starts watching the theme file. Does nothing for the classpath themes.
+     */
+    public synchronized void watch(SamplerTheme theme) {
+        Objects.requireNonNull(theme, "Theme cannot be null!");
+
+        if (theme.getResource().internal() || !start()) {
+            return;
+        }
+
+        Path file = getFile(theme);
+        Path dir = file.getParent();
+        themes.put(file, theme);
+
+        // remember the initial content hash, so that a change notification
+        // is only sent when the content differs from what's already applied
+        scheduler.execute(() -> readHash(file));
+
+        if (dir != null && !directories.containsKey(dir)) {
+            try {
+                directories.put(dir, dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY));
+            } catch (IOException e) {
+                System.err.println("[WARNING] Unable to watch theme directory \"" + dir + "\".");
+            }
+        }
+    }
+
+    /**
+     * Stops watching the theme file.
+     */
+    public synchronized void unwatch(SamplerTheme theme) {
+        Objects.requireNonNull(theme, "Theme cannot be null!");
+
+        Path file = getFile(theme);
+        if (themes.remove(file) == null) {
+            return;
+        }
+
+        hashes.remove(file);
+        ScheduledFuture<?> check = pending.remove(file);
+        if (check != null) {
+            check.cancel(false);
+        }
+
+        // stop watching the directory if there are no other themes inside
+        Path dir = file.getParent();
+        if (themes.keySet().stream().noneMatch(f -> Objects.equals(f.getParent(), dir))) {
+            WatchKey key = directories.remove(dir);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // nothing to do
+            }
+            scheduler.shutdownNow();
+        }
+        themes.clear();
+        directories.clear();
+        disabled = true;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // must be called under lock
+    private boolean start() {
+        if (watchService != null || disabled) {
+            return !disabled;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            // not critical, theme colors are still re-parsed when the file modification time changes
+            System.err.println("[WARNING] Unable to watch external themes: " + e.getMessage());
+            disabled = true;
+            return false;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "theme-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        var loop = new Thread(this::processEvents, "theme-watcher-events");
+        loop.setDaemon(true);
+        loop.start();
+
+        return true;
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            var dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    // some events were lost, check all themes in the directory
+                    themes.keySet().stream()
+                        .filter(f -> Objects.equals(f.getParent(), dir))
+                        .forEach(this::scheduleCheck);
+                    continue;
+                }
+
+                Path file = dir.resolve((Path) event.context());
+                if (themes.containsKey(file)) {
+                    scheduleCheck(file);
+                }
+            }
+            key.reset();
+        }
+    }
+
+    private void scheduleCheck(Path file) {
+        pending.compute(file, (k, check) -> {
+            if (check != null) {
+                check.cancel(false);
+            }
+            return scheduler.schedule(() -> checkFile(file), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void checkFile(Path file) {
+        pending.remove(file);
+
+        SamplerTheme theme = themes.get(file);
+        if (theme == null) {
+            return;
+        }
+
+        String oldHash = hashes.get(file);
+        String newHash = readHash(file);
+        if (newHash == null || newHash.equals(oldHash)) {
+            return;
+        }
+
+        // the content hash has changed, but the file modification time might not
+        theme.invalidateColors();
+        try {
+            theme.parseColors();
+        } catch (IOException e) {
+            System.err.println("[WARNING] Unable to parse theme file \"" + file + "\".");
+            return;
+        }
+
+        listenerExecutor.execute(() -> listener.accept(theme));
+    }
+
+    private String readHash(Path file) {
+        try {
+            String hash = hash(file);
+            hashes.put(file, hash);
+            return hash;
+        } catch (IOException e) {
+            // the file might be temporarily missing while the editor replaces it
+            return null;
+        }
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream input = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Path getFile(SamplerTheme theme) {
+        return theme.getResource().toPath().toAbsolutePath().normalize();
+    }
+}
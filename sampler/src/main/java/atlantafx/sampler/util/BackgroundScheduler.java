@@ -0,0 +1,360 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.util;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The sampler-wide scheduler for the background tasks.
+ *
+ * <p>Tasks are split into categories, each of which has its own bounded thread pool,
+ * so that e.g. a slow disk can't block CPU-bound work. Results are delivered to the
+ * FX application thread, unless the task was cancelled. Use {@link TaskScope} to cancel
+ * all tasks of a page when the page is discarded.
+ *
+ * <p>The scheduler collects queue depth and latency metrics per category,
+ * see {@link #getMetrics()}.
+ */
+public final class BackgroundScheduler {
+
+    public enum Category {
+        /**
+         * Blocking file system operations, e.g. reading theme files or listing directories.
+         */
+        IO(4),
+        /**
+         * CPU-bound work.
+         */
+        COMPUTE(Math.max(2, Runtime.getRuntime().availableProcessors())),
+        /**
+         * Desktop integration and external programs, which can block for an unpredictable time.
+         */
+        SYSTEM(2);
+
+        private final int concurrency;
+
+        Category(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+    }
+
+    /**
+     * A snapshot of the category metrics.
+     *
+     * @param category      the task category.
+     * @param active        the number of running tasks.
+     * @param queued        the number of tasks waiting in the queue.
+     * @param completed     the number of completed tasks.
+     * @param avgWaitMillis the average time tasks spend in the queue.
+     * @param maxWaitMillis the max time a task has spent in the queue.
+     * @param avgRunMillis  the average task execution time.
+     */
+    public record Metrics(Category category,
+                          int active,
+                          int queued,
+                          long completed,
+                          double avgWaitMillis,
+                          double maxWaitMillis,
+                          double avgRunMillis) {
+    }
+
+    private final Map<Category, ThreadPoolExecutor> executors = new EnumMap<>(Category.class);
+    private final Map<Category, Stats> stats = new EnumMap<>(Category.class);
+    private final Executor fxExecutor;
+
+    private BackgroundScheduler() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Creates a standalone scheduler, that delivers results with the given executor
+     * instead of the FX application thread. Intended for testing purposes,
+     * use {@link #getInstance()} otherwise.
+     *
+     * @param fxExecutor the executor to call the task callbacks.
+     */
+    public BackgroundScheduler(Executor fxExecutor) {
+        this.fxExecutor = Objects.requireNonNull(fxExecutor);
+
+        for (Category category : Category.values()) {
+            var threadCount = new AtomicInteger();
+            var executor = new ThreadPoolExecutor(
+                category.getConcurrency(), category.getConcurrency(),
+                30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    var thread = new Thread(r, "sampler-" + category.name().toLowerCase()
+                        + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            executors.put(category, executor);
+            stats.put(category, new Stats());
+        }
+    }
+
+    /**
+     * Executes the task in the background. The task can also be a JavaFX {@code Task},
+     * which is cancelled along with the returned future.
+     *
+     * @param category the task category.
+     * @param task     the task to execute.
+     * @return the future that can be used to cancel the task.
+     */
+    public Future<?> execute(Category category, Runnable task) {
+        Objects.requireNonNull(task, "Task cannot be null!");
+
+        return schedule(category, new ScheduledTask<Void>(
+            Objects.requireNonNull(category), Executors.callable(task, null), task, null, null
+        ));
+    }
+
+    /**
+     * Computes the result in the background and delivers it to the FX application thread.
+     * Callbacks aren't called if the task was cancelled.
+     *
+     * @param category  the task category.
+     * @param task      the task to compute the result.
+     * @param onSuccess the result consumer, called on the FX application thread.
+     * @param onFailure the error consumer, called on the FX application thread.
+     * @param <T>       the result type.
+     * @return the future that can be used to cancel the task.
+     */
+    public <T> Future<T> submit(Category category,
+                                Callable<T> task,
+                                @Nullable Consumer<T> onSuccess,
+                                @Nullable Consumer<Throwable> onFailure) {
+        Objects.requireNonNull(task, "Task cannot be null!");
+
+        return schedule(category, new ScheduledTask<>(
+            Objects.requireNonNull(category), task, task, onSuccess, onFailure
+        ));
+    }
+
+    /**
+     * Creates a new scope to cancel a group of tasks at once.
+     */
+    public TaskScope createScope() {
+        return new TaskScope(this);
+    }
+
+    /**
+     * Returns the metrics snapshot of all task categories.
+     */
+    public List<Metrics> getMetrics() {
+        var list = new ArrayList<Metrics>();
+        for (Category category : Category.values()) {
+            ThreadPoolExecutor executor = executors.get(category);
+            Stats s = stats.get(category);
+            long completed = s.completed.sum();
+            list.add(new Metrics(
+                category,
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                completed,
+                completed > 0 ? toMillis(s.waitNanos.sum()) / completed : 0,
+                toMillis(s.maxWaitNanos.get()),
+                completed > 0 ? toMillis(s.runNanos.sum()) / completed : 0
+            ));
+        }
+        return list;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private <T> Future<T> schedule(Category category, ScheduledTask<T> task) {
+        executors.get(category).execute(task);
+        return task;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Stats {
+
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder runNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+    }
+
+    private final class ScheduledTask<T> extends FutureTask<T> {
+
+        private final Category category;
+        private final Object delegate;
+        private final @Nullable Consumer<T> onSuccess;
+        private final @Nullable Consumer<Throwable> onFailure;
+        private final long submitTime = System.nanoTime();
+
+        public ScheduledTask(Category category,
+                             Callable<T> callable,
+                             Object delegate,
+                             @Nullable Consumer<T> onSuccess,
+                             @Nullable Consumer<Throwable> onFailure) {
+            super(callable);
+            this.category = category;
+            this.delegate = delegate;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+
+            // FutureTask must run the callable itself, otherwise it doesn't know
+            // the runner thread and cancel(true) can't interrupt it
+            long startTime = System.nanoTime();
+            try {
+                super.run();
+            } finally {
+                long endTime = System.nanoTime();
+                Stats s = stats.get(category);
+                s.completed.increment();
+                s.waitNanos.add(startTime - submitTime);
+                s.runNanos.add(endTime - startTime);
+                s.maxWaitNanos.accumulateAndGet(startTime - submitTime, Math::max);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            // it's not enough to interrupt the JavaFX task thread, it has its own state
+            if (delegate instanceof Future<?> future) {
+                future.cancel(mayInterruptIfRunning);
+            }
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+
+            // fire-and-forget tasks must not swallow errors
+            if (onSuccess == null && onFailure == null) {
+                try {
+                    get();
+                } catch (ExecutionException e) {
+                    Thread.currentThread().getUncaughtExceptionHandler()
+                        .uncaughtException(Thread.currentThread(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+
+            fxExecutor.execute(() -> {
+                // the task can be cancelled while waiting for the FX thread
+                if (isCancelled()) {
+                    return;
+                }
+
+                try {
+                    T result = get();
+                    if (onSuccess != null) {
+                        onSuccess.accept(result);
+                    }
+                } catch (ExecutionException e) {
+                    if (onFailure != null) {
+                        onFailure.accept(e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A group of tasks that can be cancelled at once, e.g. when the page is reset.
+     * Completed tasks are removed from the scope automatically.
+     */
+    public static final class TaskScope {
+
+        private final BackgroundScheduler scheduler;
+        private final Set<Future<?>> tasks = ConcurrentHashMap.newKeySet();
+
+        private TaskScope(BackgroundScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * See {@link BackgroundScheduler#execute(Category, Runnable)}.
+         */
+        public Future<?> execute(Category category, Runnable task) {
+            return track(scheduler.execute(category, task));
+        }
+
+        /**
+         * See {@link BackgroundScheduler#submit(Category, Callable, Consumer, Consumer)}.
+         */
+        public <T> Future<T> submit(Category category,
+                                    Callable<T> task,
+                                    @Nullable Consumer<T> onSuccess,
+                                    @Nullable Consumer<Throwable> onFailure) {
+            return track(scheduler.submit(category, task, onSuccess, onFailure));
+        }
+
+        /**
+         * Cancels all tasks of the scope that are not completed yet.
+         */
+        public void cancelAll() {
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+            tasks.clear();
+        }
+
+        private <F extends Future<?>> F track(F task) {
+            tasks.add(task);
+            // a task can complete before it was added
+            tasks.removeIf(Future::isDone);
+            return task;
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static class InstanceHolder {
+
+        private static final BackgroundScheduler INSTANCE = new BackgroundScheduler();
+    }
+
+    public static BackgroundScheduler getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+}
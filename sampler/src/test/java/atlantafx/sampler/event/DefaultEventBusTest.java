@@ -0,0 +1,183 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.sampler.event.EventBus.Delivery;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+public class DefaultEventBusTest {
+
+    @Test
+    public void testPublishToSuperClassSubscribers() {
+        var bus = new DefaultEventBus();
+        var received = new ArrayList<String>();
+
+        bus.subscribe(ThemeEvent.class, e -> received.add("theme"));
+        bus.subscribe(Event.class, e -> received.add("event"));
+        bus.subscribe(PageEvent.class, e -> received.add("page"));
+
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).containsExactlyInAnyOrder("theme", "event");
+    }
+
+    @Test
+    public void testDispatchTableIsInvalidated() {
+        var bus = new DefaultEventBus();
+        var received = new ArrayList<String>();
+
+        // populate the dispatch table
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+
+        Consumer<ThemeEvent> subscriber = e -> received.add("theme");
+        bus.subscribe(ThemeEvent.class, subscriber);
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).hasSize(1);
+
+        bus.unsubscribe(subscriber);
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    public void testUnsubscribeFromEventType() {
+        var bus = new DefaultEventBus();
+        var received = new ArrayList<Event>();
+
+        Consumer<Event> subscriber = received::add;
+        bus.subscribe(ThemeEvent.class, subscriber);
+        bus.subscribe(PageEvent.class, subscriber);
+
+        bus.unsubscribe(ThemeEvent.class, subscriber);
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).isEmpty();
+
+        // an event class is assignable from itself only, so the
+        // super class subscription must remove all subscriptions
+        bus.unsubscribe(Event.class, subscriber);
+        bus.publish(new PageEvent(PageEvent.Action.SOURCE_CODE_ON));
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    public void testDuplicateSubscription() {
+        var bus = new DefaultEventBus();
+        var received = new ArrayList<Event>();
+
+        Consumer<Event> subscriber = received::add;
+        bus.subscribe(ThemeEvent.class, subscriber);
+        bus.subscribe(ThemeEvent.class, subscriber);
+
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    public void testConcurrentSubscribe() throws InterruptedException {
+        var bus = new DefaultEventBus();
+        var counter = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    // capturing lambda, so that every subscriber is a new instance
+                    bus.subscribe(ThemeEvent.class, e -> counter.incrementAndGet());
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(counter.get()).isEqualTo(800);
+    }
+
+    @Test
+    public void testBackgroundDelivery() {
+        var tasks = new ArrayList<Runnable>();
+        var bus = new DefaultEventBus(tasks::add);
+        var received = new ArrayList<Event>();
+
+        bus.subscribe(ThemeEvent.class, Delivery.BACKGROUND, received::add);
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).isEmpty();
+
+        tasks.forEach(Runnable::run);
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    public void testCoalescingDelivery() {
+        var pulses = new ArrayList<Runnable>();
+        var bus = new DefaultEventBus(Runnable::run, pulses::add);
+        var received = new ArrayList<ThemeEvent.EventType>();
+
+        Consumer<ThemeEvent> subscriber = e -> received.addAll(e.getEventTypes());
+        bus.subscribe(ThemeEvent.class, Delivery.COALESCE, subscriber);
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.FONT_CHANGE));
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).isEmpty();
+        assertThat(pulses).hasSize(1);
+
+        pulses.remove(0).run();
+        assertThat(received).containsExactly(ThemeEvent.EventType.FONT_CHANGE, ThemeEvent.EventType.COLOR_CHANGE);
+
+        // delivery wrappers must not prevent unsubscribing
+        bus.unsubscribe(subscriber);
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(pulses).isEmpty();
+    }
+
+    @Test
+    public void testCombinedEventIsDeliveredOnce() {
+        var pulses = new ArrayList<Runnable>();
+        var bus = new DefaultEventBus(Runnable::run, pulses::add);
+        var received = new ArrayList<ThemeEvent>();
+
+        bus.subscribe(ThemeEvent.class, Delivery.COALESCE, received::add);
+        bus.publish(new ThemeEvent(EnumSet.of(ThemeEvent.EventType.THEME_CHANGE, ThemeEvent.EventType.FONT_CHANGE)));
+        pulses.remove(0).run();
+
+        // a single delivery must carry all changes of the batch
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).hasEventType(ThemeEvent.EventType.THEME_CHANGE)).isTrue();
+        assertThat(received.get(0).hasEventType(ThemeEvent.EventType.FONT_CHANGE)).isTrue();
+        assertThat(received.get(0).getEventTypes())
+            .containsExactly(ThemeEvent.EventType.THEME_CHANGE, ThemeEvent.EventType.FONT_CHANGE);
+    }
+
+    @Test
+    public void testWeakSubscriberIsRemovedWithOwner() throws InterruptedException {
+        var bus = new DefaultEventBus(Runnable::run);
+        var received = new ArrayList<Object>();
+
+        Object owner = new Object();
+        bus.subscribeWeak(owner, ThemeEvent.class, Delivery.SYNC, (o, e) -> received.add(o));
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).containsExactly(owner);
+
+        received.clear();
+        var ref = new WeakReference<>(owner);
+        //noinspection UnusedAssignment
+        owner = null;
+        for (int i = 0; i < 10 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertThat(ref.get()).isNull();
+
+        bus.publish(new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE));
+        assertThat(received).isEmpty();
+    }
+}
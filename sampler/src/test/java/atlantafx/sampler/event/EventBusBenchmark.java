@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Measures {@link DefaultEventBus#publish(Event)} throughput with many event types
+ * and subscribers, as well as the subscription cost. It's not a unit test, run it
+ * manually from the IDE or with the test classpath.
+ *
+ * <pre>{@code
+ * java -cp <test classpath> atlantafx.sampler.event.EventBusBenchmark [types] [subscribers per type]
+ * }</pre>
+ */
+public class EventBusBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+    private static final int EVENTS_PER_ROUND = 1_000_000;
+
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+        E0.class, E1.class, E2.class, E3.class, E4.class, E5.class, E6.class, E7.class, E8.class, E9.class,
+        ThemeEvent.class, PageEvent.class, NavEvent.class, BrowseEvent.class, HotkeyEvent.class
+    );
+
+    private static final List<Event> EVENT_INSTANCES = List.of(
+        new E0(), new E1(), new E2(), new E3(), new E4(), new E5(), new E6(), new E7(), new E8(), new E9(),
+        new ThemeEvent(ThemeEvent.EventType.COLOR_CHANGE),
+        new PageEvent(PageEvent.Action.SOURCE_CODE_ON),
+        new NavEvent(null),
+        new BrowseEvent(null),
+        new HotkeyEvent(null)
+    );
+
+    // the sink prevents JIT from eliminating subscribers as dead code
+    private static long sink;
+
+    public static void main(String[] args) {
+        int types = args.length > 0 ? Integer.parseInt(args[0]) : EVENT_TYPES.size();
+        int subscribersPerType = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        if (types > EVENT_TYPES.size()) {
+            throw new IllegalArgumentException("Max number of event types is " + EVENT_TYPES.size());
+        }
+
+        var bus = new DefaultEventBus();
+        long start = System.nanoTime();
+        for (int i = 0; i < types; i++) {
+            for (int j = 0; j < subscribersPerType; j++) {
+                int n = j;
+                bus.subscribe(EVENT_TYPES.get(i), (Consumer<Event>) e -> sink += n);
+            }
+        }
+        // super class subscribers receive all events
+        bus.subscribe(Event.class, e -> sink++);
+        long subscribeTime = System.nanoTime() - start;
+
+        var events = new ArrayList<Event>();
+        for (int i = 0; i < types; i++) {
+            events.add(EVENT_INSTANCES.get(i));
+        }
+
+        double[] results = new double[ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            start = System.nanoTime();
+            for (int i = 0; i < EVENTS_PER_ROUND; i++) {
+                bus.publish(events.get(i % events.size()));
+            }
+            long time = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                results[round - WARMUP_ROUNDS] = (double) time / EVENTS_PER_ROUND;
+            }
+        }
+        Arrays.sort(results);
+
+        System.out.printf(Locale.ROOT, "Event types: %d, subscribers per type: %d%n", types, subscribersPerType);
+        System.out.printf(Locale.ROOT, "Subscribe:   %.2f us per subscriber%n",
+            subscribeTime / 1_000.0 / (types * subscribersPerType + 1)
+        );
+        System.out.printf(Locale.ROOT, "Publish:     %.1f ns per event (median), %.1f ns (best)%n",
+            results[ROUNDS / 2], results[0]
+        );
+        System.out.println("Sink: " + sink);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static final class E0 extends Event { }
+
+    private static final class E1 extends Event { }
+
+    private static final class E2 extends Event { }
+
+    private static final class E3 extends Event { }
+
+    private static final class E4 extends Event { }
+
+    private static final class E5 extends Event { }
+
+    private static final class E6 extends Event { }
+
+    private static final class E7 extends Event { }
+
+    private static final class E8 extends Event { }
+
+    private static final class E9 extends Event { }
+}
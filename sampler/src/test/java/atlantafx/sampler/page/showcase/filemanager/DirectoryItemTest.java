@@ -0,0 +1,186 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.page.showcase.filemanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DirectoryItemTest {
+
+    private static final int TIMEOUT_SECONDS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    private LinkedBlockingQueue<Runnable> fxQueue;
+    private TaskScope tasks;
+
+    @BeforeEach
+    public void setUp() {
+        fxQueue = new LinkedBlockingQueue<>();
+        tasks = new BackgroundScheduler(fxQueue::add).createScope();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tasks.cancelAll();
+    }
+
+    @Test
+    public void testChildAddedWithinSameModificationTimeIsListed() throws IOException {
+        Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        Files.createDirectory(dir.resolve("foo"));
+
+        var first = DirectoryItem.list(dir, null);
+        assertThat(first.entries()).extracting(FileEntry::name).containsExactly("foo");
+
+        // the modification time is the same, as if the child was added within the same tick
+        FileTime modified = Files.getLastModifiedTime(dir);
+        Files.createDirectory(dir.resolve("bar"));
+        Files.setLastModifiedTime(dir, modified);
+
+        var second = DirectoryItem.list(dir, first);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.entries()).extracting(FileEntry::name).containsExactly("bar", "foo");
+        assertThat(DirectoryItem.getCached(dir)).isSameAs(second);
+    }
+
+    @Test
+    public void testSettledListingIsReused() throws IOException {
+        Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        Files.createDirectory(dir.resolve("foo"));
+        Files.setLastModifiedTime(dir, FileTime.from(Instant.now().minusSeconds(60)));
+
+        var first = DirectoryItem.list(dir, null);
+        assertThat(DirectoryItem.list(dir, first)).isSameAs(first);
+
+        // any later change updates the modification time
+        Files.createDirectory(dir.resolve("bar"));
+        Files.setLastModifiedTime(dir, FileTime.from(Instant.now()));
+        assertThat(DirectoryItem.list(dir, first).entries()).hasSize(2);
+    }
+
+    @Test
+    public void testIsLeafIsUnknownUntilLoaded() throws Exception {
+        Path empty = Files.createDirectory(tempDir.resolve("empty"));
+        Path parent = Files.createDirectory(tempDir.resolve("parent"));
+        Files.createDirectory(parent.resolve("child"));
+
+        var emptyItem = new DirectoryItem(FileEntry.read(empty), tasks);
+        var parentItem = new DirectoryItem(FileEntry.read(parent), tasks);
+        assertThat(emptyItem.isLeaf()).isFalse();
+        assertThat(parentItem.isLeaf()).isFalse();
+
+        emptyItem.setExpanded(true);
+        // the placeholder is shown until the listing is delivered
+        assertThat(emptyItem.isLeaf()).isFalse();
+        deliver(emptyItem);
+        assertThat(emptyItem.isLeaf()).isTrue();
+
+        parentItem.setExpanded(true);
+        assertThat(parentItem.isLeaf()).isFalse();
+        deliver(parentItem);
+        assertThat(parentItem.isLeaf()).isFalse();
+        assertThat(parentItem.getChildren()).extracting(c -> c.getValue().name()).containsExactly("child");
+        // children aren't loaded until expanded
+        assertThat(parentItem.getChildren().get(0).isLeaf()).isFalse();
+    }
+
+    @Test
+    public void testPlaceholderIsReplacedAfterCompletion() throws Exception {
+        Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        Files.createDirectory(dir.resolve("foo"));
+
+        var item = new DirectoryItem(FileEntry.read(dir), tasks);
+        item.setExpanded(true);
+        assertThat(item.getChildren()).singleElement().extracting(TreeItem::getValue).isNull();
+
+        deliver(item);
+        assertThat(item.getChildren()).extracting(c -> c.getValue().name()).containsExactly("foo");
+    }
+
+    @Test
+    public void testPlaceholderIsReplacedAfterCancellation() throws Exception {
+        Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        Files.createDirectory(dir.resolve("foo"));
+
+        // occupy all IO threads, so that the listing can't start before it's cancelled
+        var blockingScheduler = new BackgroundScheduler(fxQueue::add);
+        var blockingTasks = blockingScheduler.createScope();
+        var release = new CountDownLatch(1);
+        var item = new DirectoryItem(FileEntry.read(dir), blockingTasks);
+        try {
+            for (int i = 0; i < BackgroundScheduler.Category.IO.getConcurrency(); i++) {
+                blockingTasks.execute(BackgroundScheduler.Category.IO, () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            item.setExpanded(true);
+            Future<?> loading = item.getLoading();
+            assertThat(loading).isNotNull();
+            loading.cancel(true);
+            release.countDown();
+
+            // cancelled task callbacks are never called, the placeholder stays
+            assertThat(fxQueue.poll(100, TimeUnit.MILLISECONDS)).isNull();
+            assertThat(item.getChildren()).singleElement().extracting(TreeItem::getValue).isNull();
+            assertThat(item.isLeaf()).isFalse();
+
+            // the next expansion lists the directory again
+            item.setExpanded(false);
+            item.setExpanded(true);
+            assertThat(item.getLoading()).isNotSameAs(loading);
+            deliver(item);
+            assertThat(item.getChildren()).extracting(c -> c.getValue().name()).containsExactly("foo");
+        } finally {
+            release.countDown();
+            blockingTasks.cancelAll();
+        }
+    }
+
+    @Test
+    public void testCachedListingIsShownImmediately() throws Exception {
+        Path dir = Files.createDirectory(tempDir.resolve("dir"));
+        Files.createDirectory(dir.resolve("foo"));
+        DirectoryItem.list(dir, null);
+
+        var item = new DirectoryItem(FileEntry.read(dir), tasks);
+        item.setExpanded(true);
+        assertThat(item.getChildren()).extracting(c -> c.getValue().name()).containsExactly("foo");
+        assertThat(item.isLeaf()).isFalse();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    // waits for the listing and runs its callback as if on the FX thread
+    private void deliver(DirectoryItem item) throws Exception {
+        Future<?> loading = item.getLoading();
+        assertThat(loading).isNotNull();
+        loading.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Runnable callback = fxQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(callback).isNotNull();
+        callback.run();
+    }
+}
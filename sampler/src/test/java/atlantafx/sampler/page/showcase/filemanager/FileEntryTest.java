@@ -0,0 +1,53 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.page.showcase.filemanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileEntryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFileMetadata() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("foo.txt"), "foobar");
+
+        var entry = FileEntry.read(file);
+        assertThat(entry.name()).isEqualTo("foo.txt");
+        assertThat(entry.directory()).isFalse();
+        assertThat(entry.size()).isEqualTo(6);
+        assertThat(entry.modified()).isEqualTo(Files.getLastModifiedTime(file));
+        assertThat(entry.childCount()).isEqualTo(FileEntry.COUNT_UNKNOWN);
+    }
+
+    @Test
+    public void testDirectoryChildrenAreCountedSeparately() throws Exception {
+        Path dir = Files.createDirectory(tempDir.resolve("foo"));
+        Files.createFile(dir.resolve("bar"));
+        Files.createDirectory(dir.resolve("baz"));
+
+        var entry = FileEntry.read(dir);
+        assertThat(entry.directory()).isTrue();
+        assertThat(entry.childCount()).isEqualTo(FileEntry.COUNT_PENDING);
+
+        var counted = entry.withChildCount(FileEntry.countChildren(dir));
+        assertThat(counted.childCount()).isEqualTo(2);
+        assertThat(counted.name()).isEqualTo(entry.name());
+    }
+
+    @Test
+    public void testMissingFile() {
+        Path file = tempDir.resolve("missing");
+
+        var entry = FileEntry.read(file);
+        assertThat(entry.directory()).isFalse();
+        assertThat(entry.modified()).isNull();
+        assertThat(FileEntry.countChildren(file)).isEqualTo(FileEntry.COUNT_UNKNOWN);
+    }
+}
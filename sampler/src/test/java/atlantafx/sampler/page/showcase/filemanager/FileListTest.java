@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.page.showcase.filemanager;
+
+import static atlantafx.sampler.page.showcase.filemanager.FileList.MAX_BATCH_SIZE;
+import static atlantafx.sampler.page.showcase.filemanager.FileList.MIN_BATCH_SIZE;
+import static atlantafx.sampler.page.showcase.filemanager.FileList.PULSE_BUDGET_NANOS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.sampler.util.BackgroundScheduler;
+import atlantafx.sampler.util.BackgroundScheduler.TaskScope;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileListTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    @TempDir
+    Path tempDir;
+
+    private TaskScope tasks;
+    private List<ManualTimer> timers;
+    private FileList fileList;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = BackgroundScheduler.getInstance().createScope();
+        timers = new ArrayList<>();
+        fileList = new FileList(tasks, handler -> {
+            var timer = new ManualTimer(handler);
+            timers.add(timer);
+            return timer;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tasks.cancelAll();
+    }
+
+    @Test
+    public void testBatchSizeGrowsUpToMaximum() {
+        long fast = PULSE_BUDGET_NANOS / 2 - 1;
+        assertThat(FileList.adjustBatchSize(MIN_BATCH_SIZE, MIN_BATCH_SIZE, fast)).isEqualTo(MIN_BATCH_SIZE * 2);
+        assertThat(FileList.adjustBatchSize(MAX_BATCH_SIZE / 2, MAX_BATCH_SIZE / 2, fast)).isEqualTo(MAX_BATCH_SIZE);
+        assertThat(FileList.adjustBatchSize(MAX_BATCH_SIZE, MAX_BATCH_SIZE, fast)).isEqualTo(MAX_BATCH_SIZE);
+
+        // the batch wasn't full, so there's no evidence that the larger one would fit
+        assertThat(FileList.adjustBatchSize(MIN_BATCH_SIZE, MIN_BATCH_SIZE - 1, fast)).isEqualTo(MIN_BATCH_SIZE);
+        // more than a half of the budget is used
+        assertThat(FileList.adjustBatchSize(MIN_BATCH_SIZE, MIN_BATCH_SIZE, PULSE_BUDGET_NANOS / 2))
+            .isEqualTo(MIN_BATCH_SIZE);
+    }
+
+    @Test
+    public void testBatchSizeShrinksDownToMinimum() {
+        long slow = PULSE_BUDGET_NANOS + 1;
+        assertThat(FileList.adjustBatchSize(MAX_BATCH_SIZE, MAX_BATCH_SIZE, slow)).isEqualTo(MAX_BATCH_SIZE / 2);
+        assertThat(FileList.adjustBatchSize(MIN_BATCH_SIZE * 2, 1, slow)).isEqualTo(MIN_BATCH_SIZE);
+        assertThat(FileList.adjustBatchSize(MIN_BATCH_SIZE, MIN_BATCH_SIZE, slow)).isEqualTo(MIN_BATCH_SIZE);
+
+        // exactly within the budget
+        assertThat(FileList.adjustBatchSize(MAX_BATCH_SIZE, MAX_BATCH_SIZE, PULSE_BUDGET_NANOS))
+            .isEqualTo(MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void testLoadingIsResetAfterCompletion() throws IOException {
+        Path dir = createDirectory("dir", MIN_BATCH_SIZE * 3);
+        Files.createFile(dir.resolve("sub").resolve("child"));
+
+        fileList.load(dir);
+        assertThat(fileList.loadingProperty().get()).isTrue();
+        assertThat(timers).hasSize(1);
+        assertThat(timers.get(0).running).isTrue();
+
+        pulseUntilLoaded();
+        assertThat(timers.get(0).running).isFalse();
+        assertThat(fileList.getEntries()).hasSize(MIN_BATCH_SIZE * 3 + 1);
+        // the directory entry is replaced by the second pass
+        assertThat(fileList.getEntries())
+            .filteredOn(FileEntry::directory)
+            .singleElement()
+            .extracting(FileEntry::childCount)
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testLoadingIsResetAfterCancellation() throws IOException {
+        Path dir = createDirectory("dir", MIN_BATCH_SIZE * 3);
+
+        fileList.load(dir);
+        // e.g. the page was reset, the listing must not hang in the loading state
+        tasks.cancelAll();
+
+        pulseUntilLoaded();
+        assertThat(timers.get(0).running).isFalse();
+        assertThat(fileList.getEntries().size()).isLessThanOrEqualTo(MIN_BATCH_SIZE * 3 + 1);
+    }
+
+    @Test
+    public void testLoadCancelsPreviousListing() throws IOException {
+        Path first = createDirectory("first", MIN_BATCH_SIZE * 10);
+        Path second = createDirectory("second", 3);
+
+        fileList.load(first);
+        timers.get(0).pulse();
+        fileList.load(second);
+
+        assertThat(timers).hasSize(2);
+        assertThat(timers.get(0).running).isFalse();
+        assertThat(fileList.loadingProperty().get()).isTrue();
+
+        pulseUntilLoaded();
+        assertThat(fileList.getEntries())
+            .extracting(entry -> entry.path().getParent())
+            .containsOnly(second)
+            .hasSize(3 + 1);
+    }
+
+    @Test
+    public void testClearCancelsListing() throws IOException {
+        fileList.load(createDirectory("dir", 3));
+        fileList.clear();
+
+        assertThat(fileList.loadingProperty().get()).isFalse();
+        assertThat(timers.get(0).running).isFalse();
+        assertThat(fileList.getEntries()).isEmpty();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private Path createDirectory(String name, int fileCount) throws IOException {
+        Path dir = Files.createDirectory(tempDir.resolve(name));
+        for (int i = 0; i < fileCount; i++) {
+            Files.createFile(dir.resolve("file" + i));
+        }
+        Files.createDirectory(dir.resolve("sub"));
+        return dir;
+    }
+
+    // emulates the pulses until the current listing is done
+    private void pulseUntilLoaded() {
+        var timer = timers.get(timers.size() - 1);
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (fileList.loadingProperty().get()) {
+            assertThat(System.nanoTime()).as("listing timed out").isLessThan(deadline);
+            assertThat(timer.running).isTrue();
+            timer.pulse();
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class ManualTimer implements FileList.PulseTimer {
+
+        private final Runnable handler;
+        private boolean running;
+
+        public ManualTimer(Runnable handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void start() {
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+
+        public void pulse() {
+            if (running) {
+                handler.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.theme;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ThemeColorScannerTest {
+
+    @Test
+    public void testFormattedStylesheet() {
+        var colors = ThemeColorScanner.scan("""
+            /* -color-fg-comment: #000000; */
+            .root {
+              -color-fg-default: #c9d1d9;
+              -color-bg-default:   #0d1117 ;
+              -color-accent-emphasis: derive(#1f6feb, 10%);
+              -fx-font-size: 14px;
+            }
+            .button {
+              -color-button-bg: #ffffff;
+            }
+            """
+        );
+
+        assertThat(colors).containsExactly(
+            Map.entry("-color-fg-default", "#c9d1d9"),
+            Map.entry("-color-bg-default", "#0d1117"),
+            Map.entry("-color-accent-emphasis", "derive(#1f6feb, 10%)")
+        );
+    }
+
+    @Test
+    public void testMinifiedStylesheet() {
+        var colors = ThemeColorScanner.scan(
+            ".button:hover{-color-x:red}.root,.popup{-color-fg-default:#fff;-color-bg-default:#000}"
+                + "@media print{.root{-color-fg-default:#111}}.root:focused{-color-bg-default:#222}"
+        );
+
+        assertThat(colors).containsExactly(
+            Map.entry("-color-fg-default", "#111"),
+            Map.entry("-color-bg-default", "#000")
+        );
+    }
+
+    @Test
+    public void testStringsAreNotTokenized() {
+        var colors = ThemeColorScanner.scan("""
+            .root { -fx-font-family: "a;b{c}"; -color-fg-default: #fff; }
+            """
+        );
+
+        assertThat(colors).containsExactly(Map.entry("-color-fg-default", "#fff"));
+    }
+
+    @Test
+    public void testStreamedStylesheet() throws IOException {
+        // make comments, strings and declarations cross the reader buffer boundaries
+        var css = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            css.append("/* .root { -color-comment: #000; } */ .label { -fx-font-family: \"a;b\"; }\n");
+            css.append(".root { -color-fg-").append(i).append(": #").append(i).append("; }\n");
+        }
+
+        var colors = ThemeColorScanner.scan(new ByteArrayInputStream(css.toString().getBytes(UTF_8)));
+        assertThat(colors).hasSize(2000).doesNotContainKey("-color-comment");
+        assertThat(colors).containsEntry("-color-fg-0", "#0").containsEntry("-color-fg-1999", "#1999");
+    }
+
+    @Test
+    public void testUnterminatedComment() {
+        var colors = ThemeColorScanner.scan(".root { -color-fg-default: #fff; } /* .root { -color-fg-default: #000; }");
+        assertThat(colors).containsExactly(Map.entry("-color-fg-default", "#fff"));
+    }
+}
@@ -0,0 +1,75 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+public class ThemeCrossfadeTest {
+
+    @Test
+    public void testSceneSizeLimit() {
+        assertThat(ThemeCrossfade.canAnimate(1280, 720)).isTrue();
+        assertThat(ThemeCrossfade.canAnimate(3840, 2160)).isTrue();
+        assertThat(ThemeCrossfade.canAnimate(3841, 2160)).isFalse();
+        assertThat(ThemeCrossfade.canAnimate(3840, 2161)).isFalse();
+        assertThat(ThemeCrossfade.canAnimate(0, 720)).isFalse();
+        assertThat(ThemeCrossfade.canAnimate(1280, -1)).isFalse();
+    }
+
+    @Test
+    public void testSnapshotPixelBudget() {
+        // exactly at the budget, no downscale
+        assertThat(ThemeCrossfade.computeScale(1280, 720)).isEqualTo(1.0);
+        assertThat(ThemeCrossfade.computeScale(640, 480)).isEqualTo(1.0);
+
+        // one pixel over the budget
+        assertThat(ThemeCrossfade.computeScale(1281, 720)).isLessThan(1.0);
+
+        // the downscaled snapshot fits the budget
+        double scale = ThemeCrossfade.computeScale(3840, 2160);
+        assertThat(scale).isCloseTo(1.0 / 3, within(1e-9));
+        assertThat(ThemeCrossfade.toImageSize(3840 * scale) * ThemeCrossfade.toImageSize(2160 * scale))
+            .isLessThanOrEqualTo((int) ThemeCrossfade.SNAPSHOT_PIXEL_BUDGET);
+
+        scale = ThemeCrossfade.computeScale(2560, 1600);
+        assertThat(2560 * scale * 1600 * scale).isCloseTo(ThemeCrossfade.SNAPSHOT_PIXEL_BUDGET, within(1e-3));
+    }
+
+    @Test
+    public void testImageSize() {
+        assertThat(ThemeCrossfade.toImageSize(426.66)).isEqualTo(427);
+        assertThat(ThemeCrossfade.toImageSize(427)).isEqualTo(427);
+
+        assertThat(ThemeCrossfade.isSameSize(427, 240, 427, 240)).isTrue();
+        assertThat(ThemeCrossfade.isSameSize(427, 240, 428, 240)).isFalse();
+        assertThat(ThemeCrossfade.isSameSize(427, 240, 427, 241)).isFalse();
+    }
+
+    @Test
+    public void testSlowChangeDetection() {
+        assertThat(ThemeCrossfade.isSlow(ThemeCrossfade.SLOW_SNAPSHOT_NANOS, ThemeCrossfade.SLOW_FRAME_NANOS))
+            .isFalse();
+        assertThat(ThemeCrossfade.isSlow(ThemeCrossfade.SLOW_SNAPSHOT_NANOS + 1, 0)).isTrue();
+        assertThat(ThemeCrossfade.isSlow(0, ThemeCrossfade.SLOW_FRAME_NANOS + 1)).isTrue();
+    }
+
+    @Test
+    public void testBackOffAfterSlowChange() {
+        var crossfade = new ThemeCrossfade();
+        assertThat(crossfade.skipNext()).isFalse();
+
+        crossfade.recordPerformance(ThemeCrossfade.SLOW_SNAPSHOT_NANOS + 1, 0);
+        for (int i = 0; i < ThemeCrossfade.SKIP_AFTER_SLOW; i++) {
+            assertThat(crossfade.skipNext()).isTrue();
+        }
+        assertThat(crossfade.skipNext()).isFalse();
+
+        // fast changes don't reset the back-off
+        crossfade.recordPerformance(0, ThemeCrossfade.SLOW_FRAME_NANOS + 1);
+        crossfade.recordPerformance(0, 0);
+        assertThat(crossfade.skipNext()).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.base.theme.Theme;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThemeWatcherTest {
+
+    private static final long TIMEOUT_MILLIS = ThemeWatcher.DEBOUNCE_MILLIS * 20;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testChangesAreDebounced() throws Exception {
+        Path file = tempDir.resolve("foo-light.css");
+        Files.writeString(file, ".root { -color-fg-default: #000; }");
+
+        var theme = new SamplerTheme(Theme.of("Foo Light", file.toString(), false));
+        var changes = new LinkedBlockingQueue<SamplerTheme>();
+
+        try (var watcher = new ThemeWatcher(changes::add, Runnable::run)) {
+            watcher.watch(theme);
+            // give the watcher time to read the initial content hash
+            Thread.sleep(ThemeWatcher.DEBOUNCE_MILLIS);
+
+            // unchanged content must not trigger a notification
+            Files.writeString(file, ".root { -color-fg-default: #000; }");
+            assertThat(changes.poll(ThemeWatcher.DEBOUNCE_MILLIS * 4, TimeUnit.MILLISECONDS)).isNull();
+
+            Files.writeString(file, ".root { -color-fg-default: #111; }");
+            Files.writeString(file, ".root { -color-fg-default: #222; }");
+            assertThat(changes.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isSameAs(theme);
+            assertThat(changes.poll(ThemeWatcher.DEBOUNCE_MILLIS * 4, TimeUnit.MILLISECONDS)).isNull();
+
+            // colors must be re-parsed before notification
+            assertThat(theme.parseColors()).containsEntry("-color-fg-default", "#222");
+
+            watcher.unwatch(theme);
+            Files.writeString(file, ".root { -color-fg-default: #333; }");
+            assertThat(changes.poll(ThemeWatcher.DEBOUNCE_MILLIS * 4, TimeUnit.MILLISECONDS)).isNull();
+        }
+    }
+
+    @Test
+    public void testColorsAreReparsedIfModificationTimeIsPreserved() throws Exception {
+        Path file = tempDir.resolve("foo-dark.css");
+        Files.writeString(file, ".root { -color-fg-default: #000; }");
+        FileTime modified = Files.getLastModifiedTime(file);
+
+        var theme = new SamplerTheme(Theme.of("Foo Dark", file.toString(), true));
+        assertThat(theme.parseColors()).containsEntry("-color-fg-default", "#000");
+        var changes = new LinkedBlockingQueue<SamplerTheme>();
+
+        try (var watcher = new ThemeWatcher(changes::add, Runnable::run)) {
+            watcher.watch(theme);
+            Thread.sleep(ThemeWatcher.DEBOUNCE_MILLIS);
+
+            // e.g. "cp -p" or coarse file system time resolution
+            Files.writeString(file, ".root { -color-fg-default: #111; }");
+            Files.setLastModifiedTime(file, modified);
+
+            assertThat(changes.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isSameAs(theme);
+            assertThat(theme.parseColors()).containsEntry("-color-fg-default", "#111");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/* SPDX-License-Identifier: MIT */
+
+package atlantafx.sampler.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import atlantafx.sampler.util.BackgroundScheduler.Category;
+import atlantafx.sampler.util.BackgroundScheduler.Metrics;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class BackgroundSchedulerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    public void testResultIsDeliveredToFxExecutor() throws Exception {
+        var fxQueue = new LinkedBlockingQueue<Runnable>();
+        var scheduler = new BackgroundScheduler(fxQueue::add);
+        var result = new LinkedBlockingQueue<Object>();
+
+        scheduler.submit(Category.IO, () -> "foo", result::add, result::add);
+        scheduler.submit(Category.COMPUTE, () -> {
+            throw new IllegalStateException("bar");
+        }, result::add, result::add);
+
+        // callbacks must not be called until the FX executor runs them
+        fxQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        fxQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        assertThat(result).hasSize(2);
+        assertThat(result).anySatisfy(r -> assertThat(r).isEqualTo("foo"));
+        assertThat(result).anySatisfy(r -> assertThat(r).isInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void testConcurrencyIsBoundedPerCategory() throws Exception {
+        var scheduler = new BackgroundScheduler(Runnable::run);
+        var release = new CountDownLatch(1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        int taskCount = Category.SYSTEM.getConcurrency() * 3;
+        var finished = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            scheduler.execute(Category.SYSTEM, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // stop
+                }
+                running.decrementAndGet();
+                finished.countDown();
+            });
+        }
+
+        Thread.sleep(100);
+        Metrics metrics = find(scheduler, Category.SYSTEM);
+        assertThat(metrics.active()).isEqualTo(Category.SYSTEM.getConcurrency());
+        assertThat(metrics.queued()).isEqualTo(taskCount - Category.SYSTEM.getConcurrency());
+
+        release.countDown();
+        assertThat(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(Category.SYSTEM.getConcurrency());
+    }
+
+    @Test
+    public void testScopeCancellation() throws Exception {
+        var fxQueue = new LinkedBlockingQueue<Runnable>();
+        var scheduler = new BackgroundScheduler(fxQueue::add);
+        var scope = scheduler.createScope();
+        var started = new CountDownLatch(1);
+        var delivered = new AtomicInteger();
+
+        var future = scope.submit(Category.IO, () -> {
+            started.countDown();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            return "foo";
+        }, r -> delivered.incrementAndGet(), e -> delivered.incrementAndGet());
+
+        assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        scope.cancelAll();
+
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(fxQueue.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(delivered.get()).isZero();
+    }
+
+    @Test
+    public void testCancellationInterruptsRunningTask() throws Exception {
+        var scheduler = new BackgroundScheduler(Runnable::run);
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+
+        var future = scheduler.execute(Category.IO, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        assertThat(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        future.cancel(true);
+        assertThat(interrupted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Metrics find(BackgroundScheduler scheduler, Category category) {
+        return scheduler.getMetrics().stream()
+            .filter(m -> m.category() == category)
+            .findFirst()
+            .orElseThrow();
+    }
+}